@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark.boot.models;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.Nationalized;
+import org.hibernate.boot.models.source.internal.AnnotationHelper;
+import org.hibernate.boot.models.source.internal.StandardModelTypes;
+import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
+
+/**
+ * Compares extracting the attribute values of JPA and Hibernate annotation usages through the
+ * {@linkplain AnnotationAttributeDescriptor#extractValue attribute descriptors} (a {@code MethodHandle}
+ * resolved once per annotation type) with the previous per-value reflective look-up
+ * ({@link AnnotationHelper#extractRawAttributeValue}).
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class AnnotationValueExtractionBenchmarks {
+	private List<Usage> usages;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		usages = new ArrayList<>();
+		collectUsages( SampleEntity.class.getAnnotations(), usages );
+		for ( Field field : SampleEntity.class.getDeclaredFields() ) {
+			collectUsages( field.getAnnotations(), usages );
+		}
+	}
+
+	private static void collectUsages(Annotation[] annotations, List<Usage> usages) {
+		for ( Annotation annotation : annotations ) {
+			final AnnotationDescriptor<? extends Annotation> descriptor = StandardModelTypes.singleton()
+					.findOrmDescriptor( annotation.annotationType() );
+			if ( descriptor != null ) {
+				usages.add( new Usage( annotation, descriptor.getAttributes() ) );
+			}
+		}
+	}
+
+	@Benchmark
+	public void attributeDescriptors(Blackhole blackhole) {
+		for ( int i = 0; i < usages.size(); i++ ) {
+			final Usage usage = usages.get( i );
+			for ( int a = 0; a < usage.attributes.size(); a++ ) {
+				//noinspection rawtypes,unchecked
+				blackhole.consume( ( (AnnotationAttributeDescriptor) usage.attributes.get( a ) ).extractValue( usage.annotation ) );
+			}
+		}
+	}
+
+	@Benchmark
+	public void reflectiveLookup(Blackhole blackhole) {
+		for ( int i = 0; i < usages.size(); i++ ) {
+			final Usage usage = usages.get( i );
+			for ( int a = 0; a < usage.attributes.size(); a++ ) {
+				final String attributeName = usage.attributes.get( a ).getAttributeName();
+				blackhole.consume( (Object) AnnotationHelper.extractRawAttributeValue( usage.annotation, attributeName ) );
+			}
+		}
+	}
+
+	private static class Usage {
+		private final Annotation annotation;
+		private final List<? extends AnnotationAttributeDescriptor<?,?,?>> attributes;
+
+		private Usage(Annotation annotation, List<? extends AnnotationAttributeDescriptor<?,?,?>> attributes) {
+			this.annotation = annotation;
+			this.attributes = attributes;
+		}
+	}
+
+	@Entity( name = "Sample" )
+	@Table( name = "samples", schema = "benchmarks" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE, region = "samples" )
+	@DynamicUpdate
+	@BatchSize( size = 20 )
+	@NamedQuery( name = "Sample.byName", query = "from Sample where name = :name" )
+	@SequenceGenerator( name = "sample_seq", sequenceName = "sample_seq", allocationSize = 50 )
+	public static class SampleEntity {
+		@Id
+		@GeneratedValue( strategy = GenerationType.SEQUENCE, generator = "sample_seq" )
+		private Integer id;
+
+		@Version
+		private Integer version;
+
+		@Basic( optional = false )
+		@Column( name = "sample_name", length = 128, nullable = false, unique = true )
+		@Nationalized
+		private String name;
+
+		@Enumerated( EnumType.STRING )
+		@Column( name = "sample_status", length = 16 )
+		private String status;
+
+		@Lob
+		@Basic( fetch = FetchType.LAZY )
+		private String description;
+
+		@Temporal( TemporalType.TIMESTAMP )
+		@Column( name = "created_ts", updatable = false )
+		private java.util.Date created;
+
+		@Convert( disableConversion = true )
+		private String converted;
+
+		@Formula( "upper(sample_name)" )
+		private String upperName;
+
+		@ManyToOne( fetch = FetchType.LAZY, optional = false )
+		@JoinColumn( name = "parent_fk", referencedColumnName = "id", nullable = false )
+		private SampleEntity parent;
+
+		@OneToMany( mappedBy = "parent", orphanRemoval = true )
+		private List<SampleEntity> children;
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark.boot.models;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.models.bind.internal.TypeBinder;
+import org.hibernate.boot.models.intermediate.internal.EntityHierarchyBuilder;
+import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
+import org.hibernate.boot.models.jaxb.internal.XmlMappingProcessor;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.registry.BootstrapServiceRegistry;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the individual stages of processing managed resources into the boot model,
+ * run against a {@linkplain SyntheticModelGenerator synthetic model}.
+ * <p/>
+ * Each benchmark measures just its stage - the preceding stages are performed in
+ * per-invocation setup.
+ *
+ * @author Steve Ebersole
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+@Fork( 1 )
+public class BootModelBenchmarks {
+	@Param( { "100", "1000", "10000" } )
+	public int numberOfEntities;
+
+	private SyntheticModel model;
+	private StandardServiceRegistry serviceRegistry;
+	private ManagedResourcesImpl xmlResources;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		model = SyntheticModelGenerator.generate( numberOfEntities );
+
+		final BootstrapServiceRegistry bootstrapServiceRegistry = new BootstrapServiceRegistryBuilder()
+				.applyClassLoader( model.getClassLoader() )
+				.build();
+		serviceRegistry = new StandardServiceRegistryBuilder( bootstrapServiceRegistry )
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( "hibernate.temp.use_jdbc_metadata_defaults", false )
+				.build();
+
+		// binding the XML (JAXB) is not part of what we measure
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( serviceRegistry );
+		xmlResources = new ManagedResourcesImpl();
+		for ( String xmlMapping : model.getXmlMappings() ) {
+			xmlResources.addXmlBinding( xmlMappingBinderAccess.bind(
+					new ByteArrayInputStream( xmlMapping.getBytes( StandardCharsets.UTF_8 ) )
+			) );
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	/**
+	 * A fresh building context
+	 */
+	@State( Scope.Thread )
+	public static class BuildingContextState {
+		MetadataBuildingContextTestingImpl buildingContext;
+
+		@Setup( Level.Invocation )
+		public void setUp(BootModelBenchmarks benchmarks) {
+			buildingContext = new MetadataBuildingContextTestingImpl( benchmarks.serviceRegistry );
+		}
+	}
+
+	/**
+	 * A fresh processing context, with nothing resolved
+	 */
+	@State( Scope.Thread )
+	public static class ProcessingContextState {
+		ModelProcessingContextImpl processingContext;
+
+		@Setup( Level.Invocation )
+		public void setUp(BootModelBenchmarks benchmarks) {
+			processingContext = new ModelProcessingContextImpl(
+					new MetadataBuildingContextTestingImpl( benchmarks.serviceRegistry )
+			);
+		}
+	}
+
+	/**
+	 * A processing context with the ClassDetails for all managed classes resolved
+	 */
+	@State( Scope.Thread )
+	public static class ResolvedModelState {
+		ModelProcessingContextImpl processingContext;
+
+		@Setup( Level.Invocation )
+		public void setUp(BootModelBenchmarks benchmarks) {
+			processingContext = new ModelProcessingContextImpl(
+					new MetadataBuildingContextTestingImpl( benchmarks.serviceRegistry )
+			);
+			final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+			benchmarks.model.getManagedClassNames().forEach( classDetailsRegistry::resolveClassDetails );
+		}
+	}
+
+	/**
+	 * A processing context with the entity hierarchies built
+	 */
+	@State( Scope.Thread )
+	public static class HierarchyState {
+		Set<EntityHierarchy> entityHierarchies;
+
+		@Setup( Level.Invocation )
+		public void setUp(BootModelBenchmarks benchmarks) {
+			final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl(
+					new MetadataBuildingContextTestingImpl( benchmarks.serviceRegistry )
+			);
+			final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+			benchmarks.model.getManagedClassNames().forEach( classDetailsRegistry::resolveClassDetails );
+			entityHierarchies = EntityHierarchyBuilder.createEntityHierarchies( processingContext );
+		}
+	}
+
+	/**
+	 * Creation of the processing context, which primes its registries
+	 */
+	@Benchmark
+	public ModelProcessingContextImpl primeRegistries(BuildingContextState state) {
+		return new ModelProcessingContextImpl( state.buildingContext );
+	}
+
+	@Benchmark
+	public void resolveClassDetails(ProcessingContextState state, Blackhole blackhole) {
+		final ClassDetailsRegistry classDetailsRegistry = state.processingContext.getClassDetailsRegistry();
+		for ( String managedClassName : model.getManagedClassNames() ) {
+			blackhole.consume( classDetailsRegistry.resolveClassDetails( managedClassName ) );
+		}
+	}
+
+	/**
+	 * Building the (lazy) annotation usage maps of the managed classes and their fields
+	 */
+	@Benchmark
+	public void buildUsageMaps(ResolvedModelState state, Blackhole blackhole) {
+		final ClassDetailsRegistry classDetailsRegistry = state.processingContext.getClassDetailsRegistry();
+		for ( String managedClassName : model.getManagedClassNames() ) {
+			final ClassDetails classDetails = classDetailsRegistry.getClassDetails( managedClassName );
+			blackhole.consume( classDetails.getAnnotation( JpaAnnotations.ENTITY ) );
+			classDetails.forEachField( (index, fieldDetails) -> {
+				blackhole.consume( fieldDetails.getAnnotation( JpaAnnotations.COLUMN ) );
+			} );
+		}
+	}
+
+	@Benchmark
+	public Set<EntityHierarchy> createEntityHierarchies(ResolvedModelState state) {
+		return EntityHierarchyBuilder.createEntityHierarchies( state.processingContext );
+	}
+
+	@Benchmark
+	public void buildPersistentClasses(HierarchyState state, Blackhole blackhole) {
+		for ( EntityHierarchy entityHierarchy : state.entityHierarchies ) {
+			blackhole.consume( TypeBinder.buildPersistentClass( entityHierarchy.getRoot() ) );
+		}
+	}
+
+	@Benchmark
+	public void processXmlMappings(ProcessingContextState state) {
+		XmlMappingProcessor.processXmlMappings( xmlResources.getXmlMappingBindings(), state.processingContext );
+	}
+}
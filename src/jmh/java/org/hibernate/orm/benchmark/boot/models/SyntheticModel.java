@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark.boot.models;
+
+import java.util.List;
+
+/**
+ * A generated domain model
+ *
+ * @see SyntheticModelGenerator
+ *
+ * @author Steve Ebersole
+ */
+public class SyntheticModel {
+	private final ClassLoader classLoader;
+	private final List<String> managedClassNames;
+	private final List<String> xmlMappings;
+
+	public SyntheticModel(ClassLoader classLoader, List<String> managedClassNames, List<String> xmlMappings) {
+		this.classLoader = classLoader;
+		this.managedClassNames = managedClassNames;
+		this.xmlMappings = xmlMappings;
+	}
+
+	/**
+	 * ClassLoader which defines the generated classes
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+
+	/**
+	 * The names of the generated entities and mapped-superclasses
+	 */
+	public List<String> getManagedClassNames() {
+		return managedClassNames;
+	}
+
+	/**
+	 * Generated {@code orm.xml} documents, mapping a separate set of (metadata-complete) entities
+	 */
+	public List<String> getXmlMappings() {
+		return xmlMappings;
+	}
+}
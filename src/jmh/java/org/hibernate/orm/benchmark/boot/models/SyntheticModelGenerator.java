@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.benchmark.boot.models;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Comment;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+
+/**
+ * Generates a synthetic domain model of a given size for benchmarking.
+ * <p/>
+ * The shape is deterministic for a given size and loosely modeled on typical
+ * applications -<ul>
+ *     <li>roughly 2 of every 3 entities extend one of a small number of mapped-superclasses (auditing columns, e.g.)</li>
+ *     <li>each entity defines an id plus 3 to 10 basic attributes of mixed types</li>
+ *     <li>every attribute has {@code @Basic} and {@code @Column}; every other one also has {@code @Comment}</li>
+ *     <li>every 4th entity is cacheable</li>
+ * </ul>
+ * A matching set of {@code orm.xml} documents mapping the same number of metadata-complete
+ * entities is generated as well.
+ *
+ * @author Steve Ebersole
+ */
+public class SyntheticModelGenerator {
+	public static final String PACKAGE_NAME = "org.hibernate.orm.benchmark.boot.models.synthetic";
+	public static final String XML_PACKAGE_NAME = PACKAGE_NAME + ".xml";
+
+	private static final int ENTITIES_PER_MAPPED_SUPERCLASS = 20;
+	private static final int ENTITIES_PER_XML_DOCUMENT = 250;
+
+	private static final Class<?>[] ATTRIBUTE_TYPES = new Class<?>[] {
+			String.class,
+			Integer.class,
+			Long.class,
+			Boolean.class,
+			LocalDate.class,
+			Instant.class,
+			BigDecimal.class
+	};
+
+	public static SyntheticModel generate(int numberOfEntities) {
+		final ByteBuddy byteBuddy = new ByteBuddy();
+		final Map<String, byte[]> classFiles = new HashMap<>();
+		final List<String> managedClassNames = new ArrayList<>();
+
+		final int numberOfMappedSuperclasses = Math.max( 1, numberOfEntities / ENTITIES_PER_MAPPED_SUPERCLASS );
+		final List<DynamicType.Unloaded<?>> mappedSuperclasses = new ArrayList<>( numberOfMappedSuperclasses );
+		for ( int i = 0; i < numberOfMappedSuperclasses; i++ ) {
+			final DynamicType.Unloaded<?> mappedSuperclass = generateMappedSuperclass( byteBuddy, i );
+			mappedSuperclasses.add( mappedSuperclass );
+			register( mappedSuperclass, classFiles, managedClassNames );
+		}
+
+		for ( int i = 0; i < numberOfEntities; i++ ) {
+			final DynamicType.Unloaded<?> superType = i % 3 == 0
+					? null
+					: mappedSuperclasses.get( i % numberOfMappedSuperclasses );
+			register( generateEntity( byteBuddy, i, superType ), classFiles, managedClassNames );
+		}
+
+		return new SyntheticModel(
+				new SyntheticClassLoader( classFiles, SyntheticModelGenerator.class.getClassLoader() ),
+				managedClassNames,
+				generateXmlMappings( numberOfEntities )
+		);
+	}
+
+	private static void register(
+			DynamicType.Unloaded<?> type,
+			Map<String, byte[]> classFiles,
+			List<String> managedClassNames) {
+		final String name = type.getTypeDescription().getName();
+		classFiles.put( name, type.getBytes() );
+		managedClassNames.add( name );
+	}
+
+	private static DynamicType.Unloaded<?> generateMappedSuperclass(ByteBuddy byteBuddy, int index) {
+		return byteBuddy.subclass( Object.class )
+				.name( PACKAGE_NAME + ".AuditedBase" + index )
+				.annotateType( AnnotationDescription.Builder.ofType( MappedSuperclass.class ).build() )
+				.defineField( "createdBy", String.class, Visibility.PRIVATE )
+				.annotateField( basic(), column( "created_by", false ) )
+				.defineField( "createdAt", Instant.class, Visibility.PRIVATE )
+				.annotateField( basic(), column( "created_at", false ) )
+				.make();
+	}
+
+	private static DynamicType.Unloaded<?> generateEntity(
+			ByteBuddy byteBuddy,
+			int index,
+			DynamicType.Unloaded<?> superType) {
+		final String entityName = "Entity" + index;
+
+		DynamicType.Builder<?> builder = superType == null
+				? byteBuddy.subclass( Object.class )
+				: byteBuddy.subclass( superType.getTypeDescription() );
+		builder = builder.name( PACKAGE_NAME + "." + entityName )
+				.annotateType(
+						AnnotationDescription.Builder.ofType( Entity.class ).define( "name", entityName ).build(),
+						AnnotationDescription.Builder.ofType( Table.class ).define( "name", "entity_" + index ).build()
+				);
+
+		if ( index % 4 == 0 ) {
+			builder = builder.annotateType(
+					AnnotationDescription.Builder.ofType( Cacheable.class ).build(),
+					AnnotationDescription.Builder.ofType( Cache.class )
+							.define( "usage", CacheConcurrencyStrategy.READ_WRITE )
+							.build()
+			);
+		}
+
+		builder = builder.defineField( "id", Integer.class, Visibility.PRIVATE )
+				.annotateField( AnnotationDescription.Builder.ofType( Id.class ).build(), column( "id", false ) );
+
+		final int numberOfAttributes = numberOfAttributes( index );
+		for ( int i = 0; i < numberOfAttributes; i++ ) {
+			final Class<?> attributeType = ATTRIBUTE_TYPES[ ( index + i ) % ATTRIBUTE_TYPES.length ];
+			builder = builder.defineField( "attribute" + i, attributeType, Visibility.PRIVATE )
+					.annotateField( attributeAnnotations( entityName, i ) );
+		}
+
+		return builder.make();
+	}
+
+	private static int numberOfAttributes(int index) {
+		return 3 + ( index % 8 );
+	}
+
+	private static List<AnnotationDescription> attributeAnnotations(String entityName, int index) {
+		final List<AnnotationDescription> annotations = new ArrayList<>( 3 );
+		annotations.add( basic() );
+		annotations.add( column( "attribute_" + index, index % 2 == 0 ) );
+		if ( index % 2 == 1 ) {
+			annotations.add(
+					AnnotationDescription.Builder.ofType( Comment.class )
+							.define( "value", entityName + "#attribute" + index )
+							.build()
+			);
+		}
+		return annotations;
+	}
+
+	private static AnnotationDescription basic() {
+		return AnnotationDescription.Builder.ofType( Basic.class ).build();
+	}
+
+	private static AnnotationDescription column(String name, boolean nullable) {
+		return AnnotationDescription.Builder.ofType( Column.class )
+				.define( "name", name )
+				.define( "nullable", nullable )
+				.build();
+	}
+
+	private static List<String> generateXmlMappings(int numberOfEntities) {
+		final List<String> documents = new ArrayList<>();
+
+		StringBuilder document = null;
+		for ( int i = 0; i < numberOfEntities; i++ ) {
+			if ( i % ENTITIES_PER_XML_DOCUMENT == 0 ) {
+				if ( document != null ) {
+					documents.add( closeXmlDocument( document ) );
+				}
+				document = openXmlDocument();
+			}
+
+			document.append( "    <entity class=\"XmlEntity" ).append( i ).append( "\" access=\"FIELD\">\n" );
+			document.append( "        <table name=\"xml_entity_" ).append( i ).append( "\"/>\n" );
+			document.append( "        <attributes>\n" );
+			document.append( "            <id name=\"id\"/>\n" );
+			final int numberOfAttributes = numberOfAttributes( i );
+			for ( int a = 0; a < numberOfAttributes; a++ ) {
+				document.append( "            <basic name=\"attribute" ).append( a ).append( "\"/>\n" );
+			}
+			document.append( "        </attributes>\n" );
+			document.append( "    </entity>\n" );
+		}
+
+		if ( document != null ) {
+			documents.add( closeXmlDocument( document ) );
+		}
+
+		return documents;
+	}
+
+	private static StringBuilder openXmlDocument() {
+		return new StringBuilder()
+				.append( "<entity-mappings xmlns=\"http://www.hibernate.org/xsd/orm/mapping\" version=\"3.1\">\n" )
+				.append( "    <persistence-unit-metadata>\n" )
+				.append( "        <xml-mapping-metadata-complete/>\n" )
+				.append( "    </persistence-unit-metadata>\n" )
+				.append( "    <package>" ).append( XML_PACKAGE_NAME ).append( "</package>\n" );
+	}
+
+	private static String closeXmlDocument(StringBuilder document) {
+		return document.append( "</entity-mappings>\n" ).toString();
+	}
+
+	/**
+	 * Defines the generated classes
+	 */
+	private static class SyntheticClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classFiles;
+
+		private SyntheticClassLoader(Map<String, byte[]> classFiles, ClassLoader parent) {
+			super( parent );
+			this.classFiles = classFiles;
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			final byte[] classFile = classFiles.get( name );
+			if ( classFile == null ) {
+				throw new ClassNotFoundException( name );
+			}
+			return defineClass( name, classFile, 0, classFile.length );
+		}
+	}
+}
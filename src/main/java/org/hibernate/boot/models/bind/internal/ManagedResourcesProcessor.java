@@ -6,36 +6,61 @@
  */
 package org.hibernate.boot.models.bind.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.models.bind.internal.global.GlobalAnnotationProcessor;
 import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
 import org.hibernate.boot.model.convert.spi.ConverterRegistry;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
 import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.instrument.internal.BootModelRecorder;
+import org.hibernate.boot.models.instrument.spi.BootModelStage;
+import org.hibernate.boot.models.intermediate.spi.AttributeMetadata;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
-import org.hibernate.boot.models.intermediate.spi.ManagedTypeMetadata;
+import org.hibernate.boot.models.jaxb.internal.StreamedXmlMappingReader;
 import org.hibernate.boot.models.jaxb.internal.XmlMappingProcessor;
 import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
 import org.hibernate.boot.models.source.internal.NoPackageDetailsImpl;
 import org.hibernate.boot.models.source.internal.PackageDetailsImpl;
+import org.hibernate.boot.models.source.internal.ValueCanonicalizer;
+import org.hibernate.boot.models.source.internal.jandex.BootModelCache;
 import org.hibernate.boot.models.source.internal.reflection.ClassDetailsImpl;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
+import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.source.spi.PackageDetails;
+import org.hibernate.boot.models.spi.IncrementalSourceModel;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.models.spi.ModelSourceSettings;
+import org.hibernate.boot.models.spi.SharedSourceModel;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.mapping.IdentifiableTypeClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.mapping.RootClass;
 
+import org.jboss.jandex.IndexView;
+
 import jakarta.persistence.AttributeConverter;
 
 import static org.hibernate.boot.models.intermediate.internal.EntityHierarchyBuilder.createEntityHierarchies;
@@ -49,6 +74,8 @@ import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGG
  * @author Steve Ebersole
  */
 public class ManagedResourcesProcessor {
+	private static final AnnotationPresence ID_ANNOTATIONS = AnnotationPresence.of( JpaAnnotations.ID, JpaAnnotations.EMBEDDED_ID );
+
 	private final ModelProcessingContext processingContext;
 
 	// cache some frequently used references
@@ -57,29 +84,227 @@ public class ManagedResourcesProcessor {
 
 	private final GlobalAnnotationProcessor globalAnnotationProcessor;
 
+	// non-null when parallel processing is enabled
+	private final ForkJoinPool forkJoinPool;
+
+	private final BootModelRecorder recorder;
+
 	/**
 	 * Entry point for processing managed-resources into boot model references
 	 *
 	 * @param managedResources The managed-resources (entities, XML, etc) to be processed
 	 * @param buildingContext Access to needed resources
+	 *
+	 * @see ModelSourceSettings#PARALLEL_PROCESSING
+	 * @see ModelSourceSettings#BOOT_MODEL_CACHE
+	 * @see ModelSourceSettings#SHARED_SOURCE_MODEL
+	 * @see ModelSourceSettings#INCREMENTAL_SOURCE_MODEL
+	 * @see ModelSourceSettings#BOOT_MODEL_INSTRUMENTATION
 	 */
 	public static void bindBootModel(
 			ManagedResources managedResources,
 			MetadataBuildingContext buildingContext) {
-		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
-		final ManagedResourcesProcessor managedResourcesProcessor = new ManagedResourcesProcessor( processingContext );
+		final IncrementalSourceModel incrementalSourceModel = resolveSettingInstance(
+				ModelSourceSettings.INCREMENTAL_SOURCE_MODEL,
+				IncrementalSourceModel.class,
+				buildingContext
+		);
+		final BootModelCache bootModelCache = BootModelCache.from( buildingContext );
+		final IndexView jandexIndex = bootModelCache == null ? null : bootModelCache.resolveIndex(
+				managedResources,
+				resolveStreamedXmlMappings( buildingContext )
+		);
+		final ModelProcessingContextImpl processingContext = incrementalSourceModel != null && incrementalSourceModel.isBuilt()
+				? createIncrementalProcessingContext( incrementalSourceModel, jandexIndex, buildingContext )
+				: createProcessingContext( jandexIndex, bootModelCache, managedResources, incrementalSourceModel != null, buildingContext );
+		final ForkJoinPool forkJoinPool = createForkJoinPool( buildingContext );
+		try {
+			final ManagedResourcesProcessor managedResourcesProcessor = new ManagedResourcesProcessor(
+					processingContext,
+					forkJoinPool,
+					BootModelRecorder.from( buildingContext )
+			);
+
+			managedResourcesProcessor.prepare( managedResources );
 
-		managedResourcesProcessor.prepare( managedResources );
+			final Set<EntityHierarchy> entityHierarchies = managedResourcesProcessor.createHierarchies();
+			final Map<EntityHierarchy,RootClass> rootClasses = managedResourcesProcessor.processHierarchies( entityHierarchies, managedResources );
+			managedResourcesProcessor.processAttributes( entityHierarchies, rootClasses, managedResources );
 
-		final Set<EntityHierarchy> entityHierarchies = createEntityHierarchies( managedResourcesProcessor::processGlobalAnnotations, processingContext );
-		final Map<EntityHierarchy,RootClass> rootClasses = managedResourcesProcessor.processHierarchies( entityHierarchies, managedResources );
-		managedResourcesProcessor.processAttributes( entityHierarchies, rootClasses, managedResources );
+			managedResourcesProcessor.finishUp();
 
-		managedResourcesProcessor.finishUp();
+			if ( incrementalSourceModel != null ) {
+				// complete the ClassDetails and their dependencies now, while the class-loading of this boot is
+				// still usable.  the frozen context no longer references this boot
+				processingContext.freeze();
+				processingContext.resolveDependencies();
+				incrementalSourceModel.recordProcessingContext( processingContext );
+			}
+		}
+		finally {
+			if ( forkJoinPool != null ) {
+				forkJoinPool.shutdown();
+			}
+		}
+	}
+
+	private static <T> T resolveSettingInstance(String settingName, Class<T> type, MetadataBuildingContext buildingContext) {
+		final Object setting = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSettings()
+				.get( settingName );
+		if ( setting == null ) {
+			return null;
+		}
+
+		if ( !type.isInstance( setting ) ) {
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Setting `%s` expected to be a %s, but found `%s`",
+							settingName,
+							type.getSimpleName(),
+							setting
+					)
+			);
+		}
+		return type.cast( setting );
+	}
+
+	/**
+	 * Layers the context for this boot over the shared source model, if one - either the
+	 * {@linkplain ModelSourceSettings#SHARED_SOURCE_MODEL configured} one or the one held by
+	 * the {@linkplain BootModelCache boot model cache}.
+	 *
+	 * @param bootModelCache The boot model cache, or {@code null} if caching is not enabled
+	 * @param detachable Whether the context will be recorded for an {@linkplain IncrementalSourceModel incremental}
+	 * boot - see {@link ModelProcessingContextImpl#detachable(IndexView, MetadataBuildingContext)}
+	 */
+	private static ModelProcessingContextImpl createProcessingContext(
+			IndexView jandexIndex,
+			BootModelCache bootModelCache,
+			ManagedResources managedResources,
+			boolean detachable,
+			MetadataBuildingContext buildingContext) {
+		final SharedSourceModel sharedSourceModel = resolveSettingInstance(
+				ModelSourceSettings.SHARED_SOURCE_MODEL,
+				SharedSourceModel.class,
+				buildingContext
+		);
+
+		final ModelProcessingContextImpl sharedContext;
+		if ( sharedSourceModel != null ) {
+			sharedContext = (ModelProcessingContextImpl) sharedSourceModel
+					.resolveProcessingContext( () -> buildSharedContext( null, jandexIndex, managedResources, buildingContext ) );
+		}
+		else if ( bootModelCache != null ) {
+			sharedContext = bootModelCache.resolveProcessingContext(
+					(retainedContext) -> buildSharedContext( retainedContext, jandexIndex, managedResources, buildingContext )
+			);
+		}
+		else {
+			return detachable
+					? ModelProcessingContextImpl.detachable( jandexIndex, buildingContext )
+					: new ModelProcessingContextImpl( jandexIndex, buildingContext );
+		}
+
+		return detachable
+				? ModelProcessingContextImpl.detachable( sharedContext, jandexIndex, buildingContext )
+				: new ModelProcessingContextImpl( sharedContext, jandexIndex, buildingContext );
+	}
+
+	/**
+	 * Layers the context for this boot over the source model recorded by the previous one,
+	 * minus the ClassDetails affected by the classes changed since.  The affected (and any new)
+	 * classes are then resolved into the new context as they are encountered.
+	 * <p/>
+	 * Classes loaded through a ClassLoader this boot no longer uses count as changed - see
+	 * {@link ModelProcessingContextImpl#collectStaleClassNames}.
+	 */
+	private static ModelProcessingContextImpl createIncrementalProcessingContext(
+			IncrementalSourceModel incrementalSourceModel,
+			IndexView jandexIndex,
+			MetadataBuildingContext buildingContext) {
+		final ModelProcessingContextImpl previousContext = (ModelProcessingContextImpl) incrementalSourceModel.getProcessingContext();
+		final Set<String> changedClassNames = incrementalSourceModel.consumeChangedClassNames();
+		final Set<String> staleClassNames = previousContext.collectStaleClassNames(
+				buildingContext.getBootstrapContext().getServiceRegistry().getService( ClassLoaderService.class )
+		);
+		changedClassNames.addAll( staleClassNames );
+		final Set<String> affectedClassNames = previousContext.resolveDependencies().collectAffected( changedClassNames );
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			MODEL_SOURCE_LOGGER.debugf(
+					"Incremental boot - %s changed class(es) (%s from a replaced ClassLoader) affecting %s class(es)",
+					changedClassNames.size(),
+					staleClassNames.size(),
+					affectedClassNames.size()
+			);
+		}
+
+		return ModelProcessingContextImpl.detachable( previousContext.retain( affectedClassNames ), jandexIndex, buildingContext );
+	}
+
+	/**
+	 * Builds the shared source model of the managed classes
+	 *
+	 * @param retainedContext The {@linkplain ModelProcessingContextImpl#retain retained} source model of a previous
+	 * build to layer the new one over, if one; only the managed classes it does not hold are processed again
+	 */
+	private static ModelProcessingContextImpl buildSharedContext(
+			ModelProcessingContextImpl retainedContext,
+			IndexView jandexIndex,
+			ManagedResources managedResources,
+			MetadataBuildingContext buildingContext) {
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			MODEL_SOURCE_LOGGER.debugf( "Building shared source model" );
+		}
+
+		final ModelProcessingContextImpl sharedContext = retainedContext == null
+				? ModelProcessingContextImpl.detachable( jandexIndex, buildingContext )
+				: ModelProcessingContextImpl.detachable( retainedContext, jandexIndex, buildingContext );
+		final ClassDetailsRegistry classDetailsRegistry = sharedContext.getClassDetailsRegistry();
+		for ( Class<?> managedClassReference : managedResources.getAnnotatedClassReferences() ) {
+			classDetailsRegistry.resolveClassDetails( managedClassReference.getName() );
+		}
+		for ( String managedClassName : managedResources.getAnnotatedClassNames() ) {
+			classDetailsRegistry.resolveClassDetails( managedClassName );
+		}
+		sharedContext.freeze();
+		return sharedContext;
+	}
+
+	private static ForkJoinPool createForkJoinPool(MetadataBuildingContext buildingContext) {
+		final ConfigurationService configurationService = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ConfigurationService.class );
+		final boolean parallel = configurationService.getSetting(
+				ModelSourceSettings.PARALLEL_PROCESSING,
+				StandardConverters.BOOLEAN,
+				false
+		);
+		if ( !parallel ) {
+			return null;
+		}
+
+		final int parallelism = configurationService.getSetting(
+				ModelSourceSettings.PARALLELISM,
+				StandardConverters.INTEGER,
+				Runtime.getRuntime().availableProcessors()
+		);
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			MODEL_SOURCE_LOGGER.debugf( "Processing managed resources in parallel (parallelism = %s)", parallelism );
+		}
+		return new ForkJoinPool( parallelism );
 	}
 
-	private ManagedResourcesProcessor(ModelProcessingContextImpl processingContext) {
+	private ManagedResourcesProcessor(
+			ModelProcessingContextImpl processingContext,
+			ForkJoinPool forkJoinPool,
+			BootModelRecorder recorder) {
 		this.processingContext = processingContext;
+		this.forkJoinPool = forkJoinPool;
+		this.recorder = recorder;
 
 		this.classDetailsRegistry = processingContext.getClassDetailsRegistry();
 		this.converterRegistry = processingContext.getMetadataBuildingContext().getMetadataCollector().getConverterRegistry();
@@ -87,20 +312,64 @@ public class ManagedResourcesProcessor {
 		this.globalAnnotationProcessor = new GlobalAnnotationProcessor( processingContext );
 	}
 
+	/**
+	 * Prepares the managed resources, as a sequence of stages which do not overlap - {@link BootModelStage#PREPARE},
+	 * then {@link BootModelStage#PROCESS_GLOBAL_ANNOTATIONS} for the packages and classes it collected, then
+	 * {@link BootModelStage#PROCESS_XML}
+	 */
 	private void prepare(ManagedResources managedResources) {
+		// the packages and classes whose "global" annotations are to be processed
+		final List<AnnotationTarget> globalAnnotationTargets = new ArrayList<>();
+
+		final BootModelRecorder.Mark start = recorder.start( BootModelStage.PREPARE );
+
 		// process any packages specified as managed-resources
 		if ( CollectionHelper.isNotEmpty( managedResources.getAnnotatedPackageNames() ) ) {
 			for ( String packageName : managedResources.getAnnotatedPackageNames() ) {
-				processManagedPackage( packageName );
+				globalAnnotationTargets.add( createManagedPackageDetails( packageName ) );
 			}
 		}
 
 		// walks through the managed-resources and creates "intermediate model" references
-		prepareManagedResources( managedResources );
+		prepareManagedResources( managedResources, globalAnnotationTargets );
+
+		recorder.stageCompleted( start );
+
+		processGlobalAnnotations( globalAnnotationTargets );
+
+		// we already know all annotated classes (both listed and discovered) when we get here
+		final BootModelRecorder.Mark xmlStart = recorder.start( BootModelStage.PROCESS_XML );
+		XmlMappingProcessor.processXmlMappings( collectXmlMappings( managedResources ), processingContext, forkJoinPool );
+		recorder.stageCompleted( xmlStart );
 	}
 
-	private void processGlobalAnnotations(ManagedTypeMetadata managedTypeMetadata) {
-		globalAnnotationProcessor.processGlobalAnnotation( managedTypeMetadata.getManagedClass() );
+	private Set<EntityHierarchy> createHierarchies() {
+		// the identifiable types of the hierarchies, whose "global" annotations are processed once they are built
+		final List<AnnotationTarget> globalAnnotationTargets = new ArrayList<>();
+		final Consumer<IdentifiableTypeMetadata> typeConsumer = (typeMetadata) -> globalAnnotationTargets.add( typeMetadata.getManagedClass() );
+
+		final BootModelRecorder.Mark start = recorder.start( BootModelStage.CREATE_ENTITY_HIERARCHIES );
+		final Set<EntityHierarchy> hierarchies;
+		if ( forkJoinPool == null ) {
+			hierarchies = createEntityHierarchies( typeConsumer, recorder, processingContext );
+		}
+		else {
+			hierarchies = createEntityHierarchies( typeConsumer, forkJoinPool, recorder, processingContext );
+		}
+		recorder.stageCompleted( start );
+
+		processGlobalAnnotations( globalAnnotationTargets );
+		return hierarchies;
+	}
+
+	/**
+	 * Processes the "global" annotations (generators, named queries, etc.) of the given packages and
+	 * classes, as a stage of its own
+	 */
+	private void processGlobalAnnotations(List<AnnotationTarget> annotationTargets) {
+		final BootModelRecorder.Mark start = recorder.start( BootModelStage.PROCESS_GLOBAL_ANNOTATIONS );
+		annotationTargets.forEach( globalAnnotationProcessor::processGlobalAnnotation );
+		recorder.stageCompleted( start );
 	}
 
 	private Map<EntityHierarchy,RootClass> processHierarchies(Set<EntityHierarchy> entityHierarchies, ManagedResources managedResources) {
@@ -108,15 +377,18 @@ public class ManagedResourcesProcessor {
 			return Collections.emptyMap();
 		}
 
+		final BootModelRecorder.Mark start = recorder.start( BootModelStage.PROCESS_HIERARCHIES );
 		final HashMap<EntityHierarchy,RootClass> rootClasses = new HashMap<>();
 
 		// Visit each discovered entity hierarchy
 		for ( EntityHierarchy entityHierarchy : entityHierarchies ) {
+			final BootModelRecorder.Mark hierarchyStart = recorder.startDetail( BootModelStage.PROCESS_HIERARCHIES );
 			final EntityTypeMetadata rootEntityMetadata = entityHierarchy.getRoot();
 			// this step creates the RootClass reference, as well as all the proper
 			// supers and subs.  It also registers them with the metadata-collector
 			final RootClass rootClass = (RootClass) TypeBinder.buildPersistentClass( rootEntityMetadata );
 			rootClasses.put( entityHierarchy, rootClass );
+			recorder.hierarchyProcessed( rootEntityMetadata.getManagedClass().getName(), hierarchyStart );
 			if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
 				MODEL_SOURCE_LOGGER.debugf(
 						"Entity hierarchy built : %s",
@@ -124,28 +396,37 @@ public class ManagedResourcesProcessor {
 				);
 			}
 		}
+
+		recorder.stageCompleted( start );
 		return rootClasses;
 	}
 
 	private void processAttributes(Set<EntityHierarchy> entityHierarchies, Map<EntityHierarchy,RootClass> rootClasses, ManagedResources managedResources) {
+		final BootModelRecorder.Mark start = recorder.start( BootModelStage.PROCESS_ATTRIBUTES );
 		for ( EntityHierarchy entityHierarchy : entityHierarchies ) {
+			final BootModelRecorder.Mark hierarchyStart = recorder.startDetail( BootModelStage.PROCESS_ATTRIBUTES );
 			final EntityTypeMetadata rootEntityMetadata = entityHierarchy.getRoot();
 			final RootClass rootClass = rootClasses.get( entityHierarchy );
 			processAttributesUp( rootEntityMetadata, rootClass );
 			processAttributes( rootEntityMetadata, rootClass );
 			processAttributesDown( rootEntityMetadata, rootClass );
+			recorder.hierarchyProcessed( rootEntityMetadata.getManagedClass().getName(), hierarchyStart );
 		}
+		recorder.stageCompleted( start );
 	}
 
 	private void processAttributes(
 			IdentifiableTypeMetadata identifiableTypeMetadata,
 			IdentifiableTypeClass identifiableTypeMapping) {
 		identifiableTypeMetadata.forEachAttribute( (index, attributeMetadata) -> {
-			if ( attributeMetadata.getMember().getAnnotation( JpaAnnotations.ID ) != null
-					|| attributeMetadata.getMember().getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
+			if ( attributeMetadata.getMember().hasAnyAnnotation( ID_ANNOTATIONS ) ) {
 				// for now, skip...
 				return;
 			}
+			if ( attributeMetadata.getNature() != AttributeMetadata.AttributeNature.BASIC ) {
+				// todo (annotation-source) : only basic attributes are bound so far
+				return;
+			}
 			final Property property = PropertyBinder.buildProperty(
 					attributeMetadata,
 					identifiableTypeMetadata,
@@ -181,11 +462,6 @@ public class ManagedResourcesProcessor {
 		throw new UnsupportedOperationException( "Not implemented yet" );
 	}
 
-	private void processManagedPackage(String packageName) {
-		final PackageDetails packageDetails = createManagedPackageDetails( packageName );
-		globalAnnotationProcessor.processGlobalAnnotation( packageDetails );
-	}
-
 	private PackageDetails createManagedPackageDetails(String packageName) {
 		final ClassLoaderService classLoaderService = processingContext.getMetadataBuildingContext()
 				.getBootstrapContext()
@@ -205,46 +481,46 @@ public class ManagedResourcesProcessor {
 	}
 
 	/**
-	 * Performs a number of operations - <ol>
-	 *     <li>
-	 *         Iterates all known (explicit and discovered) annotated classes creating
-	 *         ClassDetails references and processing "global" annotations.  This
-	 *         includes additional handling for certain ClassDetail references, such as
-	 *         converters.
-	 *     </li>
-	 *     <li>
-	 *         Processes all XML mappings.  This also creates ClassDetails references,
-	 *         registers converters and processes "global annotations".  See
-	 *         {@link XmlMappingProcessor#processXmlMappings}
-	 *     </li>
-	 * </ol>>
+	 * Iterates all known (explicit and discovered) annotated classes creating ClassDetails
+	 * references and collecting those whose "global" annotations are to be processed.  This
+	 * includes additional handling for certain ClassDetail references, such as converters.
+	 * <p/>
+	 * The XML mappings are processed afterwards - see {@link #prepare}.  This also creates
+	 * ClassDetails references, registers converters and processes "global annotations".  See
+	 * {@link XmlMappingProcessor#processXmlMappings}.  Documents named by
+	 * {@link ModelSourceSettings#STREAMED_XML_MAPPINGS} are read by
+	 * {@link StreamedXmlMappingReader} and processed along with the others
 	 */
-	private void prepareManagedResources(ManagedResources managedResources) {
+	private void prepareManagedResources(ManagedResources managedResources, List<AnnotationTarget> globalAnnotationTargets) {
 		final ClassDetails attributeConverterClassDetails = classDetailsRegistry.resolveClassDetails(
 				AttributeConverter.class.getName(),
 				() -> new ClassDetailsImpl( AttributeConverter.class, processingContext )
 		);
 
+		// build the ClassDetails for all managed classes up front, as a batch (in parallel if
+		// enabled).  the loops below then simply find them in the registry
+		resolveManagedClasses( managedResources );
+
 		for ( Class<?> managedClassReference : managedResources.getAnnotatedClassReferences() ) {
-			final ClassDetails classDetails = classDetailsRegistry.resolveClassDetails( managedClassReference.getName() );
+			final ClassDetails classDetails = resolveManagedClass( managedClassReference.getName() );
 			// if the Class is a converter, register it
 			if ( isConverter( classDetails, attributeConverterClassDetails ) ) {
 				//noinspection unchecked
 				converterRegistry.addAttributeConverter( (Class<? extends AttributeConverter<?,?>>) managedClassReference );
 			}
 			else {
-				globalAnnotationProcessor.processGlobalAnnotation( classDetails );
+				globalAnnotationTargets.add( classDetails );
 			}
 		}
 
 		for ( String managedClassName : managedResources.getAnnotatedClassNames() ) {
-			final ClassDetails classDetails = classDetailsRegistry.resolveClassDetails( managedClassName );
+			final ClassDetails classDetails = resolveManagedClass( managedClassName );
 			// if the Class is a converter, register it
 			if ( isConverter( classDetails, attributeConverterClassDetails ) ) {
 				converterRegistry.addAttributeConverter( classDetails.toJavaClass() );
 			}
 			else {
-				globalAnnotationProcessor.processGlobalAnnotation( classDetails );
+				globalAnnotationTargets.add( classDetails );
 			}
 		}
 
@@ -261,9 +537,105 @@ public class ManagedResourcesProcessor {
 						.addImport( name, target.getName() );
 			} );
 		}
+	}
+
+	private Collection<Binding<BindableMappingDescriptor>> collectXmlMappings(ManagedResources managedResources) {
+		final List<String> streamedXmlMappings = resolveStreamedXmlMappings( processingContext.getMetadataBuildingContext() );
+		if ( streamedXmlMappings.isEmpty()
+				|| !processingContext.getMetadataBuildingContext().getBuildingOptions().isXmlMappingEnabled() ) {
+			return managedResources.getXmlMappingBindings();
+		}
 
-		// we already know all annotated classes (both listed and discovered) when we get here
-		XmlMappingProcessor.processXmlMappings( managedResources.getXmlMappingBindings(), processingContext );
+		final List<Binding<BindableMappingDescriptor>> xmlMappings = new ArrayList<>( managedResources.getXmlMappingBindings() );
+		final StreamedXmlMappingReader streamedXmlMappingReader = new StreamedXmlMappingReader(
+				processingContext.getMetadataBuildingContext()
+						.getBootstrapContext()
+						.getServiceRegistry()
+						.getService( ClassLoaderService.class )
+		);
+		for ( String resourceName : streamedXmlMappings ) {
+			xmlMappings.add( streamedXmlMappingReader.read( resourceName ) );
+		}
+		return xmlMappings;
+	}
+
+	private static List<String> resolveStreamedXmlMappings(MetadataBuildingContext buildingContext) {
+		final Object setting = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSettings()
+				.get( ModelSourceSettings.STREAMED_XML_MAPPINGS );
+		if ( setting == null ) {
+			return Collections.emptyList();
+		}
+
+		final List<String> resourceNames = new ArrayList<>();
+		if ( setting instanceof Collection ) {
+			for ( Object resourceName : (Collection<?>) setting ) {
+				resourceNames.add( resourceName.toString() );
+			}
+		}
+		else {
+			for ( String resourceName : StringHelper.split( ", \t\n", setting.toString() ) ) {
+				if ( !resourceName.isEmpty() ) {
+					resourceNames.add( resourceName );
+				}
+			}
+		}
+		return resourceNames;
+	}
+
+	private ClassDetails resolveManagedClass(String managedClassName) {
+		// already resolved up front
+		return classDetailsRegistry.resolveClassDetails( managedClassName );
+	}
+
+	private void resolveManagedClasses(ManagedResources managedResources) {
+		final List<String> managedClassNames = new ArrayList<>();
+		for ( Class<?> managedClassReference : managedResources.getAnnotatedClassReferences() ) {
+			managedClassNames.add( managedClassReference.getName() );
+		}
+		managedClassNames.addAll( managedResources.getAnnotatedClassNames() );
+
+		classDetailsRegistry.resolveClassDetails( managedClassNames, resolveManagedClassBuilder(), forkJoinPool );
+	}
+
+	/**
+	 * The builder for the managed classes - reporting each class built when
+	 * {@linkplain BootModelRecorder#isDetailEnabled() detail} is being recorded
+	 */
+	private ClassDetailsBuilder resolveManagedClassBuilder() {
+		final ClassDetailsBuilder classDetailsBuilder = classDetailsRegistry.getClassDetailsBuilder();
+		if ( !recorder.isDetailEnabled() || classDetailsBuilder == null ) {
+			return classDetailsBuilder;
+		}
+		return new MeasuredClassDetailsBuilder( classDetailsBuilder, recorder );
+	}
+
+	/**
+	 * Reports the building of each class, on whichever thread the batch resolution builds it
+	 */
+	private static class MeasuredClassDetailsBuilder implements ClassDetailsBuilder {
+		private final ClassDetailsBuilder delegate;
+		private final BootModelRecorder recorder;
+
+		private MeasuredClassDetailsBuilder(ClassDetailsBuilder delegate, BootModelRecorder recorder) {
+			this.delegate = delegate;
+			this.recorder = recorder;
+		}
+
+		@Override
+		public ClassDetails buildClassDetails(String name, ModelProcessingContext processingContext) {
+			final BootModelRecorder.Mark start = recorder.startDetail( BootModelStage.PREPARE );
+			final ClassDetails classDetails = delegate.buildClassDetails( name, processingContext );
+			recorder.classProcessed( name, start );
+			return classDetails;
+		}
+
+		@Override
+		public String findSuperTypeName(String name, ModelProcessingContext processingContext) {
+			return delegate.findSuperTypeName( name, processingContext );
+		}
 	}
 
 	private static boolean isConverter(ClassDetails classDetails, ClassDetails attributeConverterClassDetails) {
@@ -272,7 +644,11 @@ public class ManagedResourcesProcessor {
 	}
 
 	private void finishUp() {
-		// todo (annotation-source) : needed?
-		// atm nothing to do
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			final ValueCanonicalizer valueCanonicalizer = ValueCanonicalizer.from( processingContext );
+			if ( valueCanonicalizer != null ) {
+				MODEL_SOURCE_LOGGER.debugf( "Annotation values canonicalized - %s", valueCanonicalizer );
+			}
+		}
 	}
 }
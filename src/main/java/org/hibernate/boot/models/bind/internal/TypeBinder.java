@@ -46,6 +46,7 @@ import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Join;
 import org.hibernate.mapping.JoinedSubclass;
+import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.RootClass;
 import org.hibernate.mapping.SingleTableSubclass;
@@ -117,13 +118,11 @@ public class TypeBinder {
 				// if there is one, it should be a mapped-superclass - we need to handle
 				// them specially because the boot mapping model makes us :)
 				assert directSuperTypeMetadata instanceof MappedSuperclassTypeMetadata;
-				MappedSuperclassTypeMetadata mappedSuperclassMetadata = (MappedSuperclassTypeMetadata) directSuperTypeMetadata;
-
-				while ( mappedSuperclassMetadata != null ) {
-
-
-					mappedSuperclassMetadata = (MappedSuperclassTypeMetadata) mappedSuperclassMetadata.getSuperType();
-				}
+				rootEntityMapping.setSuperMappedSuperclass( buildMappedSuperclass(
+						(MappedSuperclassTypeMetadata) directSuperTypeMetadata,
+						rootEntityMapping.getTable(),
+						metadataBuildingContext.getMetadataCollector()
+				) );
 			}
 		}
 		else {
@@ -442,6 +441,31 @@ public class TypeBinder {
 		return classDetails.getAnnotation( descriptor );
 	}
 
+	/**
+	 * Builds the mapped-superclass, along with its own mapped-superclass supers, of a root entity and
+	 * registers them with the metadata-collector.  Their attributes are stored in the root entity's
+	 * primary table, so a mapped-superclass shared by multiple hierarchies is built for each of them -
+	 * the metadata-collector holds the one built for the first.
+	 */
+	private static MappedSuperclass buildMappedSuperclass(
+			MappedSuperclassTypeMetadata mappedSuperclassMetadata,
+			org.hibernate.mapping.Table implicitTable,
+			InFlightMetadataCollector metadataCollector) {
+		final IdentifiableTypeMetadata superTypeMetadata = mappedSuperclassMetadata.getSuperType();
+		assert superTypeMetadata == null || superTypeMetadata instanceof MappedSuperclassTypeMetadata;
+		final MappedSuperclass superMappedSuperclass = superTypeMetadata == null
+				? null
+				: buildMappedSuperclass( (MappedSuperclassTypeMetadata) superTypeMetadata, implicitTable, metadataCollector );
+
+		final Class<?> mappedClass = mappedSuperclassMetadata.getManagedClass().toJavaClass();
+		final MappedSuperclass mappedSuperclass = new MappedSuperclass( superMappedSuperclass, null, implicitTable );
+		mappedSuperclass.setMappedClass( mappedClass );
+		if ( metadataCollector.getMappedSuperclass( mappedClass ) == null ) {
+			metadataCollector.addMappedSuperclass( mappedClass, mappedSuperclass );
+		}
+		return mappedSuperclass;
+	}
+
 	private static PersistentClass resolveSuperEntity(
 			IdentifiableTypeMetadata superType,
 			Consumer<MappedSuperclassTypeMetadata> intermediateMappedSuperclassCollector) {
@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a managed class or entity hierarchy processed as part of a
+ * {@linkplain org.hibernate.boot.models.instrument.spi.BootModelStage stage}
+ *
+ * @see org.hibernate.boot.models.instrument.spi.JfrBootModelInstrumentation
+ *
+ * @author Steve Ebersole
+ */
+@Name( BootModelItemEvent.NAME )
+@Label( "Boot Model Item" )
+@Category( { "Hibernate ORM", "Boot Model" } )
+@Description( "Cost of processing a managed class or entity hierarchy into the boot model" )
+@StackTrace( false )
+public class BootModelItemEvent extends jdk.jfr.Event {
+	public static final String NAME = "org.hibernate.orm.BootModelItem";
+
+	public static final String CLASS = "class";
+	public static final String HIERARCHY = "hierarchy";
+
+	@Label( "Stage" )
+	public String stage;
+
+	@Label( "Kind" )
+	@Description( "Whether the item is a managed class or an entity hierarchy" )
+	public String kind;
+
+	@Label( "Name" )
+	@Description( "Class name, or the root class name for a hierarchy" )
+	public String name;
+
+	@Label( "Wall Time" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long wallTime;
+
+	@Label( "CPU Time" )
+	@Description( "CPU time of the processing thread, -1 if not supported" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long cpuTime;
+
+	@Label( "Allocated" )
+	@Description( "Bytes allocated by the processing thread, -1 if not supported" )
+	@DataAmount
+	public long allocated;
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.models.instrument.spi.BootModelInstrumentation;
+import org.hibernate.boot.models.instrument.spi.BootModelMeasurement;
+import org.hibernate.boot.models.instrument.spi.BootModelStage;
+import org.hibernate.boot.models.instrument.spi.JfrBootModelInstrumentation;
+import org.hibernate.boot.models.spi.ModelSourceSettings;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+
+/**
+ * Measures boot model processing and reports it to the configured {@link BootModelInstrumentation}.
+ * <p/>
+ * When no instrumentation is configured, {@link #NONE} is used - {@link #start} returns
+ * {@code null} and the reporting methods do nothing, so callers need not check.
+ * <p/>
+ * Stages do not nest - a stage must be completed before the next one is started, so that
+ * neither the stage totals nor the stage events overlap.
+ *
+ * @author Steve Ebersole
+ */
+public class BootModelRecorder {
+	public static final BootModelRecorder NONE = new BootModelRecorder( null );
+
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+	private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+			&& THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+	private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = resolveAllocationBean();
+
+	private static com.sun.management.ThreadMXBean resolveAllocationBean() {
+		try {
+			if ( THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean ) {
+				final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+				if ( bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ) {
+					return bean;
+				}
+			}
+		}
+		catch (LinkageError e) {
+			// `jdk.management` is not available
+		}
+		return null;
+	}
+
+	private final BootModelInstrumentation instrumentation;
+	private final boolean detailEnabled;
+
+	// the stage in progress - stages are only measured on the booting thread
+	private Mark currentStage;
+
+	public BootModelRecorder(BootModelInstrumentation instrumentation) {
+		this.instrumentation = instrumentation;
+		this.detailEnabled = instrumentation != null && instrumentation.isDetailEnabled();
+	}
+
+	/**
+	 * Resolve the recorder for the configured {@link ModelSourceSettings#BOOT_MODEL_INSTRUMENTATION}
+	 */
+	public static BootModelRecorder from(MetadataBuildingContext buildingContext) {
+		final Object setting = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSettings()
+				.get( ModelSourceSettings.BOOT_MODEL_INSTRUMENTATION );
+		if ( setting == null ) {
+			return NONE;
+		}
+
+		if ( setting instanceof BootModelInstrumentation ) {
+			return new BootModelRecorder( (BootModelInstrumentation) setting );
+		}
+
+		if ( setting instanceof String ) {
+			final String name = ( (String) setting ).trim();
+			if ( name.isEmpty() ) {
+				return NONE;
+			}
+			if ( JfrBootModelInstrumentation.SHORT_NAME.equalsIgnoreCase( name ) ) {
+				return new BootModelRecorder( new JfrBootModelInstrumentation() );
+			}
+
+			final Class<?> instrumentationClass = buildingContext.getBootstrapContext()
+					.getServiceRegistry()
+					.getService( ClassLoaderService.class )
+					.classForName( name );
+			return new BootModelRecorder( instantiate( instrumentationClass ) );
+		}
+
+		if ( setting instanceof Class ) {
+			return new BootModelRecorder( instantiate( (Class<?>) setting ) );
+		}
+
+		throw new HibernateException(
+				String.format(
+						Locale.ROOT,
+						"Setting `%s` expected to be a BootModelInstrumentation, its class or class name, but found `%s`",
+						ModelSourceSettings.BOOT_MODEL_INSTRUMENTATION,
+						setting
+				)
+		);
+	}
+
+	private static BootModelInstrumentation instantiate(Class<?> instrumentationClass) {
+		if ( !BootModelInstrumentation.class.isAssignableFrom( instrumentationClass ) ) {
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Class `%s` specified by `%s` does not implement BootModelInstrumentation",
+							instrumentationClass.getName(),
+							ModelSourceSettings.BOOT_MODEL_INSTRUMENTATION
+					)
+			);
+		}
+		try {
+			return (BootModelInstrumentation) instrumentationClass.getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException e) {
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Unable to instantiate BootModelInstrumentation `%s`",
+							instrumentationClass.getName()
+					),
+					e
+			);
+		}
+	}
+
+	/**
+	 * Whether stages are being reported
+	 */
+	public boolean isEnabled() {
+		return instrumentation != null;
+	}
+
+	/**
+	 * Whether classes and hierarchies are being reported
+	 */
+	public boolean isDetailEnabled() {
+		return detailEnabled;
+	}
+
+	/**
+	 * Start measuring a stage on the booting thread.  Must be matched by {@link #stageCompleted}
+	 * before another stage is started.
+	 *
+	 * @return The starting point, or {@code null} when not {@linkplain #isEnabled() enabled}
+	 */
+	public Mark start(BootModelStage stage) {
+		if ( instrumentation == null ) {
+			return null;
+		}
+		assert currentStage == null : "Stage " + currentStage.stage + " in progress - stages do not nest";
+		instrumentation.stageStarted( stage );
+		currentStage = new Mark( stage );
+		return currentStage;
+	}
+
+	/**
+	 * Start measuring on the current thread, for a class or hierarchy
+	 *
+	 * @return The starting point, or {@code null} when not {@linkplain #isDetailEnabled() enabled}
+	 */
+	public Mark startDetail(BootModelStage stage) {
+		if ( !detailEnabled ) {
+			return null;
+		}
+		instrumentation.itemStarted( stage );
+		return new Mark( stage );
+	}
+
+	/**
+	 * Report the stage started by {@link #start}
+	 */
+	public void stageCompleted(Mark start) {
+		if ( start == null ) {
+			return;
+		}
+		assert start == currentStage;
+
+		currentStage = null;
+		instrumentation.stageCompleted( start.stage, start.measure() );
+	}
+
+	public void classProcessed(String className, Mark start) {
+		if ( start != null ) {
+			instrumentation.classProcessed( start.stage, className, start.measure() );
+		}
+	}
+
+	public void hierarchyProcessed(String rootClassName, Mark start) {
+		if ( start != null ) {
+			instrumentation.hierarchyProcessed( start.stage, rootClassName, start.measure() );
+		}
+	}
+
+	/**
+	 * Starting point of a measurement, taken on (and only valid for) the current thread
+	 */
+	public static class Mark {
+		private final BootModelStage stage;
+
+		private final long wallNanos;
+		private final long cpuNanos;
+		private final long allocatedBytes;
+
+		private Mark(BootModelStage stage) {
+			this.stage = stage;
+			this.wallNanos = System.nanoTime();
+			this.cpuNanos = currentCpuNanos();
+			this.allocatedBytes = currentAllocatedBytes();
+		}
+
+		private BootModelMeasurement measure() {
+			final long wall = System.nanoTime() - wallNanos;
+			final long cpu = cpuNanos == BootModelMeasurement.UNSUPPORTED
+					? BootModelMeasurement.UNSUPPORTED
+					: currentCpuNanos() - cpuNanos;
+			final long allocated = allocatedBytes == BootModelMeasurement.UNSUPPORTED
+					? BootModelMeasurement.UNSUPPORTED
+					: currentAllocatedBytes() - allocatedBytes;
+			return new BootModelMeasurement( wall, cpu, allocated );
+		}
+
+		private static long currentCpuNanos() {
+			return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : BootModelMeasurement.UNSUPPORTED;
+		}
+
+		private static long currentAllocatedBytes() {
+			return ALLOCATION_MX_BEAN == null
+					? BootModelMeasurement.UNSUPPORTED
+					: ALLOCATION_MX_BEAN.getThreadAllocatedBytes( Thread.currentThread().getId() );
+		}
+	}
+}
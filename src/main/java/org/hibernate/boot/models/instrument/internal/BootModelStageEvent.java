@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a completed {@linkplain org.hibernate.boot.models.instrument.spi.BootModelStage stage}
+ *
+ * @see org.hibernate.boot.models.instrument.spi.JfrBootModelInstrumentation
+ *
+ * @author Steve Ebersole
+ */
+@Name( BootModelStageEvent.NAME )
+@Label( "Boot Model Stage" )
+@Category( { "Hibernate ORM", "Boot Model" } )
+@Description( "Cost of a stage of processing managed resources into the boot model" )
+@StackTrace( false )
+public class BootModelStageEvent extends jdk.jfr.Event {
+	public static final String NAME = "org.hibernate.orm.BootModelStage";
+
+	@Label( "Stage" )
+	public String stage;
+
+	@Label( "Wall Time" )
+	@Description( "Wall time of the stage" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long wallTime;
+
+	@Label( "CPU Time" )
+	@Description( "CPU time of the booting thread, -1 if not supported" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long cpuTime;
+
+	@Label( "Allocated" )
+	@Description( "Bytes allocated by the booting thread, -1 if not supported" )
+	@DataAmount
+	public long allocated;
+}
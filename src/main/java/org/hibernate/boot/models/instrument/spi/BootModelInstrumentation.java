@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.spi;
+
+/**
+ * Listener for the cost of processing managed resources into the boot model, per
+ * {@linkplain BootModelStage stage} as well as per managed class and entity hierarchy.
+ * <p/>
+ * Specified using {@link org.hibernate.boot.models.spi.ModelSourceSettings#BOOT_MODEL_INSTRUMENTATION}.
+ * Two implementations are provided - {@link JfrBootModelInstrumentation}, reporting JFR events,
+ * and {@link HistogramBootModelInstrumentation}, collecting statistics in memory.
+ *
+ * @implSpec Implementations must be thread-safe - with
+ * {@linkplain org.hibernate.boot.models.spi.ModelSourceSettings#PARALLEL_PROCESSING parallel processing},
+ * class and hierarchy events are fired from the threads doing the work.
+ *
+ * @author Steve Ebersole
+ */
+public interface BootModelInstrumentation {
+	/**
+	 * Whether class and hierarchy events should be fired.  Measuring each class and hierarchy
+	 * has a cost of its own, so implementations interested in stages only may opt out.
+	 */
+	default boolean isDetailEnabled() {
+		return true;
+	}
+
+	/**
+	 * A stage is starting on the booting thread.  Followed, on the same thread, by the matching
+	 * {@link #stageCompleted} once the stage is done - stages may nest, but never interleave.
+	 */
+	default void stageStarted(BootModelStage stage) {
+	}
+
+	/**
+	 * A stage completed.  Stages performed in multiple steps are reported once per step.
+	 *
+	 * @apiNote Stages never overlap, so summing the measurements of all stages does not count
+	 * any work twice.  CPU time and allocations are those of the booting thread only
+	 */
+	void stageCompleted(BootModelStage stage, BootModelMeasurement measurement);
+
+	/**
+	 * Processing of a managed class or entity hierarchy, as part of the given stage, is starting
+	 * on the current thread.  Followed, on the same thread, by the matching {@link #classProcessed}
+	 * or {@link #hierarchyProcessed}.  Only called when {@linkplain #isDetailEnabled() detail is enabled}.
+	 */
+	default void itemStarted(BootModelStage stage) {
+	}
+
+	/**
+	 * A managed class was processed as part of the given stage.  For {@link BootModelStage#PREPARE},
+	 * reported for each class built while resolving the managed classes - including super classes
+	 * which are not listed as managed - and not for classes already known from a shared source model.
+	 */
+	void classProcessed(BootModelStage stage, String className, BootModelMeasurement measurement);
+
+	/**
+	 * An entity hierarchy, identified by the name of its root entity class, was processed as part
+	 * of the given stage
+	 */
+	void hierarchyProcessed(BootModelStage stage, String rootClassName, BootModelMeasurement measurement);
+}
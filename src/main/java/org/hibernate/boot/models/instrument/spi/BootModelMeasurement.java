@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.spi;
+
+import java.util.Locale;
+
+/**
+ * Cost of a unit of boot model processing - wall time, CPU time and allocated bytes.
+ * <p/>
+ * CPU time and allocations are measured for the thread which performed the work; either
+ * is {@link #UNSUPPORTED} when the JVM does not support (or has disabled) measuring it.
+ *
+ * @author Steve Ebersole
+ */
+public final class BootModelMeasurement {
+	/**
+	 * Value reported for a measure the JVM does not support
+	 */
+	public static final long UNSUPPORTED = -1;
+
+	/**
+	 * A measurement of nothing
+	 */
+	public static final BootModelMeasurement ZERO = new BootModelMeasurement( 0, 0, 0 );
+
+	private final long wallNanos;
+	private final long cpuNanos;
+	private final long allocatedBytes;
+
+	public BootModelMeasurement(long wallNanos, long cpuNanos, long allocatedBytes) {
+		this.wallNanos = wallNanos;
+		this.cpuNanos = cpuNanos;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/**
+	 * Elapsed wall-clock time, in nanoseconds
+	 */
+	public long getWallNanos() {
+		return wallNanos;
+	}
+
+	/**
+	 * CPU time of the measured thread, in nanoseconds, or {@link #UNSUPPORTED}
+	 */
+	public long getCpuNanos() {
+		return cpuNanos;
+	}
+
+	/**
+	 * Bytes allocated by the measured thread, or {@link #UNSUPPORTED}
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/**
+	 * The sum of this measurement and the given one
+	 */
+	public BootModelMeasurement plus(BootModelMeasurement other) {
+		return new BootModelMeasurement(
+				wallNanos + other.wallNanos,
+				sum( cpuNanos, other.cpuNanos ),
+				sum( allocatedBytes, other.allocatedBytes )
+		);
+	}
+
+	private static long sum(long value1, long value2) {
+		if ( value1 == UNSUPPORTED || value2 == UNSUPPORTED ) {
+			return UNSUPPORTED;
+		}
+		return value1 + value2;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"BootModelMeasurement(wall=%sns, cpu=%sns, allocated=%sB)",
+				wallNanos,
+				cpuNanos,
+				allocatedBytes
+		);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.spi;
+
+/**
+ * The stages of processing managed resources into the boot model, as reported to
+ * {@link BootModelInstrumentation}.
+ * <p/>
+ * Stages never overlap - each one is completed before the next is started.
+ *
+ * @author Steve Ebersole
+ */
+public enum BootModelStage {
+	/**
+	 * Building the ClassDetails for the managed classes and packages and registering converters.
+	 */
+	PREPARE,
+	/**
+	 * Processing "global" annotations (generators, named queries, etc).  Happens in two steps -
+	 * after {@link #PREPARE}, for the managed packages and classes, and after {@link #CREATE_ENTITY_HIERARCHIES},
+	 * for the types of the hierarchies.
+	 */
+	PROCESS_GLOBAL_ANNOTATIONS,
+	/**
+	 * Processing the XML mappings
+	 */
+	PROCESS_XML,
+	/**
+	 * Building the intermediate model ({@code EntityHierarchy})
+	 */
+	CREATE_ENTITY_HIERARCHIES,
+	/**
+	 * Binding the entity types of each hierarchy into the mapping model
+	 */
+	PROCESS_HIERARCHIES,
+	/**
+	 * Binding the attributes of each hierarchy into the mapping model
+	 */
+	PROCESS_ATTRIBUTES
+}
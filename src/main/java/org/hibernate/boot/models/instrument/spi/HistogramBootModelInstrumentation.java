@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.spi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * BootModelInstrumentation collecting statistics in memory, to be {@linkplain #generateReport() reported}
+ * after boot.  Per stage, it keeps -<ul>
+ *     <li>the total cost of the stage, summed over all boots using this instance</li>
+ *     <li>a histogram of the wall time of the classes and hierarchies processed, in power-of-2 microsecond buckets</li>
+ *     <li>the slowest classes and hierarchies</li>
+ * </ul>
+ *
+ * @author Steve Ebersole
+ */
+public class HistogramBootModelInstrumentation implements BootModelInstrumentation {
+	public static final int DEFAULT_SLOWEST_COUNT = 10;
+
+	// buckets by the bit-length of the wall time in micros - [0,1), [1,2), [2,4), [4,8) ...
+	private static final int NUMBER_OF_BUCKETS = 64;
+
+	private final int slowestCount;
+
+	private final Map<BootModelStage, BootModelMeasurement> stageTotals = new EnumMap<>( BootModelStage.class );
+	private final Map<BootModelStage, ItemStatistics> itemStatistics = new EnumMap<>( BootModelStage.class );
+
+	public HistogramBootModelInstrumentation() {
+		this( DEFAULT_SLOWEST_COUNT );
+	}
+
+	/**
+	 * @param slowestCount The number of slowest classes and hierarchies to keep per stage
+	 */
+	public HistogramBootModelInstrumentation(int slowestCount) {
+		this.slowestCount = slowestCount;
+	}
+
+	@Override
+	public synchronized void stageCompleted(BootModelStage stage, BootModelMeasurement measurement) {
+		stageTotals.merge( stage, measurement, BootModelMeasurement::plus );
+	}
+
+	@Override
+	public synchronized void classProcessed(BootModelStage stage, String className, BootModelMeasurement measurement) {
+		itemStatistics.computeIfAbsent( stage, (s) -> new ItemStatistics() ).add( "class", className, measurement );
+	}
+
+	@Override
+	public synchronized void hierarchyProcessed(BootModelStage stage, String rootClassName, BootModelMeasurement measurement) {
+		itemStatistics.computeIfAbsent( stage, (s) -> new ItemStatistics() ).add( "hierarchy", rootClassName, measurement );
+	}
+
+	/**
+	 * The total cost of the given stage, or {@code null} if it was not reported
+	 */
+	public synchronized BootModelMeasurement getStageTotal(BootModelStage stage) {
+		return stageTotals.get( stage );
+	}
+
+	/**
+	 * The number of classes and hierarchies reported for the given stage
+	 */
+	public synchronized int getItemCount(BootModelStage stage) {
+		final ItemStatistics statistics = itemStatistics.get( stage );
+		return statistics == null ? 0 : statistics.count;
+	}
+
+	/**
+	 * Discard all collected statistics
+	 */
+	public synchronized void reset() {
+		stageTotals.clear();
+		itemStatistics.clear();
+	}
+
+	/**
+	 * Render the collected statistics as a human-readable report
+	 */
+	public synchronized String generateReport() {
+		final StringBuilder report = new StringBuilder( "Boot model instrumentation report" ).append( System.lineSeparator() );
+
+		for ( BootModelStage stage : BootModelStage.values() ) {
+			final BootModelMeasurement total = stageTotals.get( stage );
+			final ItemStatistics statistics = itemStatistics.get( stage );
+			if ( total == null && statistics == null ) {
+				continue;
+			}
+
+			report.append( System.lineSeparator() ).append( stage.name() );
+			if ( total != null ) {
+				report.append( " : " ).append( describe( total ) );
+			}
+			report.append( System.lineSeparator() );
+
+			if ( statistics != null ) {
+				statistics.appendTo( report );
+			}
+		}
+
+		return report.toString();
+	}
+
+	private static String describe(BootModelMeasurement measurement) {
+		return String.format(
+				Locale.ROOT,
+				"wall %.3f ms, cpu %s, allocated %s",
+				measurement.getWallNanos() / 1_000_000d,
+				measurement.getCpuNanos() == BootModelMeasurement.UNSUPPORTED
+						? "n/a"
+						: String.format( Locale.ROOT, "%.3f ms", measurement.getCpuNanos() / 1_000_000d ),
+				measurement.getAllocatedBytes() == BootModelMeasurement.UNSUPPORTED
+						? "n/a"
+						: String.format( Locale.ROOT, "%.1f KB", measurement.getAllocatedBytes() / 1024d )
+		);
+	}
+
+	private static int bucket(long wallNanos) {
+		final long micros = Math.max( 0, wallNanos / 1_000 );
+		return Math.min( NUMBER_OF_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros( micros ) );
+	}
+
+	private static long bucketLowerBound(int bucket) {
+		return bucket == 0 ? 0 : 1L << ( bucket - 1 );
+	}
+
+	private class ItemStatistics {
+		private final long[] buckets = new long[NUMBER_OF_BUCKETS];
+		// min-heap on wall time, so the fastest of the slowest is the one evicted
+		private final PriorityQueue<Item> slowest = new PriorityQueue<>( Comparator.comparingLong( (Item item) -> item.measurement.getWallNanos() ) );
+		private int count;
+		private BootModelMeasurement total = BootModelMeasurement.ZERO;
+
+		private void add(String kind, String name, BootModelMeasurement measurement) {
+			count++;
+			total = total.plus( measurement );
+			buckets[ bucket( measurement.getWallNanos() ) ]++;
+
+			if ( slowestCount <= 0 ) {
+				return;
+			}
+			slowest.add( new Item( kind, name, measurement ) );
+			if ( slowest.size() > slowestCount ) {
+				slowest.poll();
+			}
+		}
+
+		private void appendTo(StringBuilder report) {
+			final String lineSeparator = System.lineSeparator();
+
+			report.append( String.format( Locale.ROOT, "  %s item(s) : %s", count, describe( total ) ) ).append( lineSeparator );
+
+			report.append( "  wall time histogram :" ).append( lineSeparator );
+			for ( int i = 0; i < NUMBER_OF_BUCKETS; i++ ) {
+				if ( buckets[i] == 0 ) {
+					continue;
+				}
+				report.append(
+						String.format(
+								Locale.ROOT,
+								"    [%s, %s) us : %s",
+								bucketLowerBound( i ),
+								1L << i,
+								buckets[i]
+						)
+				).append( lineSeparator );
+			}
+
+			if ( !slowest.isEmpty() ) {
+				final List<Item> ordered = new ArrayList<>( slowest );
+				ordered.sort( Comparator.comparingLong( (Item item) -> item.measurement.getWallNanos() ).reversed() );
+				report.append( "  slowest :" ).append( lineSeparator );
+				for ( Item item : ordered ) {
+					report.append(
+							String.format(
+									Locale.ROOT,
+									"    %s (%s) : %s",
+									item.name,
+									item.kind,
+									describe( item.measurement )
+							)
+					).append( lineSeparator );
+				}
+			}
+		}
+	}
+
+	private static class Item {
+		private final String kind;
+		private final String name;
+		private final BootModelMeasurement measurement;
+
+		private Item(String kind, String name, BootModelMeasurement measurement) {
+			this.kind = kind;
+			this.name = name;
+			this.measurement = measurement;
+		}
+	}
+}
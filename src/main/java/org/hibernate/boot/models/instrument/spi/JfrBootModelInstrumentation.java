@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.instrument.spi;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.hibernate.boot.models.instrument.internal.BootModelItemEvent;
+import org.hibernate.boot.models.instrument.internal.BootModelStageEvent;
+
+import jdk.jfr.EventType;
+
+/**
+ * BootModelInstrumentation reporting {@linkplain jdk.jfr JFR} events - {@value BootModelStageEvent#NAME}
+ * per stage and {@value BootModelItemEvent#NAME} per class and hierarchy.  Events are begun when
+ * the work starts and ended when it completes, so their duration covers the work itself; they are
+ * only committed when enabled in the active recording.
+ * <p/>
+ * Selected by {@link org.hibernate.boot.models.spi.ModelSourceSettings#BOOT_MODEL_INSTRUMENTATION}
+ * value {@code jfr}.
+ *
+ * @author Steve Ebersole
+ */
+public class JfrBootModelInstrumentation implements BootModelInstrumentation {
+	public static final String SHORT_NAME = "jfr";
+
+	private final EventType itemEventType = EventType.getEventType( BootModelItemEvent.class );
+
+	// events begun and not yet ended, per thread - neither stages nor items nest
+	private final ThreadLocal<Deque<BootModelStageEvent>> stageEvents = ThreadLocal.withInitial( ArrayDeque::new );
+	private final ThreadLocal<Deque<BootModelItemEvent>> itemEvents = ThreadLocal.withInitial( ArrayDeque::new );
+
+	@Override
+	public boolean isDetailEnabled() {
+		return itemEventType.isEnabled();
+	}
+
+	@Override
+	public void stageStarted(BootModelStage stage) {
+		final BootModelStageEvent event = new BootModelStageEvent();
+		event.begin();
+		stageEvents.get().push( event );
+	}
+
+	@Override
+	public void stageCompleted(BootModelStage stage, BootModelMeasurement measurement) {
+		final BootModelStageEvent event = stageEvents.get().pop();
+		event.end();
+		if ( !event.shouldCommit() ) {
+			return;
+		}
+		event.stage = stage.name();
+		event.wallTime = measurement.getWallNanos();
+		event.cpuTime = measurement.getCpuNanos();
+		event.allocated = measurement.getAllocatedBytes();
+		event.commit();
+	}
+
+	@Override
+	public void itemStarted(BootModelStage stage) {
+		final BootModelItemEvent event = new BootModelItemEvent();
+		event.begin();
+		itemEvents.get().push( event );
+	}
+
+	@Override
+	public void classProcessed(BootModelStage stage, String className, BootModelMeasurement measurement) {
+		commitItemEvent( stage, BootModelItemEvent.CLASS, className, measurement );
+	}
+
+	@Override
+	public void hierarchyProcessed(BootModelStage stage, String rootClassName, BootModelMeasurement measurement) {
+		commitItemEvent( stage, BootModelItemEvent.HIERARCHY, rootClassName, measurement );
+	}
+
+	private void commitItemEvent(BootModelStage stage, String kind, String name, BootModelMeasurement measurement) {
+		final BootModelItemEvent event = itemEvents.get().pop();
+		event.end();
+		if ( !event.shouldCommit() ) {
+			return;
+		}
+		event.stage = stage.name();
+		event.kind = kind;
+		event.name = name;
+		event.wallTime = measurement.getWallNanos();
+		event.cpuTime = measurement.getCpuNanos();
+		event.allocated = measurement.getAllocatedBytes();
+		event.commit();
+	}
+}
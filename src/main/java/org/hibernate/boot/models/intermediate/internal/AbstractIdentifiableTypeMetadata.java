@@ -28,8 +28,8 @@ import org.hibernate.boot.models.source.internal.AnnotationWrapperHelper;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
-import org.hibernate.boot.models.source.spi.MethodDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
 
 import jakarta.persistence.Access;
@@ -349,14 +349,15 @@ public abstract class AbstractIdentifiableTypeMetadata
 	private void collectEntityListenerCallbacks(
 			IdentifiableTypeMetadata typeMetadata,
 			ArrayList<CallbacksMetadata> callbacks) {
-		if ( getManagedClass().getAnnotation( JpaAnnotations.EXCLUDE_SUPERCLASS_LISTENERS ) == null ) {
+		final ClassDetails managedClass = typeMetadata.getManagedClass();
+		if ( managedClass.getAnnotation( JpaAnnotations.EXCLUDE_SUPERCLASS_LISTENERS ) == null ) {
 			// walk super-type tree first, collecting callbacks
-			if ( getSuperType() != null ) {
-				collectEntityListenerCallbacks( getSuperType(), callbacks );
+			if ( typeMetadata.getSuperType() != null ) {
+				collectEntityListenerCallbacks( typeMetadata.getSuperType(), callbacks );
 			}
 		}
 
-		final AnnotationUsage<EntityListeners> entityListenersAnnotation = getManagedClass().getAnnotation( JpaAnnotations.ENTITY_LISTENERS );
+		final AnnotationUsage<EntityListeners> entityListenersAnnotation = managedClass.getAnnotation( JpaAnnotations.ENTITY_LISTENERS );
 		if ( entityListenersAnnotation != null ) {
 			final ClassDetails[] listenerClasses = AnnotationWrapperHelper.extractValue( entityListenersAnnotation, VALUE );
 			for ( int i = 0; i < listenerClasses.length; i++ ) {
@@ -374,8 +375,8 @@ public abstract class AbstractIdentifiableTypeMetadata
 		}
 
 		// walk super-type tree first, collecting callbacks
-		if ( getSuperType() != null ) {
-			collectMethodCallbacks( getSuperType(), callbacks );
+		if ( typeMetadata.getSuperType() != null ) {
+			collectMethodCallbacks( typeMetadata.getSuperType(), callbacks );
 		}
 
 		collectCallbacks( typeMetadata.getManagedClass(), false, callbacks );
@@ -385,49 +386,9 @@ public abstract class AbstractIdentifiableTypeMetadata
 			ClassDetails callbackClassInfo,
 			boolean isListener,
 			ArrayList<CallbacksMetadata> callbacks) {
-		final MethodDetails prePersistCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.PRE_PERSIST,
-				isListener
-		);
-		final MethodDetails preRemoveCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.PRE_REMOVE,
-				isListener
-		);
-		final MethodDetails preUpdateCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.PRE_UPDATE,
-				isListener
-		);
-		final MethodDetails postLoadCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.POST_LOAD,
-				isListener
-		);
-		final MethodDetails postPersistCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.POST_PERSIST,
-				isListener
-		);
-		final MethodDetails postRemoveCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.POST_REMOVE,
-				isListener
-		);
-		final MethodDetails postUpdateCallback = MetadataHelper.findCallback(
-				callbackClassInfo,
-				JpaAnnotations.POST_UPDATE,
-				isListener
-		);
-
-		if ( prePersistCallback == null
-				&& preRemoveCallback == null
-				&& preUpdateCallback == null
-				&& postLoadCallback == null
-				&& postPersistCallback == null
-				&& postRemoveCallback == null
-				&& postUpdateCallback == null ) {
+		// one pass over the methods of the class, cached with its member table
+		final ClassMemberTable memberTable = callbackClassInfo.getMemberTable();
+		if ( !memberTable.hasLifecycleCallbacks() ) {
 			if ( isListener ) {
 				MODEL_SOURCE_LOGGER.debugf(
 						"Entity listener class [%s] named by @EntityListener on entity [%s] contained no callback methods",
@@ -435,22 +396,22 @@ public abstract class AbstractIdentifiableTypeMetadata
 						getManagedClass().getName()
 				);
 			}
+			return;
 		}
-		else {
-			callbacks.add(
-					new CallbacksMetadata(
-							callbackClassInfo,
-							isListener,
-							prePersistCallback,
-							preRemoveCallback,
-							preUpdateCallback,
-							postLoadCallback,
-							postPersistCallback,
-							postRemoveCallback,
-							postUpdateCallback
-					)
-			);
-		}
+
+		callbacks.add(
+				new CallbacksMetadata(
+						callbackClassInfo,
+						isListener,
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.PRE_PERSIST, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.PRE_REMOVE, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.PRE_UPDATE, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.POST_LOAD, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.POST_PERSIST, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.POST_REMOVE, isListener ),
+						MetadataHelper.findCallback( callbackClassInfo, JpaAnnotations.POST_UPDATE, isListener )
+				)
+		);
 	}
 
 	@Override
@@ -11,8 +11,6 @@ import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 
-import org.hibernate.annotations.Any;
-import org.hibernate.annotations.ManyToAny;
 import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.model.source.spi.AttributeRole;
 import org.hibernate.boot.model.source.spi.NaturalIdMutability;
@@ -22,6 +20,7 @@ import org.hibernate.boot.models.intermediate.spi.ManagedTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.ModelBuildingContext;
 import org.hibernate.boot.models.intermediate.spi.OverrideAndConverterCollector;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.HibernateAnnotations;
@@ -30,17 +29,7 @@ import org.hibernate.boot.models.source.spi.MemberDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
 import org.hibernate.internal.util.IndexedConsumer;
 
-import jakarta.persistence.Basic;
-import jakarta.persistence.ElementCollection;
-import jakarta.persistence.Embedded;
-import jakarta.persistence.EmbeddedId;
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
-
 import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGGER;
-import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 
 /**
  * Models metadata about a JPA {@linkplain jakarta.persistence.metamodel.ManagedType managed-type}.
@@ -118,26 +107,38 @@ public abstract class AbstractManagedTypeMetadata implements OverrideAndConverte
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// attribute handling
 
-	protected abstract List<AttributeMetadata> attributeList();
+	protected abstract AttributeTable attributeTable();
 
 	@Override
 	public int getNumberOfAttributes() {
-		return attributeList().size();
+		return attributeTable().size();
 	}
 
 	@Override
 	public Collection<AttributeMetadata> getAttributes() {
-		return attributeList();
+		return attributeTable().asList();
 	}
 
 	@Override
 	public void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer) {
-		for ( int i = 0; i < attributeList().size(); i++ ) {
-			consumer.accept( i, attributeList().get( i ) );
+		attributeTable().forEach( consumer );
+	}
+
+	@Override
+	public AttributeMetadata findAttribute(String name) {
+		return attributeTable().find( name );
+	}
+
+	@Override
+	public AttributeMetadata findAttribute(AttributePath attributePath) {
+		final AttributePath parent = attributePath.getParent();
+		if ( parent == null || !parent.getFullPath().equals( attributePathBase.getFullPath() ) ) {
+			return null;
 		}
+		return attributeTable().find( attributePath.getProperty() );
 	}
 
-	protected List<AttributeMetadata> resolveAttributes() {
+	protected AttributeTable resolveAttributes() {
 // todo (annotation-source) : add MetadataBuildingOptions#getPersistentAttributeMemberResolver
 //		final List<MemberDetails> backingMembers = processingContext
 //				.getMetadataBuildingContext()
@@ -150,112 +151,101 @@ public abstract class AbstractManagedTypeMetadata implements OverrideAndConverte
 				this
 		);
 
-		final List<AttributeMetadata> attributeList = arrayList( backingMembers.size() );
-
-		for ( MemberDetails backingMember : backingMembers ) {
-			final AttributeMetadata attribute = new AttributeMetadataImpl(
+		final AttributeMetadata[] attributes = new AttributeMetadata[ backingMembers.size() ];
+		for ( int i = 0; i < attributes.length; i++ ) {
+			final MemberDetails backingMember = backingMembers.get( i );
+			attributes[i] = new AttributeMetadataImpl(
 					backingMember.resolveAttributeName(),
 					determineAttributeNature( backingMember ),
 					backingMember
 			);
-			attributeList.add( attribute );
 		}
 
-		return attributeList;
+		return AttributeTable.build( attributes );
 	}
 
+	private static final AnnotationPresence EXPLICIT_EMBEDDED = AnnotationPresence.of(
+			JpaAnnotations.EMBEDDED,
+			JpaAnnotations.EMBEDDED_ID
+	);
+	private static final AnnotationPresence EXPLICIT_TO_ONE = AnnotationPresence.of(
+			JpaAnnotations.ONE_TO_ONE,
+			JpaAnnotations.MANY_TO_ONE
+	);
+	private static final AnnotationPresence EXPLICIT_PLURAL = AnnotationPresence.of(
+			JpaAnnotations.ONE_TO_MANY,
+			JpaAnnotations.MANY_TO_MANY,
+			JpaAnnotations.ELEMENT_COLLECTION,
+			HibernateAnnotations.MANY_TO_ANY
+	);
+	private static final AnnotationPresence IMPLICIT_BASIC = AnnotationPresence.of(
+			JpaAnnotations.TEMPORAL,
+			JpaAnnotations.LOB,
+			JpaAnnotations.ENUMERATED,
+			JpaAnnotations.CONVERT,
+			JpaAnnotations.VERSION,
+			HibernateAnnotations.GENERATED,
+			HibernateAnnotations.NATIONALIZED,
+			HibernateAnnotations.TZ_COLUMN,
+			HibernateAnnotations.TZ_STORAGE,
+			HibernateAnnotations.TYPE,
+			HibernateAnnotations.TENANT_ID,
+			HibernateAnnotations.JAVA_TYPE,
+			HibernateAnnotations.JDBC_TYPE_CODE,
+			HibernateAnnotations.JDBC_TYPE
+	);
+	private static final AnnotationPresence IMPLICIT_EMBEDDED = AnnotationPresence.of(
+			HibernateAnnotations.EMBEDDABLE_INSTANTIATOR,
+			HibernateAnnotations.COMPOSITE_TYPE
+	);
+	private static final AnnotationPresence IMPLICIT_ANY = AnnotationPresence.of(
+			HibernateAnnotations.ANY_DISCRIMINATOR,
+			HibernateAnnotations.ANY_DISCRIMINATOR_VALUE,
+			HibernateAnnotations.ANY_DISCRIMINATOR_VALUES,
+			HibernateAnnotations.ANY_KEY_JAVA_TYPE,
+			HibernateAnnotations.ANY_KEY_JAVA_CLASS,
+			HibernateAnnotations.ANY_KEY_JDBC_TYPE,
+			HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE
+	);
+
 	/**
 	 * Determine the attribute's nature - is it a basic mapping, an embeddable, ...?
 	 *
 	 * Also performs some simple validation around multiple natures being indicated
+	 *
+	 * @implNote Works from the member's {@linkplain AnnotationPresence annotation presence} rather than
+	 * looking up each annotation individually; the EnumSet is only needed to report multiple natures
 	 */
 	private AttributeMetadata.AttributeNature determineAttributeNature(MemberDetails backingMember) {
-		final EnumSet<AttributeMetadata.AttributeNature> natures = EnumSet.noneOf( AttributeMetadata.AttributeNature.class );
+		final AnnotationPresence presence = backingMember.getAnnotationPresence();
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// first, look for explicit nature annotations
 
-		final AnnotationUsage<Any> any = backingMember.getAnnotation( HibernateAnnotations.ANY );
-		final AnnotationUsage<Basic> basic = backingMember.getAnnotation( JpaAnnotations.BASIC );
-		final AnnotationUsage<ElementCollection> elementCollection = backingMember.getAnnotation( JpaAnnotations.ELEMENT_COLLECTION );
-		final AnnotationUsage<Embedded> embedded = backingMember.getAnnotation( JpaAnnotations.EMBEDDED );
-		final AnnotationUsage<EmbeddedId> embeddedId = backingMember.getAnnotation( JpaAnnotations.EMBEDDED_ID );
-		final AnnotationUsage<ManyToAny> manyToAny = backingMember.getAnnotation( HibernateAnnotations.MANY_TO_ANY );
-		final AnnotationUsage<ManyToMany> manyToMany = backingMember.getAnnotation( JpaAnnotations.MANY_TO_MANY );
-		final AnnotationUsage<ManyToOne> manyToOne = backingMember.getAnnotation( JpaAnnotations.MANY_TO_ONE );
-		final AnnotationUsage<OneToMany> oneToMany = backingMember.getAnnotation( JpaAnnotations.ONE_TO_MANY );
-		final AnnotationUsage<OneToOne> oneToOne = backingMember.getAnnotation( JpaAnnotations.ONE_TO_ONE );
-
-		if ( basic != null ) {
-			natures.add( AttributeMetadata.AttributeNature.BASIC );
-		}
-
-		if ( embedded != null
-				|| embeddedId != null
-				|| ( backingMember.getType() != null && backingMember.getType().getAnnotation( JpaAnnotations.EMBEDDABLE ) != null ) ) {
-			natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
-		}
-
-		if ( any != null ) {
-			natures.add( AttributeMetadata.AttributeNature.ANY );
-		}
-
-		if ( oneToOne != null
-				|| manyToOne != null ) {
-			natures.add( AttributeMetadata.AttributeNature.TO_ONE );
-		}
-
-		final boolean plural = oneToMany != null
-				|| manyToMany != null
-				|| elementCollection != null
-				|| manyToAny != null;
-		if ( plural ) {
-			natures.add( AttributeMetadata.AttributeNature.PLURAL );
-		}
+		final boolean basic = presence.contains( JpaAnnotations.BASIC );
+		boolean embedded = presence.containsAny( EXPLICIT_EMBEDDED )
+				|| ( backingMember.getType() != null && backingMember.getType().getAnnotation( JpaAnnotations.EMBEDDABLE ) != null );
+		boolean any = presence.contains( HibernateAnnotations.ANY );
+		final boolean toOne = presence.containsAny( EXPLICIT_TO_ONE );
+		final boolean plural = presence.containsAny( EXPLICIT_PLURAL );
 
 		// look at annotations that imply a nature
 		//		NOTE : these could apply to the element or index of collection, so
 		//		only do these if it is not a collection
 
+		boolean implicitBasic = false;
 		if ( !plural ) {
-			// first implicit basic nature
-			if ( backingMember.getAnnotation( JpaAnnotations.TEMPORAL ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.LOB ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.ENUMERATED ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.CONVERT ) != null
-					|| backingMember.getAnnotation( JpaAnnotations.VERSION ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.GENERATED ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.NATIONALIZED ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TZ_COLUMN ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TZ_STORAGE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.TENANT_ID ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JAVA_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JDBC_TYPE_CODE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.JDBC_TYPE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.BASIC );
-			}
-
-			// then embedded
-			if ( backingMember.getAnnotation( HibernateAnnotations.EMBEDDABLE_INSTANTIATOR ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.COMPOSITE_TYPE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
-			}
-
-			// and any
-			if ( backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR_VALUE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_DISCRIMINATOR_VALUES ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JAVA_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JAVA_CLASS ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JDBC_TYPE ) != null
-					|| backingMember.getAnnotation( HibernateAnnotations.ANY_KEY_JDBC_TYPE_CODE ) != null ) {
-				natures.add( AttributeMetadata.AttributeNature.ANY );
-			}
+			implicitBasic = presence.containsAny( IMPLICIT_BASIC );
+			embedded = embedded || presence.containsAny( IMPLICIT_EMBEDDED );
+			any = any || presence.containsAny( IMPLICIT_ANY );
 		}
 
-		int size = natures.size();
-		switch ( size ) {
+		final int count = ( basic || implicitBasic ? 1 : 0 )
+				+ ( embedded ? 1 : 0 )
+				+ ( any ? 1 : 0 )
+				+ ( toOne ? 1 : 0 )
+				+ ( plural ? 1 : 0 );
+		switch ( count ) {
 			case 0: {
 				MODEL_SOURCE_LOGGER.debugf(
 						"Implicitly interpreting attribute `%s` as BASIC",
@@ -264,9 +254,37 @@ public abstract class AbstractManagedTypeMetadata implements OverrideAndConverte
 				return AttributeMetadata.AttributeNature.BASIC;
 			}
 			case 1: {
-				return natures.iterator().next();
+				if ( basic || implicitBasic ) {
+					return AttributeMetadata.AttributeNature.BASIC;
+				}
+				if ( embedded ) {
+					return AttributeMetadata.AttributeNature.EMBEDDED;
+				}
+				if ( any ) {
+					return AttributeMetadata.AttributeNature.ANY;
+				}
+				if ( toOne ) {
+					return AttributeMetadata.AttributeNature.TO_ONE;
+				}
+				return AttributeMetadata.AttributeNature.PLURAL;
 			}
 			default: {
+				final EnumSet<AttributeMetadata.AttributeNature> natures = EnumSet.noneOf( AttributeMetadata.AttributeNature.class );
+				if ( basic || implicitBasic ) {
+					natures.add( AttributeMetadata.AttributeNature.BASIC );
+				}
+				if ( embedded ) {
+					natures.add( AttributeMetadata.AttributeNature.EMBEDDED );
+				}
+				if ( any ) {
+					natures.add( AttributeMetadata.AttributeNature.ANY );
+				}
+				if ( toOne ) {
+					natures.add( AttributeMetadata.AttributeNature.TO_ONE );
+				}
+				if ( plural ) {
+					natures.add( AttributeMetadata.AttributeNature.PLURAL );
+				}
 				throw new MultipleAttributeNaturesException( backingMember.resolveAttributeName(), natures );
 			}
 		}
@@ -16,6 +16,7 @@ import java.util.function.Function;
 import org.hibernate.boot.models.intermediate.spi.ModelBuildingContext;
 import org.hibernate.boot.models.intermediate.spi.PersistentAttributeMemberResolver;
 import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.source.spi.MemberDetails;
@@ -83,18 +84,21 @@ public abstract class AbstractPersistentAttributeMemberResolver implements Persi
 			final Consumer<MethodDetails> transientMethodConsumer,
 			ClassDetails classDetails,
 			@SuppressWarnings("unused") ModelBuildingContext processingContext) {
-		final List<FieldDetails> fields = classDetails.getFields();
+		// members which cannot be persistent attributes are never considered, so need not be checked
+		final ClassMemberTable memberTable = classDetails.getMemberTable();
+
+		final List<FieldDetails> fields = memberTable.getPersistableFields();
 		for ( int i = 0; i < fields.size(); i++ ) {
 			final FieldDetails fieldDetails = fields.get( i );
-			if ( fieldDetails.getAnnotation( JpaAnnotations.TRANSIENT ) != null ) {
+			if ( fieldDetails.getAnnotationPresence().contains( JpaAnnotations.TRANSIENT ) ) {
 				transientFieldConsumer.accept( fieldDetails );
 			}
 		}
 
-		final List<MethodDetails> methods = classDetails.getMethods();
+		final List<MethodDetails> methods = memberTable.getPersistableMethods();
 		for ( int i = 0; i < methods.size(); i++ ) {
 			final MethodDetails methodDetails = methods.get( i );
-			if ( methodDetails.getAnnotation( JpaAnnotations.TRANSIENT ) != null ) {
+			if ( methodDetails.getAnnotationPresence().contains( JpaAnnotations.TRANSIENT ) ) {
 				transientMethodConsumer.accept( methodDetails );
 			}
 		}
@@ -0,0 +1,226 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.intermediate.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.models.intermediate.spi.AttributeMetadata;
+import org.hibernate.internal.util.IndexedConsumer;
+
+/**
+ * The immutable table of attributes declared by a managed type - a dense array, in declaration
+ * order, along with a minimal perfect hash from attribute name to index.  Built once, when the
+ * managed type is created.
+ * <p/>
+ * The hash uses "hash and displace" - names are first distributed into as many buckets as there
+ * are attributes, and each bucket then gets a seed for which its names land on free slots.  A
+ * look-up is then 2 hashes and a name comparison, without allocation.
+ *
+ * @author Steve Ebersole
+ */
+public final class AttributeTable {
+	public static final AttributeTable EMPTY = new AttributeTable( new AttributeMetadata[0], new int[0], new int[0] );
+
+	// bound the seed search; only ever reached with pathological hash collisions
+	private static final int MAX_SEED = 1 << 16;
+
+	private final AttributeMetadata[] attributes;
+	private final List<AttributeMetadata> attributeList;
+
+	/**
+	 * Per bucket - a positive seed to hash the names of the bucket with, or the (negative, {@code -slot - 1})
+	 * slot of the bucket's single name
+	 */
+	private final int[] seeds;
+	/**
+	 * Per slot - the index of the attribute in {@link #attributes}
+	 */
+	private final int[] indexes;
+
+	private AttributeTable(AttributeMetadata[] attributes, int[] seeds, int[] indexes) {
+		this.attributes = attributes;
+		this.attributeList = Collections.unmodifiableList( Arrays.asList( attributes ) );
+		this.seeds = seeds;
+		this.indexes = indexes;
+	}
+
+	/**
+	 * Build the table for the given attributes, which are expected to be in declaration order
+	 *
+	 * @throws MappingException If multiple attributes have the same name
+	 */
+	public static AttributeTable build(AttributeMetadata[] attributes) {
+		final int size = attributes.length;
+		if ( size == 0 ) {
+			return EMPTY;
+		}
+
+		// distribute the names into buckets
+		final List<List<Integer>> buckets = new ArrayList<>( size );
+		for ( int i = 0; i < size; i++ ) {
+			buckets.add( new ArrayList<>( 2 ) );
+		}
+		for ( int i = 0; i < size; i++ ) {
+			buckets.get( bucket( attributes[i].getName(), size ) ).add( i );
+		}
+
+		// place the largest buckets first, while there are the most free slots
+		final List<List<Integer>> ordered = new ArrayList<>( buckets );
+		ordered.sort( (b1, b2) -> Integer.compare( b2.size(), b1.size() ) );
+
+		final int[] seeds = new int[size];
+		final int[] indexes = new int[size];
+		final boolean[] taken = new boolean[size];
+		final int[] slots = new int[size];
+
+		int nextFreeSlot = 0;
+		for ( List<Integer> bucket : ordered ) {
+			if ( bucket.isEmpty() ) {
+				break;
+			}
+
+			final int bucketIndex = bucket( attributes[bucket.get( 0 )].getName(), size );
+			if ( bucket.size() == 1 ) {
+				// single names go directly into any free slot
+				while ( taken[nextFreeSlot] ) {
+					nextFreeSlot++;
+				}
+				taken[nextFreeSlot] = true;
+				indexes[nextFreeSlot] = bucket.get( 0 );
+				seeds[bucketIndex] = -nextFreeSlot - 1;
+				continue;
+			}
+
+			final int seed = findSeed( bucket, attributes, taken, slots );
+			for ( int i = 0; i < bucket.size(); i++ ) {
+				taken[slots[i]] = true;
+				indexes[slots[i]] = bucket.get( i );
+			}
+			seeds[bucketIndex] = seed;
+		}
+
+		return new AttributeTable( attributes, seeds, indexes );
+	}
+
+	private static int findSeed(List<Integer> bucket, AttributeMetadata[] attributes, boolean[] taken, int[] slots) {
+		verifyUniqueNames( bucket, attributes );
+
+		seeds:
+		for ( int seed = 1; seed < MAX_SEED; seed++ ) {
+			for ( int i = 0; i < bucket.size(); i++ ) {
+				final int slot = slot( attributes[bucket.get( i )].getName(), seed, attributes.length );
+				if ( taken[slot] ) {
+					continue seeds;
+				}
+				for ( int j = 0; j < i; j++ ) {
+					if ( slots[j] == slot ) {
+						continue seeds;
+					}
+				}
+				slots[i] = slot;
+			}
+			return seed;
+		}
+
+		final List<String> names = new ArrayList<>( attributes.length );
+		for ( int i = 0; i < attributes.length; i++ ) {
+			names.add( attributes[i].getName() );
+		}
+		throw new MappingException(
+				String.format(
+						Locale.ROOT,
+						"Unable to build attribute table for attributes - %s",
+						names
+				)
+		);
+	}
+
+	private static void verifyUniqueNames(List<Integer> bucket, AttributeMetadata[] attributes) {
+		for ( int i = 0; i < bucket.size(); i++ ) {
+			final String name = attributes[bucket.get( i )].getName();
+			for ( int j = i + 1; j < bucket.size(); j++ ) {
+				if ( name.equals( attributes[bucket.get( j )].getName() ) ) {
+					throw new MappingException(
+							String.format(
+									Locale.ROOT,
+									"Multiple attributes named `%s`",
+									name
+							)
+					);
+				}
+			}
+		}
+	}
+
+	private static int bucket(String name, int size) {
+		return Math.floorMod( mix( name.hashCode() ), size );
+	}
+
+	private static int slot(String name, int seed, int size) {
+		return Math.floorMod( mix( name.hashCode() ^ ( seed * 0x9E3779B9 ) ), size );
+	}
+
+	private static int mix(int hash) {
+		// murmur3 finalizer
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	public int size() {
+		return attributes.length;
+	}
+
+	public AttributeMetadata get(int index) {
+		return attributes[index];
+	}
+
+	/**
+	 * The index of the named attribute, or {@code -1} if there is no such attribute
+	 */
+	public int indexOf(String name) {
+		final int size = attributes.length;
+		if ( size == 0 ) {
+			return -1;
+		}
+
+		final int seed = seeds[bucket( name, size )];
+		final int slot = seed < 0 ? -seed - 1 : slot( name, seed, size );
+		final int index = indexes[slot];
+		// names which are not attributes hash to some slot as well
+		return attributes[index].getName().equals( name ) ? index : -1;
+	}
+
+	/**
+	 * The named attribute, or {@code null} if there is no such attribute
+	 */
+	public AttributeMetadata find(String name) {
+		final int index = indexOf( name );
+		return index < 0 ? null : attributes[index];
+	}
+
+	/**
+	 * Unmodifiable view of the attributes, in declaration order
+	 */
+	public List<AttributeMetadata> asList() {
+		return attributeList;
+	}
+
+	public void forEach(IndexedConsumer<AttributeMetadata> consumer) {
+		for ( int i = 0; i < attributes.length; i++ ) {
+			consumer.accept( i, attributes[i] );
+		}
+	}
+}
@@ -6,23 +6,31 @@
  */
 package org.hibernate.boot.models.intermediate.internal;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.hibernate.boot.models.instrument.internal.BootModelRecorder;
+import org.hibernate.boot.models.instrument.spi.BootModelStage;
 import org.hibernate.boot.models.intermediate.AccessTypeDeterminationException;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
-import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.source.spi.MethodDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
-import org.hibernate.internal.util.collections.CollectionHelper;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
@@ -32,7 +40,7 @@ import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGG
 
 /**
  * Builds {@link EntityHierarchy} references from
- * {@linkplain ClassDetailsRegistry#forEachClassDetails managed classes}.
+ * {@linkplain ModelProcessingContext#getAnnotatedClasses annotated managed classes}.
  *
  * @author Steve Ebersole
  */
@@ -43,31 +51,56 @@ public class EntityHierarchyBuilder {
 	 * to the metamodel.
 	 *
 	 * @param typeConsumer Callback for any identifiable-type metadata references
+	 * @param recorder Recorder for the cost of building each hierarchy
 	 * @param processingContext The binding context, giving access to needed services and information
 	 *
 	 * @return a set of {@code EntityHierarchySource} instances.
 	 */
 	public static Set<EntityHierarchy> createEntityHierarchies(
 			Consumer<IdentifiableTypeMetadata> typeConsumer,
+			BootModelRecorder recorder,
 			ModelProcessingContext processingContext) {
-		return new EntityHierarchyBuilder( processingContext ).process( typeConsumer );
+		return new EntityHierarchyBuilder( recorder, processingContext ).process( typeConsumer );
 	}
 
+	/**
+	 * Form of {@link #createEntityHierarchies(Consumer, BootModelRecorder, ModelProcessingContext)} which builds
+	 * the hierarchies in parallel using the given {@code forkJoinPool}.
+	 *
+	 * @implNote The {@code typeConsumer} is not expected to be thread-safe.  It is always
+	 * called from the calling thread, after all hierarchies have been built, and in the same
+	 * order as for the serial form.
+	 */
+	public static Set<EntityHierarchy> createEntityHierarchies(
+			Consumer<IdentifiableTypeMetadata> typeConsumer,
+			ForkJoinPool forkJoinPool,
+			BootModelRecorder recorder,
+			ModelProcessingContext processingContext) {
+		return new EntityHierarchyBuilder( recorder, processingContext ).process( typeConsumer, forkJoinPool );
+	}
+
+	private static final AnnotationPresence ID_ANNOTATIONS = AnnotationPresence.of( JpaAnnotations.ID, JpaAnnotations.EMBEDDED_ID );
+
 	private final ModelProcessingContext processingContext;
+	private final BootModelRecorder recorder;
 
 	private final Set<ClassDetails> allKnownMappedSuperclassTypes = new HashSet<>();
 
 	public EntityHierarchyBuilder(ModelProcessingContext processingContext) {
+		this( BootModelRecorder.NONE, processingContext );
+	}
+
+	public EntityHierarchyBuilder(BootModelRecorder recorder, ModelProcessingContext processingContext) {
 		this.processingContext = processingContext;
+		this.recorder = recorder;
 	}
 
 	private Set<EntityHierarchy> process(Consumer<IdentifiableTypeMetadata> typeConsumer) {
-		final Set<ClassDetails> rootEntityClassDetails = collectRootEntityTypes();
-		final Set<EntityHierarchy> hierarchies = CollectionHelper.setOfSize( rootEntityClassDetails.size() );
+		final List<ClassDetails> rootEntityClassDetails = collectRootEntityTypes();
+		final Set<EntityHierarchy> hierarchies = new LinkedHashSet<>( rootEntityClassDetails.size() );
 
 		rootEntityClassDetails.forEach( (rootEntityManagedClass) -> {
-			final AccessType defaultAccessType = determineDefaultAccessTypeForHierarchy( rootEntityManagedClass );
-			hierarchies.add( new EntityHierarchyImpl( rootEntityManagedClass, defaultAccessType, typeConsumer, processingContext ) );
+			hierarchies.add( buildHierarchy( rootEntityManagedClass, typeConsumer ) );
 		} );
 
 		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
@@ -77,6 +110,39 @@ public class EntityHierarchyBuilder {
 		return hierarchies;
 	}
 
+	private Set<EntityHierarchy> process(Consumer<IdentifiableTypeMetadata> typeConsumer, ForkJoinPool forkJoinPool) {
+		final List<ClassDetails> rootEntityClassDetails = collectRootEntityTypes();
+
+		// collect the types per hierarchy, to be passed along to `typeConsumer` after
+		final List<List<IdentifiableTypeMetadata>> hierarchyTypes = new ArrayList<>( rootEntityClassDetails.size() );
+		for ( int i = 0; i < rootEntityClassDetails.size(); i++ ) {
+			hierarchyTypes.add( new ArrayList<>() );
+		}
+
+		final List<EntityHierarchy> builtHierarchies = forkJoinPool.submit( () -> IntStream.range( 0, rootEntityClassDetails.size() )
+				.parallel()
+				.mapToObj( (index) -> buildHierarchy( rootEntityClassDetails.get( index ), hierarchyTypes.get( index )::add ) )
+				.collect( Collectors.toList() )
+		).join();
+
+		final Set<EntityHierarchy> hierarchies = new LinkedHashSet<>( builtHierarchies );
+		hierarchyTypes.forEach( (types) -> types.forEach( typeConsumer ) );
+
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			warnAboutUnusedMappedSuperclasses( hierarchies );
+		}
+
+		return hierarchies;
+	}
+
+	private EntityHierarchy buildHierarchy(ClassDetails rootEntityManagedClass, Consumer<IdentifiableTypeMetadata> typeConsumer) {
+		final BootModelRecorder.Mark start = recorder.startDetail( BootModelStage.CREATE_ENTITY_HIERARCHIES );
+		final AccessType defaultAccessType = determineDefaultAccessTypeForHierarchy( rootEntityManagedClass );
+		final EntityHierarchyImpl hierarchy = new EntityHierarchyImpl( rootEntityManagedClass, defaultAccessType, typeConsumer, processingContext );
+		recorder.hierarchyProcessed( rootEntityManagedClass.getName(), start );
+		return hierarchy;
+	}
+
 	private void warnAboutUnusedMappedSuperclasses(Set<EntityHierarchy> hierarchies) {
 		assert MODEL_SOURCE_LOGGER_DEBUG_ENABLED;
 
@@ -148,20 +214,21 @@ public class EntityHierarchyBuilder {
 	}
 
 	private AnnotationTarget determineIdMember(ClassDetails current) {
-		final List<MethodDetails> methods = current.getMethods();
+		// the same member table is used to resolve the attributes later
+		final ClassMemberTable memberTable = current.getMemberTable();
+
+		final List<MethodDetails> methods = memberTable.getPersistableMethods();
 		for ( int i = 0; i < methods.size(); i++ ) {
 			final MethodDetails methodDetails = methods.get( i );
-			if ( methodDetails.getAnnotation( JpaAnnotations.ID ) != null
-					|| methodDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
+			if ( methodDetails.hasAnyAnnotation( ID_ANNOTATIONS ) ) {
 				return methodDetails;
 			}
 		}
 
-		final List<FieldDetails> fields = current.getFields();
+		final List<FieldDetails> fields = memberTable.getPersistableFields();
 		for ( int i = 0; i < fields.size(); i++ ) {
 			final FieldDetails fieldDetails = fields.get( i );
-			if ( fieldDetails.getAnnotation( JpaAnnotations.ID ) != null
-					|| fieldDetails.getAnnotation( JpaAnnotations.EMBEDDED_ID ) != null ) {
+			if ( fieldDetails.hasAnyAnnotation( ID_ANNOTATIONS ) ) {
 				return fieldDetails;
 			}
 		}
@@ -169,51 +236,47 @@ public class EntityHierarchyBuilder {
 		return null;
 	}
 
-	private Set<ClassDetails> collectRootEntityTypes() {
-		final Set<ClassDetails> collectedTypes = new HashSet<>();
-
-		// todo (annotation-source) : have this handle other types such as converters, etc
-
-		final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
-		classDetailsRegistry.forEachClassDetails( (managedType) -> {
-			if ( managedType.getAnnotation( JpaAnnotations.MAPPED_SUPERCLASS ) != null ) {
-				allKnownMappedSuperclassTypes.add( managedType );
-			}
-			else if ( managedType.getAnnotation( JpaAnnotations.ENTITY ) != null ) {
-				if ( isRoot( managedType ) ) {
-					collectedTypes.add( managedType );
-				}
-			}
-		} );
+	/**
+	 * Collects the root entity types, ordered by name so that hierarchies are
+	 * always built (and subsequently bound) in a deterministic order.
+	 *
+	 * @implNote Uses the {@linkplain ModelProcessingContext#getAnnotatedClasses annotated class index}
+	 * rather than checking every known ClassDetails for {@code @Entity} and {@code @MappedSuperclass}.
+	 * The index covers the classes whose class-level annotations have been processed, which
+	 * {@link org.hibernate.boot.models.bind.internal.ManagedResourcesProcessor} does for all managed
+	 * classes (and XML mappings do as they apply them).  Only the super types of the indexed entities
+	 * are walked, to find the roots.
+	 */
+	private List<ClassDetails> collectRootEntityTypes() {
+		processingContext.forEachAnnotatedClass( JpaAnnotations.MAPPED_SUPERCLASS, allKnownMappedSuperclassTypes::add );
+
+		final Set<ClassDetails> rootTypes = new HashSet<>();
+		for ( ClassDetails entityType : processingContext.getAnnotatedClasses( JpaAnnotations.ENTITY ) ) {
+			// the entity might not be the root, and the root might not be a managed class itself -
+			// walk up to the top-most entity
+			rootTypes.add( resolveRoot( entityType ) );
+		}
 
+		final List<ClassDetails> collectedTypes = new ArrayList<>( rootTypes );
+		collectedTypes.sort( Comparator.comparing( ClassDetails::getName ) );
 		return collectedTypes;
 	}
 
-	private boolean isRoot(ClassDetails classInfo) {
-		// perform a series of opt-out checks against the super-type hierarchy
-
-		// an entity is considered a root of the hierarchy if:
-		// 		1) it has no super-types
-		//		2) its super types contain no entities (MappedSuperclasses are allowed)
+	private static ClassDetails resolveRoot(ClassDetails entityType) {
+		// the root of the hierarchy is the top-most super type with `@Entity`
+		// (MappedSuperclasses are allowed above it)
 
-		if ( classInfo.getSuperType() == null ) {
-			return true;
-		}
-
-		ClassDetails current = classInfo.getSuperType();
-		while (  current != null ) {
+		ClassDetails root = entityType;
+		ClassDetails current = entityType.getSuperType();
+		while ( current != null ) {
 			if ( current.getAnnotation( JpaAnnotations.ENTITY ) != null ) {
-				// a super type has `@Entity`, cannot be root
-				return false;
+				root = current;
 			}
 			current = current.getSuperType();
 		}
-
-		// if we hit no opt-outs we have a root
-		return true;
+		return root;
 	}
 
-
 	/**
 	 * Used in tests
 	 */
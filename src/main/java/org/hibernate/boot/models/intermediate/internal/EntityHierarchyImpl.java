@@ -6,7 +6,11 @@
  */
 package org.hibernate.boot.models.intermediate.internal;
 
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.annotations.Cache;
@@ -17,6 +21,7 @@ import org.hibernate.boot.models.intermediate.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.NaturalIdCaching;
 import org.hibernate.boot.models.source.internal.AnnotationWrapperHelper;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.HibernateAnnotations;
@@ -45,6 +50,10 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 	private final Caching caching;
 	private final NaturalIdCaching naturalIdCaching;
 
+	// the effective usage of an annotation for each type, keyed by annotation.  the per-type maps
+	// are never modified once published, and hold `null` for types with no usage in effect
+	private final Map<AnnotationDescriptor<?>, Map<IdentifiableTypeMetadata, AnnotationUsage<?>>> inheritedAnnotations = new ConcurrentHashMap<>();
+
 	// todo (annotation-source) : version?  row-id?  tenant-id?  others?
 
 	public EntityHierarchyImpl(
@@ -187,6 +196,59 @@ public class EntityHierarchyImpl implements EntityHierarchy {
 		return naturalIdCaching;
 	}
 
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> findInheritedAnnotation(
+			IdentifiableTypeMetadata type,
+			AnnotationDescriptor<A> annotationDescriptor) {
+		final Map<IdentifiableTypeMetadata, AnnotationUsage<?>> effectiveUsages = inheritedAnnotations.computeIfAbsent(
+				annotationDescriptor,
+				this::resolveEffectiveUsages
+		);
+		if ( effectiveUsages.containsKey( type ) ) {
+			//noinspection unchecked
+			return (AnnotationUsage<A>) effectiveUsages.get( type );
+		}
+
+		// the type was not part of the hierarchy when the usages were resolved
+		return AnnotationWrapperHelper.resolveInheritedAnnotation( type, annotationDescriptor );
+	}
+
+	private Map<IdentifiableTypeMetadata, AnnotationUsage<?>> resolveEffectiveUsages(AnnotationDescriptor<?> annotationDescriptor) {
+		// start from the top-most type (mapped-superclasses above the root entity included) and
+		// pass the effective usage down, so each type is visited exactly once
+		IdentifiableTypeMetadata top = rootEntityTypeMetadata;
+		while ( top.getSuperType() != null ) {
+			top = top.getSuperType();
+		}
+
+		final Map<IdentifiableTypeMetadata, AnnotationUsage<?>> effectiveUsages = new HashMap<>();
+		collectEffectiveUsages( top, null, annotationDescriptor, effectiveUsages );
+		return effectiveUsages;
+	}
+
+	private static void collectEffectiveUsages(
+			IdentifiableTypeMetadata type,
+			AnnotationUsage<?> superTypeUsage,
+			AnnotationDescriptor<?> annotationDescriptor,
+			Map<IdentifiableTypeMetadata, AnnotationUsage<?>> effectiveUsages) {
+		final AnnotationUsage<?> localUsage = type.getManagedClass().getAnnotation( annotationDescriptor );
+		final AnnotationUsage<?> effectiveUsage;
+		if ( localUsage != null ) {
+			effectiveUsage = localUsage;
+		}
+		else if ( !annotationDescriptor.isInherited() ) {
+			// not `@Inherited`, so manually apply the super type's usage
+			effectiveUsage = superTypeUsage;
+		}
+		else {
+			// `@Inherited` usages are already visible on the type itself
+			effectiveUsage = null;
+		}
+
+		effectiveUsages.put( type, effectiveUsage );
+		type.forEachSubType( (subType) -> collectEffectiveUsages( subType, effectiveUsage, annotationDescriptor, effectiveUsages ) );
+	}
+
 	@Override
 	public String toString() {
 		return String.format(
@@ -6,11 +6,9 @@
  */
 package org.hibernate.boot.models.intermediate.internal;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.model.naming.EntityNaming;
-import org.hibernate.boot.models.intermediate.spi.AttributeMetadata;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
@@ -37,7 +35,7 @@ public class EntityTypeMetadataImpl
 	private final String entityName;
 	private final String jpaEntityName;
 
-	private final List<AttributeMetadata> attributeList;
+	private final AttributeTable attributeTable;
 
 //	private final String proxy;
 //
@@ -125,7 +123,7 @@ public class EntityTypeMetadataImpl
 //			this.discriminatorMatchValue = null;
 //		}
 
-		this.attributeList = resolveAttributes();
+		this.attributeTable = resolveAttributes();
 	}
 
 	/**
@@ -148,7 +146,7 @@ public class EntityTypeMetadataImpl
 		final AnnotationUsage<Entity> entityAnnotation = classDetails.getAnnotation( JpaAnnotations.ENTITY );
 		this.jpaEntityName = determineJpaEntityName( entityAnnotation, entityName );
 
-		this.attributeList = resolveAttributes();
+		this.attributeTable = resolveAttributes();
 	}
 
 	private String determineJpaEntityName(AnnotationUsage<Entity> entityAnnotation, String entityName) {
@@ -160,8 +158,8 @@ public class EntityTypeMetadataImpl
 	}
 
 	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
+	protected AttributeTable attributeTable() {
+		return attributeTable;
 	}
 
 //	private String determineCustomLoader() {
@@ -6,10 +6,8 @@
  */
 package org.hibernate.boot.models.intermediate.internal;
 
-import java.util.List;
 import java.util.function.Consumer;
 
-import org.hibernate.boot.models.intermediate.spi.AttributeMetadata;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
 import org.hibernate.boot.models.intermediate.spi.MappedSuperclassTypeMetadata;
@@ -25,7 +23,7 @@ public class MappedSuperclassTypeMetadataImpl
 		extends AbstractIdentifiableTypeMetadata
 		implements MappedSuperclassTypeMetadata {
 
-	private final List<AttributeMetadata> attributeList;
+	private final AttributeTable attributeTable;
 
 	public MappedSuperclassTypeMetadataImpl(
 			ClassDetails classDetails,
@@ -35,7 +33,7 @@ public class MappedSuperclassTypeMetadataImpl
 			ModelProcessingContext processingContext) {
 		super( classDetails, hierarchy, false, defaultAccessType, typeConsumer, processingContext );
 
-		this.attributeList = resolveAttributes();
+		this.attributeTable = resolveAttributes();
 	}
 
 	public MappedSuperclassTypeMetadataImpl(
@@ -46,11 +44,11 @@ public class MappedSuperclassTypeMetadataImpl
 			ModelProcessingContext processingContext) {
 		super( classDetails, hierarchy, superType, typeConsumer, processingContext );
 
-		this.attributeList = resolveAttributes();
+		this.attributeTable = resolveAttributes();
 	}
 
 	@Override
-	protected List<AttributeMetadata> attributeList() {
-		return attributeList;
+	protected AttributeTable attributeTable() {
+		return attributeTable;
 	}
 }
@@ -7,13 +7,9 @@
 package org.hibernate.boot.models.intermediate.internal;
 
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
-import org.hibernate.boot.models.source.spi.AnnotationTarget;
-import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.MethodDetails;
 
-import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGGER;
-
 /**
  * @author Steve Ebersole
  */
@@ -35,28 +31,13 @@ public class MetadataHelper {
 			ClassDetails callbackClassInfo,
 			AnnotationDescriptor<?> eventAnnotationType,
 			boolean listener) {
-		final Iterable<? extends AnnotationUsage<?>> listenerAnnotations = callbackClassInfo.getRepeatedAnnotations( eventAnnotationType );
-		for ( AnnotationUsage<?> listenerAnnotation : listenerAnnotations ) {
-			final AnnotationTarget annotationTarget = listenerAnnotation.getAnnotationTarget();
-			if ( ! (annotationTarget instanceof MethodDetails ) ) {
-				MODEL_SOURCE_LOGGER.debugf(
-						"Skipping callback annotation [%s] for class [%s] as it was " +
-								"applied to target other than a method : %s",
-						eventAnnotationType.getAnnotationType(),
-						callbackClassInfo.getName(),
-						annotationTarget
-				);
-				continue;
-			}
-
-			final MethodDetails targetMethod = (MethodDetails) annotationTarget;
-
-			// todo (annotation-source) - validate method arguments
+		// the member table indexes all callbacks of the class in a single pass, and is shared
+		// by every entity naming the class as a listener
+		final MethodDetails targetMethod = callbackClassInfo.getMemberTable().getLifecycleCallback( eventAnnotationType );
 
-			return targetMethod;
-		}
+		// todo (annotation-source) - validate method arguments
 
-		return null;
+		return targetMethod;
 	}
 
 	private MetadataHelper() {
@@ -7,8 +7,9 @@
 package org.hibernate.boot.models.intermediate.internal;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -18,6 +19,7 @@ import org.hibernate.boot.models.intermediate.spi.ModelBuildingContext;
 import org.hibernate.boot.models.source.internal.AnnotationWrapperHelper;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.source.spi.MemberDetails;
@@ -49,10 +51,24 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 			ModelBuildingContext processingContext) {
 		assert classLevelAccessType != null;
 
-		final LinkedHashMap<String,MemberDetails> results = new LinkedHashMap<>();
+		// collected directly into the list handed to the attribute table, in declaration order, tracking
+		// the position of each name.  same semantics as the map this replaces - an attribute-level member
+		// replaces an earlier one of the same name, while the class-level pass skips names already
+		// collected (the second of an `isX` / `getX` pair, e.g.)
+		final List<MemberDetails> results = new ArrayList<>();
+		final Map<String,Integer> positions = new HashMap<>();
+		final BiConsumer<String,MemberDetails> collector = (name, memberDetails) -> {
+			final Integer position = positions.putIfAbsent( name, results.size() );
+			if ( position == null ) {
+				results.add( memberDetails );
+			}
+			else {
+				results.set( position, memberDetails );
+			}
+		};
 
 		processAttributeLevelAccess(
-				results::put,
+				collector,
 				transientFieldChecker,
 				transientMethodChecker,
 				classDetails,
@@ -60,8 +76,8 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 		);
 
 		processClassLevelAccess(
-				results::containsKey,
-				results::put,
+				positions::containsKey,
+				collector,
 				transientFieldChecker,
 				transientMethodChecker,
 				classDetails,
@@ -69,7 +85,7 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 				processingContext
 		);
 
-		return new ArrayList<>( results.values() );
+		return results;
 	}
 
 	private <M extends MemberDetails> void processAttributeLevelAccessMember(
@@ -106,13 +122,15 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 			Function<MethodDetails,Boolean> transientMethodChecker,
 			ClassDetails classDetails,
 			ModelBuildingContext processingContext) {
-		final List<FieldDetails> fields = classDetails.getFields();
+		final ClassMemberTable memberTable = classDetails.getMemberTable();
+
+		final List<FieldDetails> fields = memberTable.getPersistableFields();
 		for ( int i = 0; i < fields.size(); i++ ) {
 			final FieldDetails fieldDetails = fields.get( i );
 			processAttributeLevelAccessMember( fieldDetails, memberConsumer, transientFieldChecker, classDetails, processingContext );
 		}
 
-		final List<MethodDetails> methods = classDetails.getMethods();
+		final List<MethodDetails> methods = memberTable.getPersistableMethods();
 		for ( int i = 0; i < methods.size(); i++ ) {
 			final MethodDetails methodDetails = methods.get( i );
 			processAttributeLevelAccessMember( methodDetails, memberConsumer, transientMethodChecker, classDetails, processingContext );
@@ -144,15 +162,12 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 			ClassDetails classDetails,
 			AccessType classLevelAccessType,
 			@SuppressWarnings("unused") ModelBuildingContext processingContext) {
+		// the member table holds only members which can be persistent attributes
+		final ClassMemberTable memberTable = classDetails.getMemberTable();
 		if ( classLevelAccessType == AccessType.FIELD ) {
-			final List<FieldDetails> fields = classDetails.getFields();
+			final List<FieldDetails> fields = memberTable.getPersistableFields();
 			for ( int i = 0; i < fields.size(); i++ ) {
 				final FieldDetails fieldDetails = fields.get( i );
-				if ( !fieldDetails.isPersistable() ) {
-					// the field cannot be a persistent attribute
-					continue;
-				}
-
 				final String attributeName = fieldDetails.resolveAttributeName();
 				if ( alreadyProcessedChecker.apply( attributeName ) ) {
 					continue;
@@ -168,13 +183,9 @@ public class StandardPersistentAttributeMemberResolver extends AbstractPersisten
 		}
 		else {
 			assert classLevelAccessType == AccessType.PROPERTY;
-			final List<MethodDetails> methods = classDetails.getMethods();
+			final List<MethodDetails> methods = memberTable.getPersistableMethods();
 			for ( int i = 0; i < methods.size(); i++ ) {
 				final MethodDetails methodDetails = methods.get( i );
-				if ( !methodDetails.isPersistable() ) {
-					continue;
-				}
-
 				final String attributeName = methodDetails.resolveAttributeName();
 				if ( alreadyProcessedChecker.apply( attributeName ) ) {
 					continue;
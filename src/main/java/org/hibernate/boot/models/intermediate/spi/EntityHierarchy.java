@@ -6,6 +6,11 @@
  */
 package org.hibernate.boot.models.intermediate.spi;
 
+import java.lang.annotation.Annotation;
+
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+
 import jakarta.persistence.InheritanceType;
 
 /**
@@ -34,4 +39,15 @@ public interface EntityHierarchy {
 	 * The caching configuration for this hierarchy's {@linkplain org.hibernate.annotations.NaturalId natural-id}
 	 */
 	NaturalIdCaching getNaturalIdCaching();
+
+	/**
+	 * The usage of the given annotation in effect for the given type of this hierarchy - the
+	 * usage on the type itself or, for annotations not marked {@link java.lang.annotation.Inherited},
+	 * the nearest usage on its super types.
+	 *
+	 * @see org.hibernate.boot.models.source.internal.AnnotationWrapperHelper#findInheritedAnnotation
+	 */
+	<A extends Annotation> AnnotationUsage<A> findInheritedAnnotation(
+			IdentifiableTypeMetadata type,
+			AnnotationDescriptor<A> annotationDescriptor);
 }
@@ -9,6 +9,7 @@ package org.hibernate.boot.models.intermediate.spi;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 
+import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
@@ -49,6 +50,18 @@ public interface ManagedTypeMetadata {
 	 */
 	void forEachAttribute(IndexedConsumer<AttributeMetadata> consumer);
 
+	/**
+	 * Find a declared attribute by name.  Returns {@code null} if there is no such attribute
+	 */
+	AttributeMetadata findAttribute(String name);
+
+	/**
+	 * Find a declared attribute by path - the path of an attribute directly under the
+	 * {@linkplain OverrideAndConverterCollector#getAttributePathBase() attribute path base} of this type.
+	 * Returns {@code null} if there is no such attribute
+	 */
+	AttributeMetadata findAttribute(AttributePath attributePath);
+
 	/**
 	 * Find the usages of the given annotation type.
 	 * <p/>
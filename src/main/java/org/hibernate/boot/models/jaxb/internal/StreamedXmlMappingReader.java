@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.jaxb.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.util.EventReaderDelegate;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.validation.Schema;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.internal.stax.MappingEventReader;
+import org.hibernate.boot.jaxb.mapping.JaxbEmbeddable;
+import org.hibernate.boot.jaxb.mapping.JaxbEntity;
+import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
+import org.hibernate.boot.jaxb.mapping.JaxbMappedSuperclass;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.xsd.MappingXsdSupport;
+
+import org.xml.sax.SAXException;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Reads {@code mapping.xml} documents by streaming them with StAX, for processing by
+ * {@link XmlMappingProcessor} just like the documents bound up front.
+ * <p/>
+ * Each document is streamed twice - once to validate it against the mapping XSD and once
+ * to bind it.  The document is never bound as a whole; each {@code <entity/>},
+ * {@code <mapped-superclass/>} and {@code <embeddable/>} is bound to its JAXB node on its
+ * own as it is reached, and the rest of the document (the globals) is bound to the
+ * {@link JaxbEntityMappings} root.
+ *
+ * @see org.hibernate.boot.models.spi.ModelSourceSettings#STREAMED_XML_MAPPINGS
+ *
+ * @author Steve Ebersole
+ */
+public class StreamedXmlMappingReader {
+	private static final String ENTITY = "entity";
+	private static final String MAPPED_SUPERCLASS = "mapped-superclass";
+	private static final String EMBEDDABLE = "embeddable";
+	private static final Set<String> MANAGED_TYPES = Set.of( ENTITY, MAPPED_SUPERCLASS, EMBEDDABLE );
+
+	private final ClassLoaderService classLoaderService;
+	private final XMLInputFactory xmlInputFactory;
+	private final XMLEventFactory xmlEventFactory;
+	private final JAXBContext jaxbContext;
+	private final Schema schema;
+
+	public StreamedXmlMappingReader(ClassLoaderService classLoaderService) {
+		this.classLoaderService = classLoaderService;
+
+		this.xmlInputFactory = XMLInputFactory.newFactory();
+		xmlInputFactory.setProperty( XMLInputFactory.SUPPORT_DTD, false );
+		xmlInputFactory.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false );
+		this.xmlEventFactory = XMLEventFactory.newFactory();
+
+		try {
+			this.jaxbContext = JAXBContext.newInstance( JaxbEntityMappings.class );
+		}
+		catch (JAXBException e) {
+			throw new MappingException( "Unable to create JAXBContext for streamed XML mappings", e );
+		}
+		this.schema = MappingXsdSupport.latestDescriptor().getSchema();
+	}
+
+	/**
+	 * Read the named mapping document
+	 *
+	 * @throws MappingException If the document cannot be located or read, or is not valid
+	 */
+	public Binding<BindableMappingDescriptor> read(String resourceName) {
+		final Origin origin = new Origin( SourceType.RESOURCE, resourceName );
+		validate( origin );
+		return new Binding<>( bind( origin ), origin );
+	}
+
+	private void validate(Origin origin) {
+		try ( InputStream stream = openStream( origin ) ) {
+			final XMLEventReader reader = createEventReader( stream );
+			try {
+				schema.newValidator().validate( new StAXSource( reader ) );
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch (SAXException e) {
+			throw new MappingException(
+					String.format( Locale.ROOT, "Invalid streamed XML mapping - %s : %s", origin.getName(), e.getMessage() ),
+					e
+			);
+		}
+		catch (IOException | XMLStreamException e) {
+			throw new MappingException( "Unable to read streamed XML mapping - " + origin.getName(), e );
+		}
+	}
+
+	private JaxbEntityMappings bind(Origin origin) {
+		try ( InputStream stream = openStream( origin ) ) {
+			final XMLEventReader reader = createEventReader( stream );
+			try {
+				final ManagedTypeExtractor extractor = new ManagedTypeExtractor( reader, jaxbContext.createUnmarshaller() );
+				final JaxbEntityMappings root = jaxbContext.createUnmarshaller()
+						.unmarshal( extractor, JaxbEntityMappings.class )
+						.getValue();
+				extractor.addManagedTypes( root );
+				return root;
+			}
+			finally {
+				reader.close();
+			}
+		}
+		catch (IOException | XMLStreamException | JAXBException e) {
+			throw new MappingException( "Unable to read streamed XML mapping - " + origin.getName(), e );
+		}
+	}
+
+	private InputStream openStream(Origin origin) {
+		final InputStream stream = classLoaderService.locateResourceStream( origin.getName() );
+		if ( stream == null ) {
+			throw new MappingException( "Unable to locate streamed XML mapping - " + origin.getName() );
+		}
+		return stream;
+	}
+
+	private XMLEventReader createEventReader(InputStream stream) throws XMLStreamException {
+		// normalizes JPA orm.xml documents to the Hibernate mapping namespace and version
+		return new MappingEventReader( xmlInputFactory.createXMLEventReader( stream ), xmlEventFactory );
+	}
+
+	/**
+	 * Hides the managed types (entities, mapped-superclasses and embeddables) from the binding of
+	 * the document root, binding each of them separately instead as they are reached
+	 */
+	private static class ManagedTypeExtractor extends EventReaderDelegate {
+		private final Unmarshaller unmarshaller;
+
+		private final List<JaxbEntity> entities = new ArrayList<>();
+		private final List<JaxbMappedSuperclass> mappedSuperclasses = new ArrayList<>();
+		private final List<JaxbEmbeddable> embeddables = new ArrayList<>();
+
+		// depth of the last event handed out - 1 within the root element
+		private int depth;
+
+		private ManagedTypeExtractor(XMLEventReader reader, Unmarshaller unmarshaller) {
+			super( reader );
+			this.unmarshaller = unmarshaller;
+		}
+
+		@Override
+		public XMLEvent nextEvent() throws XMLStreamException {
+			extractManagedTypes();
+			final XMLEvent event = super.nextEvent();
+			if ( event.getEventType() == START_ELEMENT ) {
+				depth++;
+			}
+			else if ( event.getEventType() == END_ELEMENT ) {
+				depth--;
+			}
+			return event;
+		}
+
+		@Override
+		public Object next() {
+			try {
+				return nextEvent();
+			}
+			catch (XMLStreamException e) {
+				throw new MappingException( "Unable to read streamed XML mapping", e );
+			}
+		}
+
+		@Override
+		public XMLEvent peek() throws XMLStreamException {
+			extractManagedTypes();
+			return super.peek();
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				extractManagedTypes();
+			}
+			catch (XMLStreamException e) {
+				throw new MappingException( "Unable to read streamed XML mapping", e );
+			}
+			return super.hasNext();
+		}
+
+		private void extractManagedTypes() throws XMLStreamException {
+			if ( depth != 1 ) {
+				return;
+			}
+
+			while ( getParent().hasNext() ) {
+				final XMLEvent upcoming = getParent().peek();
+				if ( upcoming.getEventType() != START_ELEMENT ) {
+					return;
+				}
+				final StartElement startElement = upcoming.asStartElement();
+				final String elementName = startElement.getName().getLocalPart();
+				if ( !MANAGED_TYPES.contains( elementName ) ) {
+					return;
+				}
+
+				// binds the element, leaving the underlying reader after its end tag
+				try {
+					switch ( elementName ) {
+						case ENTITY: {
+							entities.add( unmarshaller.unmarshal( getParent(), JaxbEntity.class ).getValue() );
+							break;
+						}
+						case MAPPED_SUPERCLASS: {
+							mappedSuperclasses.add( unmarshaller.unmarshal( getParent(), JaxbMappedSuperclass.class ).getValue() );
+							break;
+						}
+						default: {
+							embeddables.add( unmarshaller.unmarshal( getParent(), JaxbEmbeddable.class ).getValue() );
+						}
+					}
+				}
+				catch (JAXBException e) {
+					throw new XMLStreamException( "Unable to bind `<" + elementName + "/>`", startElement.getLocation(), e );
+				}
+			}
+		}
+
+		private void addManagedTypes(JaxbEntityMappings root) {
+			root.getEntities().addAll( entities );
+			root.getMappedSuperclasses().addAll( mappedSuperclasses );
+			root.getEmbeddables().addAll( embeddables );
+		}
+	}
+}
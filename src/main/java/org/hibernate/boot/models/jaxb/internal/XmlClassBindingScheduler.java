@@ -0,0 +1,310 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.jaxb.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.jaxb.mapping.JaxbAttributes;
+import org.hibernate.boot.jaxb.mapping.JaxbEmbeddable;
+import org.hibernate.boot.jaxb.mapping.JaxbEntity;
+import org.hibernate.boot.jaxb.mapping.JaxbMappedSuperclass;
+import org.hibernate.boot.jaxb.mapping.ManagedType;
+import org.hibernate.boot.jaxb.mapping.PersistentAttribute;
+import org.hibernate.boot.models.jaxb.spi.ClassProcessingContext;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.StringHelper;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.MethodInfo;
+
+import jakarta.persistence.AccessType;
+
+/**
+ * Arranges the XML class bindings (entities, mapped-superclasses and embeddables) into
+ * a dependency graph and schedules them into "waves" in topological order.  Every class
+ * binding in a wave depends only on class bindings from previous waves, so the class
+ * bindings within a wave can be processed in any order, including concurrently.
+ * <p/>
+ * A class binding depends on<ul>
+ *     <li>its closest managed super type, when that super type is also mapped in XML</li>
+ *     <li>the XML-mapped embeddable types of the attributes it maps as {@code <embedded/>} or {@code <embedded-id/>}</li>
+ * </ul>
+ * The attributes come from the XML mapping; orm.xml names neither super types nor attribute types,
+ * so those are read from the class files by name - the classes are never loaded, and their
+ * annotations are ignored.  The closest managed super type is either mapped in XML or
+ * annotated as an entity or mapped-superclass (and so already known to the {@link ClassDetailsRegistry}).
+ * Classes without a class file (dynamic models) have no super type.
+ *
+ * @author Steve Ebersole
+ */
+public class XmlClassBindingScheduler {
+	private static final AnnotationPresence MANAGED_SUPER_TYPES = AnnotationPresence.of(
+			JpaAnnotations.ENTITY,
+			JpaAnnotations.MAPPED_SUPERCLASS
+	);
+
+	private final Map<String, ClassProcessingContextImpl> classBindings;
+	private final ClassLoaderService classLoaderService;
+	private final ClassDetailsRegistry classDetailsRegistry;
+
+	// class files read so far, by class name.  `null` values for classes without a class file
+	private final Map<String, ClassInfo> classStructures = new HashMap<>();
+
+	private final Map<String, String> superTypeNames = new HashMap<>();
+	private final Map<String, Map<String, String>> embeddedTypeNames = new HashMap<>();
+	private final List<List<ClassProcessingContextImpl>> waves;
+
+	public XmlClassBindingScheduler(
+			Collection<ClassProcessingContextImpl> classBindings,
+			ClassLoaderService classLoaderService,
+			ClassDetailsRegistry classDetailsRegistry) {
+		this.classLoaderService = classLoaderService;
+		this.classDetailsRegistry = classDetailsRegistry;
+
+		this.classBindings = new LinkedHashMap<>();
+		for ( ClassProcessingContextImpl classBinding : classBindings ) {
+			this.classBindings.put( qualifiedClassName( classBinding ), classBinding );
+		}
+
+		final Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		this.classBindings.forEach( (className, classBinding) -> {
+			dependencies.put( className, collectDependencies( className, classBinding ) );
+		} );
+
+		this.waves = schedule( dependencies );
+	}
+
+	/**
+	 * The fully-qualified name of the class mapped by the class binding
+	 */
+	public static String qualifiedClassName(ClassProcessingContext classBinding) {
+		return StringHelper.qualifyConditionallyIfNot(
+				classBinding.getDocumentProcessingContext().getXmlMapping().getPackage(),
+				classBinding.getClassNode().getClazz()
+		);
+	}
+
+	/**
+	 * The name of the closest managed super type of the named class - mapped either in XML or
+	 * through annotations - or {@code null}
+	 */
+	public String getMappedSuperTypeName(String className) {
+		return superTypeNames.get( className );
+	}
+
+	/**
+	 * The name of the type of the named embedded attribute of the named class
+	 */
+	public String getEmbeddedTypeName(String className, String attributeName) {
+		final Map<String, String> attributeTypeNames = embeddedTypeNames.get( className );
+		return attributeTypeNames == null ? null : attributeTypeNames.get( attributeName );
+	}
+
+	/**
+	 * The class bindings, in topological waves
+	 */
+	public List<List<ClassProcessingContextImpl>> getWaves() {
+		return waves;
+	}
+
+	private Set<String> collectDependencies(String className, ClassProcessingContextImpl classBinding) {
+		final Set<String> dependencies = new LinkedHashSet<>();
+
+		final ClassInfo classStructure = readClassStructure( className );
+		if ( classStructure != null ) {
+			final String superTypeName = findManagedSuperTypeName( classStructure );
+			if ( superTypeName != null ) {
+				superTypeNames.put( className, superTypeName );
+				if ( classBindings.containsKey( superTypeName ) ) {
+					dependencies.add( superTypeName );
+				}
+			}
+		}
+
+		final ManagedType classNode = classBinding.getClassNode();
+		final AccessType classAccessType = classNode.getAccess();
+		final JaxbAttributes attributes;
+		if ( classNode instanceof JaxbEntity ) {
+			attributes = ( (JaxbEntity) classNode ).getAttributes();
+		}
+		else if ( classNode instanceof JaxbMappedSuperclass ) {
+			attributes = ( (JaxbMappedSuperclass) classNode ).getAttributes();
+		}
+		else {
+			// todo (annotation-source) : embedded attributes of embeddables
+			attributes = null;
+		}
+
+		if ( attributes != null ) {
+			if ( attributes.getEmbeddedId() != null ) {
+				addEmbeddedDependency( className, classStructure, classAccessType, attributes.getEmbeddedId(), dependencies );
+			}
+			attributes.getEmbeddedAttributes().forEach( (attrNode) -> {
+				addEmbeddedDependency( className, classStructure, classAccessType, attrNode, dependencies );
+			} );
+		}
+
+		return dependencies;
+	}
+
+	private String findManagedSuperTypeName(ClassInfo classStructure) {
+		ClassInfo current = classStructure;
+		while ( current != null && current.superName() != null ) {
+			final String superTypeName = current.superName().toString();
+			if ( Object.class.getName().equals( superTypeName ) ) {
+				return null;
+			}
+			if ( classBindings.containsKey( superTypeName ) ) {
+				return superTypeName;
+			}
+			final ClassDetails annotatedSuperType = classDetailsRegistry.findClassDetails( superTypeName );
+			if ( annotatedSuperType != null && annotatedSuperType.hasAnyAnnotation( MANAGED_SUPER_TYPES ) ) {
+				return superTypeName;
+			}
+			// not managed - keep walking up
+			current = readClassStructure( superTypeName );
+		}
+		return null;
+	}
+
+	private void addEmbeddedDependency(
+			String className,
+			ClassInfo classStructure,
+			AccessType classAccessType,
+			PersistentAttribute attrNode,
+			Set<String> dependencies) {
+		final String attributeName = attrNode.getName();
+		final AccessType accessType = attrNode.getAccess() == null ? classAccessType : attrNode.getAccess();
+		final String typeName = classStructure == null
+				? null
+				: findAttributeTypeName( classStructure, attributeName, accessType );
+		if ( typeName == null ) {
+			throw new MappingException(
+					String.format(
+							Locale.ROOT,
+							"Unable to determine the type of embedded attribute `%s.%s`",
+							className,
+							attributeName
+					)
+			);
+		}
+
+		embeddedTypeNames.computeIfAbsent( className, (name) -> new HashMap<>() ).put( attributeName, typeName );
+
+		final ClassProcessingContextImpl typeBinding = classBindings.get( typeName );
+		if ( typeBinding != null && typeBinding.getClassNode() instanceof JaxbEmbeddable && !typeName.equals( className ) ) {
+			dependencies.add( typeName );
+		}
+	}
+
+	private String findAttributeTypeName(ClassInfo classStructure, String attributeName, AccessType accessType) {
+		// the attribute may be declared on a (non-managed) super type
+		ClassInfo current = classStructure;
+		while ( current != null ) {
+			if ( accessType == AccessType.PROPERTY ) {
+				final String capitalized = Character.toUpperCase( attributeName.charAt( 0 ) ) + attributeName.substring( 1 );
+				for ( MethodInfo method : current.methods() ) {
+					if ( method.parametersCount() == 0
+							&& ( method.name().equals( "get" + capitalized ) || method.name().equals( "is" + capitalized ) ) ) {
+						return method.returnType().name().toString();
+					}
+				}
+			}
+			else {
+				final FieldInfo field = current.field( attributeName );
+				if ( field != null ) {
+					return field.type().name().toString();
+				}
+			}
+
+			current = current.superName() == null ? null : readClassStructure( current.superName().toString() );
+		}
+		return null;
+	}
+
+	private ClassInfo readClassStructure(String className) {
+		if ( classStructures.containsKey( className ) ) {
+			return classStructures.get( className );
+		}
+
+		final ClassInfo classStructure;
+		final URL classFile = classLoaderService.locateResource( className.replace( '.', '/' ) + ".class" );
+		if ( classFile == null ) {
+			classStructure = null;
+		}
+		else {
+			final Indexer indexer = new Indexer();
+			try ( InputStream stream = classFile.openStream() ) {
+				indexer.index( stream );
+			}
+			catch (IOException e) {
+				throw new MappingException(
+						String.format( Locale.ROOT, "Unable to read class file for `%s`", className ),
+						e
+				);
+			}
+			classStructure = indexer.complete().getClassByName( className );
+		}
+
+		classStructures.put( className, classStructure );
+		return classStructure;
+	}
+
+	private List<List<ClassProcessingContextImpl>> schedule(Map<String, Set<String>> dependencies) {
+		final List<List<ClassProcessingContextImpl>> result = new ArrayList<>();
+
+		final Map<String, Set<String>> remaining = new LinkedHashMap<>( dependencies );
+		final Set<String> scheduled = new LinkedHashSet<>();
+		while ( !remaining.isEmpty() ) {
+			final List<String> waveNames = new ArrayList<>();
+			remaining.forEach( (className, classDependencies) -> {
+				if ( scheduled.containsAll( classDependencies ) ) {
+					waveNames.add( className );
+				}
+			} );
+
+			if ( waveNames.isEmpty() ) {
+				throw new MappingException(
+						String.format(
+								Locale.ROOT,
+								"Circular dependency between XML mapped classes - %s",
+								remaining.keySet()
+						)
+				);
+			}
+
+			final List<ClassProcessingContextImpl> wave = new ArrayList<>( waveNames.size() );
+			for ( String className : waveNames ) {
+				remaining.remove( className );
+				wave.add( classBindings.get( className ) );
+			}
+			// only mark as scheduled after the wave is complete, so members of a wave never depend on each other
+			scheduled.addAll( waveNames );
+			result.add( wave );
+		}
+
+		return result;
+	}
+}
@@ -10,21 +10,30 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.hibernate.MappingException;
 import org.hibernate.boot.models.bind.internal.global.TypeContributionProcessor;
 import org.hibernate.boot.internal.ClassmateContext;
 import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
+import org.hibernate.boot.jaxb.mapping.JaxbAttributes;
 import org.hibernate.boot.jaxb.mapping.JaxbBasic;
 import org.hibernate.boot.jaxb.mapping.JaxbConverter;
+import org.hibernate.boot.jaxb.mapping.JaxbEmbeddable;
 import org.hibernate.boot.jaxb.mapping.JaxbEntity;
 import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
 import org.hibernate.boot.jaxb.mapping.JaxbGenericIdGenerator;
 import org.hibernate.boot.jaxb.mapping.JaxbId;
+import org.hibernate.boot.jaxb.mapping.JaxbMappedSuperclass;
 import org.hibernate.boot.jaxb.mapping.JaxbSequenceGenerator;
 import org.hibernate.boot.jaxb.mapping.JaxbTableGenerator;
+import org.hibernate.boot.jaxb.mapping.ManagedType;
 import org.hibernate.boot.jaxb.mapping.PersistentAttribute;
 import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
 import org.hibernate.boot.jaxb.spi.Binding;
@@ -45,6 +54,7 @@ import org.hibernate.boot.models.source.spi.HibernateAnnotations;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.source.spi.MemberDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.internal.util.StringHelper;
 
@@ -75,6 +85,22 @@ public class XmlMappingProcessor {
 	public static void processXmlMappings(
 			Collection<Binding<BindableMappingDescriptor>> xmlMappingBindings,
 			ModelProcessingContext processingContext) {
+		processXmlMappings( xmlMappingBindings, processingContext, null );
+	}
+
+	/**
+	 * Form of {@link #processXmlMappings(Collection, ModelProcessingContext)} spreading the
+	 * work across the given pool, if one.
+	 *
+	 * @implNote Preparing the class bindings of each document and processing the class bindings
+	 * are performed on the pool.  Globals are registered with the
+	 * {@linkplain InFlightMetadataCollector metadata collector}, so are always processed on
+	 * the calling thread in document order
+	 */
+	public static void processXmlMappings(
+			Collection<Binding<BindableMappingDescriptor>> xmlMappingBindings,
+			ModelProcessingContext processingContext,
+			ForkJoinPool forkJoinPool) {
 		final boolean xmlMappingEnabled = processingContext.getMetadataBuildingContext()
 				.getBuildingOptions()
 				.isXmlMappingEnabled();
@@ -87,23 +113,45 @@ public class XmlMappingProcessor {
 		}
 
 		final XmlMappingProcessor xmlMappingProcessor = new XmlMappingProcessor( processingContext );
-		for ( Binding<BindableMappingDescriptor> xmlBinding : xmlMappingBindings ) {
-			if ( xmlBinding.getRoot() instanceof JaxbHbmHibernateMapping ) {
-				xmlMappingProcessor.processHbmXml( xmlBinding );
+		final List<DocumentClassBindings> documentClassBindings;
+		if ( forkJoinPool == null || xmlMappingBindings.size() == 1 ) {
+			documentClassBindings = new ArrayList<>( xmlMappingBindings.size() );
+			for ( Binding<BindableMappingDescriptor> xmlBinding : xmlMappingBindings ) {
+				documentClassBindings.add( xmlMappingProcessor.processMappingXml( xmlBinding, processingContext ) );
 			}
-			else {
-				xmlMappingProcessor.processMappingXml( xmlBinding, processingContext );
+		}
+		else {
+			final List<Binding<BindableMappingDescriptor>> bindings = new ArrayList<>( xmlMappingBindings );
+			final List<DocumentClassBindings> prepared = forkJoinPool.submit(
+					() -> bindings.parallelStream()
+							.map( (xmlBinding) -> xmlMappingProcessor.prepareMappingXml( xmlBinding, processingContext ) )
+							.collect( Collectors.toList() )
+			).join();
+
+			documentClassBindings = new ArrayList<>( prepared.size() );
+			for ( DocumentClassBindings classBindings : prepared ) {
+				xmlMappingProcessor.processGlobals( classBindings.documentContext );
+				documentClassBindings.add( classBindings );
 			}
 		}
 
-		xmlMappingProcessor.processClassBindings();
+		// merge in document order, so that conflicts are always reported the same way
+		for ( DocumentClassBindings classBindings : documentClassBindings ) {
+			xmlMappingProcessor.mergeClassBindings( classBindings );
+		}
+
+		xmlMappingProcessor.processClassBindings( forkJoinPool );
 	}
 
 	private final ClassDetailsRegistry classDetailsRegistry;
 	private final InFlightMetadataCollector metadataCollector;
 	private final ClassmateContext classmateContext;
+	private final ClassLoaderService classLoaderService;
 
-	private final Map<String, ClassProcessingContextImpl> classBindingMap = new HashMap<>();
+	// the class bindings across all documents, keyed by package-qualified class name
+	private final Map<String, ClassProcessingContextImpl> classBindingMap = new LinkedHashMap<>();
+	// the ClassDetails created for XML mapped classes, keyed by class name.  used to resolve super types
+	private final Map<String, ClassDetailsImpl> xmlClassDetailsMap = new ConcurrentHashMap<>();
 
 	private XmlMappingProcessor(ModelProcessingContext processingContext) {
 		this.classDetailsRegistry = processingContext.getClassDetailsRegistry();
@@ -111,24 +159,79 @@ public class XmlMappingProcessor {
 		this.classmateContext = processingContext.getMetadataBuildingContext()
 				.getBootstrapContext()
 				.getClassmateContext();
+		this.classLoaderService = processingContext.getMetadataBuildingContext()
+				.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ClassLoaderService.class );
+	}
+
+	/**
+	 * The class bindings prepared from a single mapping XML document, in document order, keyed
+	 * by package-qualified class name
+	 */
+	private static class DocumentClassBindings {
+		private final DocumentProcessingContextImpl documentContext;
+		private final Map<String, ClassProcessingContextImpl> classBindings = new LinkedHashMap<>();
+
+		private DocumentClassBindings(DocumentProcessingContextImpl documentContext) {
+			this.documentContext = documentContext;
+		}
+
+		/**
+		 * Adds the class binding, keyed by the package-qualified class name
+		 *
+		 * @throws MappingException If the document maps the class multiple times
+		 */
+		private void addClassBinding(ClassProcessingContextImpl classBinding) {
+			final String className = XmlClassBindingScheduler.qualifiedClassName( classBinding );
+			if ( classBindings.putIfAbsent( className, classBinding ) != null ) {
+				throw new MappingException(
+						String.format(
+								Locale.ROOT,
+								"Class `%s` mapped multiple times in XML mapping - %s",
+								className,
+								documentContext.getXmlOrigin().getName()
+						)
+				);
+			}
+		}
 	}
 
 	/**
-	 * Processes a single of mapping XML document creating entries in `classBindingMap`
+	 * Processes a single of mapping XML document, processing its globals and preparing its class bindings
 	 */
-	private void processMappingXml(
+	private DocumentClassBindings processMappingXml(
 			Binding<BindableMappingDescriptor> binding,
 			ModelProcessingContext processingContext) {
+		final DocumentClassBindings classBindings = prepareMappingXml( binding, processingContext );
+		processGlobals( classBindings.documentContext );
+		return classBindings;
+	}
+
+	/**
+	 * Prepares the class bindings of a single mapping XML document.  Safe to call concurrently
+	 */
+	private DocumentClassBindings prepareMappingXml(
+			Binding<BindableMappingDescriptor> binding,
+			ModelProcessingContext processingContext) {
+		if ( binding.getRoot() instanceof JaxbHbmHibernateMapping ) {
+			processHbmXml( binding );
+		}
+
 		final JaxbEntityMappings root = (JaxbEntityMappings) binding.getRoot();
-		final DocumentProcessingContextImpl documentContext = new DocumentProcessingContextImpl(
+		final DocumentClassBindings classBindings = new DocumentClassBindings( new DocumentProcessingContextImpl(
 				root,
 				binding.getOrigin(),
 				processingContext
-		);
+		) );
 
-		processGlobals( root, documentContext );
+		prepareClassBindings( root, classBindings );
 
-		prepareClassBindings( root, documentContext );
+		return classBindings;
+	}
+
+	private void processGlobals(DocumentProcessingContextImpl documentContext) {
+		processGlobals( documentContext.getXmlMapping(), documentContext );
 	}
 
 	private void processGlobals(JaxbEntityMappings root, DocumentProcessingContext localContext) {
@@ -195,20 +298,21 @@ public class XmlMappingProcessor {
 
 	private void prepareClassBindings(
 			JaxbEntityMappings root,
-			DocumentProcessingContextImpl documentContext) {
-		// todo (annotation-source) : this is an overly simplistic implementation.  a more robust
-		// 		implementation would need to arrange the classes in order based on inheritance
-		//		for the next processing step
+			DocumentClassBindings classBindings) {
+		final DocumentProcessingContextImpl documentContext = classBindings.documentContext;
+
+		// NOTE : the class bindings are arranged based on inheritance (and embeddable usage)
+		//		by XmlClassBindingScheduler when they are processed
 
 		if ( isNotEmpty( root.getEmbeddables() ) ) {
 			root.getEmbeddables().forEach( (mapping) -> {
-				classBindingMap.put( mapping.getClazz(), new ClassProcessingContextImpl( mapping, documentContext ) );
+				classBindings.addClassBinding( new ClassProcessingContextImpl( mapping, documentContext ) );
 			} );
 		}
 
 		if ( isNotEmpty( root.getMappedSuperclasses() ) ) {
 			root.getMappedSuperclasses().forEach( (mapping) -> {
-				classBindingMap.put( mapping.getClazz(), new ClassProcessingContextImpl( mapping, documentContext ) );
+				classBindings.addClassBinding( new ClassProcessingContextImpl( mapping, documentContext ) );
 			} );
 		}
 
@@ -222,49 +326,143 @@ public class XmlMappingProcessor {
 				//			b. Hibernate entity-name mapping
 				//
 				// for the time being, assume "normal" mappings
-				classBindingMap.put( mapping.getClazz(), new ClassProcessingContextImpl( mapping, documentContext ) );
+				classBindings.addClassBinding( new ClassProcessingContextImpl( mapping, documentContext ) );
 			} );
 		}
 	}
 
-	private void processClassBindings() {
-		classBindingMap.forEach( (name, classProcessingContextImpl) -> {
-			// todo (annotation-source) : more overly simplistic stuff
-			if ( classProcessingContextImpl.getClassNode() instanceof JaxbEntity ) {
-				processEntity( (JaxbEntity) classProcessingContextImpl.getClassNode(), classProcessingContextImpl );
+	private void mergeClassBindings(DocumentClassBindings classBindings) {
+		classBindings.classBindings.forEach( (name, classProcessingContext) -> {
+			final ClassProcessingContextImpl existing = classBindingMap.putIfAbsent( name, classProcessingContext );
+			if ( existing != null ) {
+				throw new MappingException(
+						String.format(
+								Locale.ROOT,
+								"Class `%s` mapped in multiple XML mappings - %s, %s",
+								name,
+								existing.getDocumentProcessingContext().getXmlOrigin().getName(),
+								classProcessingContext.getDocumentProcessingContext().getXmlOrigin().getName()
+						)
+				);
+			}
+		} );
+	}
+
+	private void processClassBindings(ForkJoinPool forkJoinPool) {
+		final XmlClassBindingScheduler scheduler = new XmlClassBindingScheduler(
+				classBindingMap.values(),
+				classLoaderService,
+				classDetailsRegistry
+		);
 
+		for ( List<ClassProcessingContextImpl> wave : scheduler.getWaves() ) {
+			if ( forkJoinPool == null || wave.size() == 1 ) {
+				wave.forEach( (classBinding) -> processClassBinding( classBinding, scheduler ) );
 			}
 			else {
-				throw new UnsupportedOperationException( "Not yet implemented" );
+				forkJoinPool.submit( () -> wave.parallelStream().forEach( (classBinding) -> processClassBinding( classBinding, scheduler ) ) ).join();
 			}
-		} );
+		}
 	}
 
-	private void processEntity(JaxbEntity classNode, ClassProcessingContext processingContext) {
-		if ( !processingContext.getDocumentProcessingContext().isComplete() ) {
+	private void processClassBinding(ClassProcessingContextImpl classProcessingContextImpl, XmlClassBindingScheduler scheduler) {
+		if ( !classProcessingContextImpl.isComplete() ) {
+			throw new UnsupportedOperationException( "Not yet implemented" );
+		}
+
+		final String className = XmlClassBindingScheduler.qualifiedClassName( classProcessingContextImpl );
+		// the scheduler guarantees that an XML mapped super type was processed in a previous wave
+		final ClassDetails superType = resolveXmlOrAnnotatedType( scheduler.getMappedSuperTypeName( className ) );
+
+		final ClassDetailsImpl classDetails;
+		final ManagedType classNode = classProcessingContextImpl.getClassNode();
+		if ( classNode instanceof JaxbEntity ) {
+			classDetails = createCompleteEntity( (JaxbEntity) classNode, className, superType, scheduler, classProcessingContextImpl );
+		}
+		else if ( classNode instanceof JaxbMappedSuperclass ) {
+			classDetails = createCompleteMappedSuperclass( (JaxbMappedSuperclass) classNode, className, superType, scheduler, classProcessingContextImpl );
+		}
+		else if ( classNode instanceof JaxbEmbeddable ) {
+			classDetails = createCompleteEmbeddable( (JaxbEmbeddable) classNode, className, superType, classProcessingContextImpl );
+		}
+		else {
 			throw new UnsupportedOperationException( "Not yet implemented" );
 		}
 
-		createCompleteEntity( classNode, processingContext );
+		xmlClassDetailsMap.put( className, classDetails );
 	}
 
-	private void createCompleteEntity(JaxbEntity classNode, ClassProcessingContext processingContext) {
-		final String className = StringHelper.qualifyConditionallyIfNot(
-				processingContext.getDocumentProcessingContext().getXmlMapping().getPackage(),
-				classNode.getClazz()
-		);
+	private ClassDetails resolveXmlOrAnnotatedType(String typeName) {
+		if ( typeName == null ) {
+			return null;
+		}
+		final ClassDetailsImpl xmlType = xmlClassDetailsMap.get( typeName );
+		return xmlType != null ? xmlType : classDetailsRegistry.resolveClassDetails( typeName );
+	}
 
+	private ClassDetailsImpl createCompleteEntity(
+			JaxbEntity classNode,
+			String className,
+			ClassDetails superType,
+			XmlClassBindingScheduler scheduler,
+			ClassProcessingContext processingContext) {
 		final String name = StringHelper.isEmpty( classNode.getName() )
 				? className
 				: classNode.getName();
 		assert classDetailsRegistry.findClassDetails( name ) == null;
 
-		final ClassDetailsImpl classDetails = new ClassDetailsImpl( name, className, null, processingContext.getModelProcessingContext() );
+		final ClassDetailsImpl classDetails = new ClassDetailsImpl( name, className, superType, processingContext.getModelProcessingContext() );
 		applyEntityAnnotation( classDetails, name, processingContext );
 		applyTableAnnotation( classDetails, classNode, processingContext );
 		applySecondaryTableAnnotations( classDetails, classNode, processingContext );
 
-		processCompleteAttributes( classDetails, classNode, processingContext );
+		// the root of a hierarchy needs to define the identifier
+		processCompleteAttributes( classDetails, className, classNode.getAccess(), classNode.getAttributes(), superType == null, scheduler, processingContext );
+
+		return classDetails;
+	}
+
+	private ClassDetailsImpl createCompleteMappedSuperclass(
+			JaxbMappedSuperclass classNode,
+			String className,
+			ClassDetails superType,
+			XmlClassBindingScheduler scheduler,
+			ClassProcessingContext processingContext) {
+		assert classDetailsRegistry.findClassDetails( className ) == null;
+
+		final ClassDetailsImpl classDetails = new ClassDetailsImpl( className, className, superType, processingContext.getModelProcessingContext() );
+		classDetails.apply( new AnnotationUsageImpl<>( JpaAnnotations.MAPPED_SUPERCLASS, classDetails, Collections.emptyMap() ) );
+
+		if ( classNode.getAttributes() != null ) {
+			processCompleteAttributes( classDetails, className, classNode.getAccess(), classNode.getAttributes(), false, scheduler, processingContext );
+		}
+
+		return classDetails;
+	}
+
+	private ClassDetailsImpl createCompleteEmbeddable(
+			JaxbEmbeddable classNode,
+			String className,
+			ClassDetails superType,
+			ClassProcessingContext processingContext) {
+		assert classDetailsRegistry.findClassDetails( className ) == null;
+
+		final ClassDetailsImpl classDetails = new ClassDetailsImpl( className, className, superType, processingContext.getModelProcessingContext() );
+		classDetails.apply( new AnnotationUsageImpl<>( JpaAnnotations.EMBEDDABLE, classDetails, Collections.emptyMap() ) );
+
+		if ( classNode.getAttributes() != null && isNotEmpty( classNode.getAttributes().getBasicAttributes() ) ) {
+			classNode.getAttributes().getBasicAttributes().forEach( (attrNode) -> {
+				final DynamicMemberDetails attributeMember = resolveAttributeMember(
+						classDetails,
+						classNode.getAccess(),
+						attrNode,
+						processingContext
+				);
+				processCompleteBasicAttribute( attributeMember, attrNode );
+			} );
+		}
+
+		return classDetails;
 	}
 
 	private void applyEntityAnnotation(
@@ -351,36 +549,38 @@ public class XmlMappingProcessor {
 
 	private void processCompleteAttributes(
 			ClassDetailsImpl classDetails,
-			JaxbEntity classNode,
+			String className,
+			AccessType classNodeAccess,
+			JaxbAttributes attributes,
+			boolean requireIdentifier,
+			XmlClassBindingScheduler scheduler,
 			ClassProcessingContext processingContext) {
-		final AccessType classNodeAccess = classNode.getAccess();
-
-		assert classNode.getAttributes() != null;
+		assert attributes != null;
 
-		if ( isNotEmpty( classNode.getAttributes().getId() ) ) {
-			if ( classNode.getAttributes().getId().size() > 1 ) {
+		if ( isNotEmpty( attributes.getId() ) ) {
+			if ( attributes.getId().size() > 1 ) {
 				throw new UnsupportedOperationException( "Support for composite ids not yet implemented" );
 			}
 			else {
-				final JaxbId jaxbId = classNode.getAttributes().getId().get( 0 );
+				final JaxbId jaxbId = attributes.getId().get( 0 );
 				final DynamicMemberDetails attributeMember = resolveAttributeMember(
 						classDetails,
 						classNodeAccess,
 						jaxbId,
 						processingContext
 				);
-				applyBasicIdentifier( jaxbId, attributeMember, classNode, processingContext );
+				applyBasicIdentifier( jaxbId, attributeMember, processingContext );
 			}
 		}
-		else if ( classNode.getAttributes().getEmbeddedId() != null ) {
+		else if ( attributes.getEmbeddedId() != null ) {
 			throw new UnsupportedOperationException( "Support for composite ids not yet implemented" );
 		}
-		else {
+		else if ( requireIdentifier ) {
 			throw new MappingException( "Entity did not define identifier" );
 		}
 
-		if ( isNotEmpty( classNode.getAttributes().getBasicAttributes() ) ) {
-			classNode.getAttributes().getBasicAttributes().forEach( (attrNode) -> {
+		if ( isNotEmpty( attributes.getBasicAttributes() ) ) {
+			attributes.getBasicAttributes().forEach( (attrNode) -> {
 				final DynamicMemberDetails attributeMember = resolveAttributeMember(
 						classDetails,
 						classNodeAccess,
@@ -390,6 +590,21 @@ public class XmlMappingProcessor {
 				processCompleteBasicAttribute( attributeMember, attrNode );
 			} );
 		}
+
+		if ( isNotEmpty( attributes.getEmbeddedAttributes() ) ) {
+			attributes.getEmbeddedAttributes().forEach( (attrNode) -> {
+				final DynamicMemberDetails attributeMember = resolveAttributeMember(
+						classDetails,
+						classNodeAccess,
+						attrNode,
+						processingContext
+				);
+				// the scheduler guarantees that an XML mapped embeddable was processed in a previous wave
+				attributeMember.setType( resolveXmlOrAnnotatedType( scheduler.getEmbeddedTypeName( className, attrNode.getName() ) ) );
+				attributeMember.apply( new AnnotationUsageImpl<>( JpaAnnotations.EMBEDDED, attributeMember, Collections.emptyMap() ) );
+				processPersistentAttribute( attributeMember, attrNode );
+			} );
+		}
 	}
 
 	private static DynamicMemberDetails resolveAttributeMember(
@@ -419,7 +634,6 @@ public class XmlMappingProcessor {
 	private void applyBasicIdentifier(
 			JaxbId jaxbId,
 			DynamicMemberDetails attributeMember,
-			JaxbEntity classNode,
 			ClassProcessingContext processingContext) {
 		attributeMember.apply( new AnnotationUsageImpl<>( JpaAnnotations.ID, attributeMember, Collections.emptyMap() ) );
 		attributeMember.apply( new AnnotationUsageImpl<>( JpaAnnotations.BASIC, attributeMember, Collections.emptyMap() ) );
@@ -34,6 +34,15 @@ public interface ClassProcessingContext extends LocalProcessingContext<ManagedTy
 	 */
 	DocumentProcessingContext getDocumentProcessingContext();
 
+	/**
+	 * Whether the mapping of the class is complete - either the whole document is
+	 * ({@code <xml-mapping-metadata-complete/>}) or the class node itself is ({@code metadata-complete})
+	 */
+	default boolean isComplete() {
+		return getDocumentProcessingContext().isComplete()
+				|| getClassNode().isMetadataComplete() == Boolean.TRUE;
+	}
+
 	default ModelProcessingContext getModelProcessingContext() {
 		return getDocumentProcessingContext().getModelProcessingContext();
 	}
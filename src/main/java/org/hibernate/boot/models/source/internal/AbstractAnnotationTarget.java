@@ -7,12 +7,14 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
@@ -26,11 +28,25 @@ import org.hibernate.boot.models.spi.ModelProcessingContext;
  */
 public abstract class AbstractAnnotationTarget implements AnnotationTarget {
 	private final Map<Class<? extends Annotation>, AnnotationUsage<?>> usageMap = new ConcurrentHashMap<>();
+	private final AnnotationPresence annotationPresence;
 
 	public AbstractAnnotationTarget(
 			Annotation[] annotations,
 			ModelProcessingContext processingContext) {
 		AnnotationUsageBuilder.processAnnotations( annotations, this, usageMap::put, processingContext );
+		this.annotationPresence = AnnotationPresence.from( usageMap.values() );
+	}
+
+	/**
+	 * All usages on this target, excluding the repetitions of repeatable annotations
+	 */
+	protected Collection<AnnotationUsage<?>> getAnnotationUsages() {
+		return usageMap.values();
+	}
+
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		return annotationPresence;
 	}
 
 	@Override
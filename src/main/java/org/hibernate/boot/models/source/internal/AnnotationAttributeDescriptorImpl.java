@@ -7,8 +7,12 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Locale;
 
 import org.hibernate.boot.models.source.AnnotationAccessException;
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
@@ -22,17 +26,55 @@ import org.hibernate.boot.models.spi.ModelProcessingContext;
  * @author Steve Ebersole
  */
 public class AnnotationAttributeDescriptorImpl<A extends Annotation,V,W> implements AnnotationAttributeDescriptor<A,V,W> {
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Annotation.class );
+
 	private final Method attributeMethod;
+	private final int ordinal;
+	private final MethodHandle attributeAccessor;
 	private final ValueNormalizer<V,W> valueNormalizer;
 
-	public AnnotationAttributeDescriptorImpl(Method attributeMethod) {
+	private final V attributeDefault;
+	private final AnnotationAttributeValue<V,W> defaultValue;
+
+	public AnnotationAttributeDescriptorImpl(Method attributeMethod, int ordinal) {
 		//noinspection unchecked
-		this( attributeMethod, (ValueNormalizer<V, W>) PassThroughNormalizer.singleton() );
+		this( attributeMethod, ordinal, (ValueNormalizer<V, W>) PassThroughNormalizer.singleton() );
 	}
 
-	public AnnotationAttributeDescriptorImpl(Method attributeMethod, ValueNormalizer<V,W> valueNormalizer) {
+	public AnnotationAttributeDescriptorImpl(Method attributeMethod, int ordinal, ValueNormalizer<V,W> valueNormalizer) {
 		this.attributeMethod = attributeMethod;
+		this.ordinal = ordinal;
+		this.attributeAccessor = resolveAttributeAccessor( attributeMethod );
 		this.valueNormalizer = valueNormalizer;
+
+		//noinspection unchecked
+		this.attributeDefault = (V) attributeMethod.getDefaultValue();
+		this.defaultValue = valueNormalizer.isShareable( attributeDefault )
+				? new AnnotationAttributeValueImpl<>( this, valueNormalizer.normalize( attributeDefault, null, null ) )
+				: null;
+	}
+
+	/**
+	 * Resolve a {@link MethodHandle} for reading the attribute value, adapted to
+	 * {@code (Annotation)Object} so that value extraction needs no further lookups.
+	 *
+	 * @return The accessor, or {@code null} if one could not be created, in which
+	 * case we fall back to {@linkplain Method#invoke reflection}
+	 */
+	private static MethodHandle resolveAttributeAccessor(Method attributeMethod) {
+		try {
+			return MethodHandles.publicLookup().unreflect( attributeMethod ).asType( ACCESSOR_TYPE );
+		}
+		catch (IllegalAccessException e) {
+			// a non-public annotation type
+			try {
+				attributeMethod.setAccessible( true );
+				return MethodHandles.lookup().unreflect( attributeMethod ).asType( ACCESSOR_TYPE );
+			}
+			catch (IllegalAccessException | RuntimeException ignore) {
+				return null;
+			}
+		}
 	}
 
 	@Override
@@ -40,6 +82,11 @@ public class AnnotationAttributeDescriptorImpl<A extends Annotation,V,W> impleme
 		return attributeMethod;
 	}
 
+	@Override
+	public int getOrdinal() {
+		return ordinal;
+	}
+
 	@Override
 	public String getAttributeName() {
 		return attributeMethod.getName();
@@ -53,27 +100,59 @@ public class AnnotationAttributeDescriptorImpl<A extends Annotation,V,W> impleme
 
 	@Override
 	public V getAttributeDefault() {
-		//noinspection unchecked
-		return (V) attributeMethod.getDefaultValue();
+		return attributeDefault;
+	}
+
+	@Override
+	public AnnotationAttributeValue<V, W> getDefaultValue() {
+		return defaultValue;
 	}
 
 	@Override
 	public V extractValue(A annotation) {
+		if ( attributeAccessor == null ) {
+			return extractValueReflectively( annotation );
+		}
+
+		try {
+			//noinspection unchecked
+			return (V) (Object) attributeAccessor.invokeExact( (Annotation) annotation );
+		}
+		catch (Throwable e) {
+			throw new AnnotationAccessException( extractionFailureMessage(), e );
+		}
+	}
+
+	private V extractValueReflectively(A annotation) {
 		try {
 			//noinspection unchecked
 			return (V) attributeMethod.invoke( annotation );
 		}
 		catch (IllegalAccessException | InvocationTargetException e) {
-			throw new AnnotationAccessException( "Unable to extract annotation attribute value", e );
+			throw new AnnotationAccessException( extractionFailureMessage(), e );
 		}
 	}
 
+	private String extractionFailureMessage() {
+		return String.format(
+				Locale.ROOT,
+				"Unable to extract attribute value : %s.%s",
+				attributeMethod.getDeclaringClass().getName(),
+				attributeMethod.getName()
+		);
+	}
+
 	@Override
 	public AnnotationAttributeValue<V, W> makeValueWrapper(
 			V value,
 			AnnotationTarget target,
 			ModelProcessingContext processingContext) {
-		return new AnnotationAttributeValueImpl<>( this, valueNormalizer.normalize( value, target, processingContext ) );
+		return new AnnotationAttributeValueImpl<>( this, normalizeValue( value, target, processingContext ) );
+	}
+
+	@Override
+	public W normalizeValue(V value, AnnotationTarget target, ModelProcessingContext processingContext) {
+		return valueNormalizer.normalize( value, target, processingContext );
 	}
 
 }
@@ -8,7 +8,9 @@ package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.Internal;
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
@@ -52,18 +54,31 @@ public class AnnotationDescriptorBuilder {
 
 		for ( int i = 0; i < attributes.length; i++ ) {
 			final Method attribute = attributes[ i ];
-			attributeDescriptors.add( createAttributeDescriptor( javaType, attribute ) );
+			attributeDescriptors.add( createAttributeDescriptor( javaType, attribute, i ) );
 		}
 
 		return attributeDescriptors;
 	}
 
+	/**
+	 * Map of attribute name to {@linkplain AnnotationAttributeDescriptor#getOrdinal() ordinal}
+	 */
+	@Internal
+	public static Map<String,Integer> extractAttributeOrdinals(List<? extends AnnotationAttributeDescriptor<?,?,?>> attributeDescriptors) {
+		final Map<String,Integer> attributeOrdinals = new HashMap<>( attributeDescriptors.size() * 2 );
+		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
+			attributeOrdinals.put( attributeDescriptors.get( i ).getAttributeName(), i );
+		}
+		return attributeOrdinals;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <A extends Annotation,V,W> AnnotationAttributeDescriptor<A,V,W> createAttributeDescriptor(
 			Class<A> annotationJavaType,
-			Method attributeMethod) {
+			Method attributeMethod,
+			int ordinal) {
 		final Class<V> attributeJavaType = (Class<V>) attributeMethod.getReturnType();
-		return new AnnotationAttributeDescriptorImpl<>( attributeMethod, resolveValueNormalizer( attributeJavaType ) );
+		return new AnnotationAttributeDescriptorImpl<>( attributeMethod, ordinal, resolveValueNormalizer( attributeJavaType ) );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -7,8 +7,11 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.hibernate.boot.models.source.AnnotationAccessException;
@@ -16,6 +19,7 @@ import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderI
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.HibernateAnnotations;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
@@ -26,6 +30,10 @@ import org.hibernate.boot.models.spi.ModelProcessingContext;
  * <p/>
  * Processes the annotations associated with the {@linkplain #getAnnotationType() annotation class}
  * and makes them available via its {@link AnnotationTarget} implementation.
+ * <p/>
+ * An annotation carrying JPA or Hibernate annotations is a "composed" annotation (a custom
+ * {@code @AuditedEntity} annotated with {@code @Entity} and {@code @DynamicUpdate}, e.g.).  Its
+ * {@linkplain #getComposedUsages() composed usages} are applied to the targets using it.
  *
  * @author Steve Ebersole
  */
@@ -38,6 +46,8 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 	private final boolean inherited;
 	private final EnumSet<Kind> allowableTargets;
 	private final List<AnnotationAttributeDescriptor<A,?,?>> attributeDescriptors;
+	private final Map<String,Integer> attributeOrdinals;
+	private final List<AnnotationUsageImpl<?>> composedUsages;
 
 	public AnnotationDescriptorImpl(
 			Class<A> annotationType,
@@ -53,6 +63,8 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 		this.inherited = AnnotationHelper.isInherited( annotationType );
 		this.allowableTargets = AnnotationHelper.extractTargets( annotationType );
 		this.attributeDescriptors = AnnotationDescriptorBuilder.extractAttributeDescriptors( annotationType );
+		this.attributeOrdinals = AnnotationDescriptorBuilder.extractAttributeOrdinals( this.attributeDescriptors );
+		this.composedUsages = collectComposedUsages();
 
 		processingContext.getClassDetailsRegistry().resolveClassDetails(
 				annotationType.getName(),
@@ -60,6 +72,31 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 		);
 	}
 
+	private List<AnnotationUsageImpl<?>> collectComposedUsages() {
+		// meta-annotations which are themselves composed were already expanded onto this
+		// annotation type while processing its annotations, so there is no need to recurse
+		List<AnnotationUsageImpl<?>> result = null;
+		for ( AnnotationUsage<?> usage : getAnnotationUsages() ) {
+			if ( usage.getAnnotationDescriptor().getOrdinal() < 0 ) {
+				continue;
+			}
+			if ( result == null ) {
+				result = new ArrayList<>();
+			}
+			result.add( (AnnotationUsageImpl<?>) usage );
+		}
+		return result == null ? Collections.emptyList() : Collections.unmodifiableList( result );
+	}
+
+	/**
+	 * The {@linkplain JpaAnnotations JPA} and {@linkplain HibernateAnnotations Hibernate} usages this
+	 * annotation is composed of - those declared on the annotation type, directly or through other
+	 * composed annotations.  Computed once, when the descriptor is built.
+	 */
+	public List<AnnotationUsageImpl<?>> getComposedUsages() {
+		return composedUsages;
+	}
+
 	@Override
 	public String getName() {
 		return annotationType.getName();
@@ -92,14 +129,18 @@ public class AnnotationDescriptorImpl<A extends Annotation>
 
 	@Override
 	public <V, W> AnnotationAttributeDescriptor<A, V, W> getAttribute(String name) {
-		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
-			final AnnotationAttributeDescriptor<A,?,?> attributeDescriptor = attributeDescriptors.get( i );
-			if ( attributeDescriptor.getAttributeName().equals( name ) ) {
-				//noinspection unchecked
-				return (AnnotationAttributeDescriptor<A,V,W>) attributeDescriptor;
-			}
+		final Integer ordinal = attributeOrdinals.get( name );
+		if ( ordinal == null ) {
+			throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
 		}
-		throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
+		//noinspection unchecked
+		return (AnnotationAttributeDescriptor<A,V,W>) attributeDescriptors.get( ordinal );
+	}
+
+	@Override
+	public int getAttributeOrdinal(String name) {
+		final Integer ordinal = attributeOrdinals.get( name );
+		return ordinal == null ? -1 : ordinal;
 	}
 
 	@Override
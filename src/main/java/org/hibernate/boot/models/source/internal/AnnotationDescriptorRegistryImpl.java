@@ -19,26 +19,28 @@ import jakarta.persistence.NamedQueries;
 import jakarta.persistence.NamedQuery;
 
 /**
- * Access to AnnotationDescriptor instances based on a number of look-ups
+ * Access to AnnotationDescriptor instances based on a number of look-ups.
+ * <p/>
+ * The JPA and Hibernate descriptors are looked up from the shared {@link StandardModelTypes}
+ * table; only ad-hoc descriptors are tracked per registry.  A registry may be layered over the
+ * registry of a {@linkplain ModelProcessingContextImpl#freeze() frozen} context, reusing the ad-hoc
+ * descriptors known to it - new ones are created through (and registered with) this registry's context.
  *
  * @author Steve Ebersole
  */
 public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorRegistry {
+	private final AnnotationDescriptorRegistryImpl parent;
 	private final ModelProcessingContext context;
 
 	private final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorMap = new ConcurrentHashMap<>();
-	private final Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatableByContainerMap = new ConcurrentHashMap<>();
 
 	public AnnotationDescriptorRegistryImpl(ModelProcessingContext context) {
-		this.context = context;
+		this( null, context );
 	}
 
-	void register(AnnotationDescriptor<?> descriptor) {
-		descriptorMap.put( descriptor.getAnnotationType(), descriptor );
-		if ( descriptor.getRepeatableContainer() != null ) {
-			// the descriptor is repeatable - register it under its container
-			repeatableByContainerMap.put( descriptor.getRepeatableContainer(), descriptor );
-		}
+	public AnnotationDescriptorRegistryImpl(AnnotationDescriptorRegistryImpl parent, ModelProcessingContext context) {
+		this.parent = parent;
+		this.context = context;
 	}
 
 	/**
@@ -47,18 +49,32 @@ public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorReg
 	 */
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> getDescriptor(Class<A> javaType) {
-		//noinspection unchecked
-		final AnnotationDescriptor<A> existing = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+		final AnnotationDescriptor<A> standard = StandardModelTypes.singleton().findOrmDescriptor( javaType );
+		if ( standard != null ) {
+			return standard;
+		}
+
+		final AnnotationDescriptor<A> existing = findAdHocDescriptor( javaType );
 		if ( existing != null ) {
 			return existing;
 		}
 
-		// indicates a non-JPA and non-Hibernate annotation.  we need to track these for meta-annotation handling later.
+		// indicates a non-JPA and non-Hibernate annotation.  these are tracked so that their
+		// composed usages (see AnnotationDescriptorImpl#getComposedUsages) are only collected once.
 		final AnnotationDescriptor<A> created = createAdHocAnnotationDescriptor( javaType );
 		descriptorMap.put( javaType, created );
 		return created;
 	}
 
+	private <A extends Annotation> AnnotationDescriptor<A> findAdHocDescriptor(Class<A> javaType) {
+		//noinspection unchecked
+		final AnnotationDescriptor<A> local = (AnnotationDescriptor<A>) descriptorMap.get( javaType );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		return parent.findAdHocDescriptor( javaType );
+	}
+
 	private <A extends Annotation> AnnotationDescriptor<A> createAdHocAnnotationDescriptor(Class<A> javaType) {
 		final Repeatable repeatable = javaType.getAnnotation( Repeatable.class );
 		final AnnotationDescriptor<? extends Annotation> containerDescriptor;
@@ -83,8 +99,8 @@ public class AnnotationDescriptorRegistryImpl implements AnnotationDescriptorReg
 	 */
 	@Override
 	public <A extends Annotation> AnnotationDescriptor<A> getContainedRepeatableDescriptor(AnnotationDescriptor<A> containerDescriptor) {
-		//noinspection unchecked
-		return (AnnotationDescriptor<A>) repeatableByContainerMap.get( containerDescriptor );
+		// todo (annotation-source) : ad-hoc repeatable annotations
+		return StandardModelTypes.singleton().findOrmRepeatableDescriptor( containerDescriptor );
 	}
 
 	/**
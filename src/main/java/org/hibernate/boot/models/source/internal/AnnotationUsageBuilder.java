@@ -11,21 +11,19 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
-import org.hibernate.boot.models.source.spi.AnnotationAttributeValue;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
-import org.hibernate.internal.util.collections.CollectionHelper;
-
-import static org.hibernate.boot.models.source.internal.AnnotationHelper.extractRawAttributeValue;
 
 /**
  * Helper for building {@link org.hibernate.boot.models.source.spi.AnnotationUsage} instances
@@ -43,6 +41,10 @@ public class AnnotationUsageBuilder {
 			ModelProcessingContext processingContext) {
 		final AnnotationDescriptorRegistry annotationDescriptorRegistry = processingContext.getAnnotationDescriptorRegistry();
 
+		// created only when composed annotations are found
+		List<AnnotationDescriptorImpl<?>> composedDescriptors = null;
+		Set<Class<? extends Annotation>> present = null;
+
 		for ( int i = 0; i < annotations.length; i++ ) {
 			final Annotation annotation = annotations[ i ];
 			final Class<? extends Annotation> annotationType = annotation.annotationType();
@@ -63,6 +65,56 @@ public class AnnotationUsageBuilder {
 					processingContext
 			);
 			consumer.accept( annotationType, usage );
+
+			if ( isComposed( annotationDescriptor ) ) {
+				if ( composedDescriptors == null ) {
+					composedDescriptors = new ArrayList<>();
+					present = new HashSet<>();
+					for ( int j = 0; j < annotations.length; j++ ) {
+						present.add( annotations[j].annotationType() );
+					}
+				}
+				composedDescriptors.add( (AnnotationDescriptorImpl<?>) annotationDescriptor );
+			}
+		}
+
+		if ( composedDescriptors != null ) {
+			for ( int i = 0; i < composedDescriptors.size(); i++ ) {
+				applyComposedUsages( composedDescriptors.get( i ), target, present, consumer, processingContext );
+			}
+		}
+	}
+
+	/**
+	 * Whether the descriptor is for a {@linkplain AnnotationDescriptorImpl#getComposedUsages() composed} annotation
+	 */
+	public static boolean isComposed(AnnotationDescriptor<?> annotationDescriptor) {
+		return annotationDescriptor instanceof AnnotationDescriptorImpl
+				&& !( (AnnotationDescriptorImpl<?>) annotationDescriptor ).getComposedUsages().isEmpty();
+	}
+
+	/**
+	 * Applies the usages the given annotation is {@linkplain AnnotationDescriptorImpl#getComposedUsages() composed of}
+	 * to the target.  Annotations already {@code present} on the target (directly, or through another composed
+	 * annotation) win.
+	 *
+	 * @param present The annotation types present on the target, updated as usages are applied
+	 */
+	public static void applyComposedUsages(
+			AnnotationDescriptorImpl<?> composedDescriptor,
+			AnnotationTarget target,
+			Set<Class<? extends Annotation>> present,
+			BiConsumer<Class<? extends Annotation>, AnnotationUsage<?>> consumer,
+			ModelProcessingContext processingContext) {
+		final List<AnnotationUsageImpl<?>> composedUsages = composedDescriptor.getComposedUsages();
+		for ( int i = 0; i < composedUsages.size(); i++ ) {
+			final AnnotationUsageImpl<?> composedUsage = composedUsages.get( i );
+			final Class<? extends Annotation> annotationType = composedUsage.getAnnotationDescriptor().getAnnotationType();
+			if ( present.add( annotationType ) ) {
+				final AnnotationUsageImpl<?> usage = composedUsage.withTarget( target );
+				processingContext.registerUsage( usage );
+				consumer.accept( annotationType, usage );
+			}
 		}
 	}
 
@@ -76,38 +128,48 @@ public class AnnotationUsageBuilder {
 	}
 
 	/**
-	 * Extracts values from an annotation creating AnnotationAttributeValue references.
+	 * Extracts values from an annotation, in the compact form used by {@link AnnotationUsageImpl}.
+	 *
+	 * @implNote Values are read through the {@linkplain AnnotationAttributeDescriptor#extractValue attribute descriptors},
+	 * which resolve their accessor once per annotation type
 	 */
-	public static <A extends Annotation> Map<String, AnnotationAttributeValue<?,?>> extractAttributeValues(
+	public static <A extends Annotation> Object[] extractAttributeValues(
 			A annotation,
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget target,
 			ModelProcessingContext processingContext) {
-		if ( CollectionHelper.isEmpty( annotationDescriptor.getAttributes() ) ) {
-			return Collections.emptyMap();
+		final List<AnnotationAttributeDescriptor<A,?,?>> attributes = annotationDescriptor.getAttributes();
+		final Object[] values = AnnotationUsageImpl.valueArray( annotationDescriptor );
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = extractAttributeValue( annotation, attributes.get( i ), target, processingContext );
 		}
 
-		if ( annotationDescriptor.getAttributes().size() == 1 ) {
-			final AnnotationAttributeDescriptor<A,?,?> attributeDescriptor = annotationDescriptor.getAttributes().get( 0 );
-			final AnnotationAttributeValue<?, ?> valueWrapper = attributeDescriptor.makeValueWrapper(
-					extractRawAttributeValue( annotation, attributeDescriptor.getAttributeName() ),
-					target,
-					processingContext
-			);
-			return Collections.singletonMap( attributeDescriptor.getAttributeName(), valueWrapper );
-		}
+		final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+		return canonicalizer == null ? values : canonicalizer.canonicalize( values );
+	}
 
-		final Map<String, AnnotationAttributeValue<?,?>> valueMap = new HashMap<>();
-		for ( int i = 0; i < annotationDescriptor.getAttributes().size(); i++ ) {
-			final AnnotationAttributeDescriptor<A,?,?> attributeDescriptor = annotationDescriptor.getAttributes().get( i );
-			final AnnotationAttributeValue<?, ?> valueWrapper = attributeDescriptor.makeValueWrapper(
-					extractRawAttributeValue( annotation, attributeDescriptor.getAttributeName() ),
-					target,
-					processingContext
-			);
-			valueMap.put( attributeDescriptor.getAttributeName(), valueWrapper );
+	private static <A extends Annotation, V, W> Object extractAttributeValue(
+			A annotation,
+			AnnotationAttributeDescriptor<A, V, W> attributeDescriptor,
+			AnnotationTarget target,
+			ModelProcessingContext processingContext) {
+		return compactValue( attributeDescriptor, attributeDescriptor.extractValue( annotation ), target, processingContext );
+	}
+
+	/**
+	 * The compact form of a value - {@link AnnotationUsageImpl#DEFAULTED} if the value is the attribute's
+	 * {@linkplain AnnotationAttributeDescriptor#getDefaultValue() shared default}, the normalized value otherwise
+	 */
+	public static <V, W> Object compactValue(
+			AnnotationAttributeDescriptor<?, V, W> attributeDescriptor,
+			V value,
+			AnnotationTarget target,
+			ModelProcessingContext processingContext) {
+		if ( attributeDescriptor.getDefaultValue() != null
+				&& Objects.deepEquals( value, attributeDescriptor.getAttributeDefault() ) ) {
+			return AnnotationUsageImpl.DEFAULTED;
 		}
-		return valueMap;
+		return attributeDescriptor.normalizeValue( value, target, processingContext );
 	}
 
 	private AnnotationUsageBuilder() {
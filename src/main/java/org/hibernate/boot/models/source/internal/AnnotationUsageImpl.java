@@ -7,10 +7,11 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationAttributeValue;
@@ -18,16 +19,41 @@ import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
-import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
+ * AnnotationUsage implementation which stores the (normalized) attribute values in a flat
+ * array indexed by {@linkplain AnnotationAttributeDescriptor#getOrdinal() attribute ordinal}.
+ * Attributes whose value is the {@linkplain AnnotationAttributeDescriptor#getDefaultValue() shared default}
+ * are not materialized at all.  {@link AnnotationAttributeValue} wrappers for the other values are
+ * created on first access and then kept.
+ *
  * @author Steve Ebersole
  */
 public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsage<A> {
+	/**
+	 * Marks an attribute whose value is its descriptor's shared default
+	 */
+	public static final Object DEFAULTED = new Object();
+
+	/**
+	 * Marks an attribute for which no value was specified
+	 */
+	private static final Object UNSPECIFIED = new Object();
+
+	private static final Object[] NO_VALUES = new Object[0];
+
 	private final AnnotationDescriptor<A> annotationDescriptor;
 	private final AnnotationTarget location;
 
-	private final Map<String, AnnotationAttributeValue<?,?>> valueMap;
+	private final Object[] values;
+
+	/**
+	 * Wrappers for the materialized values, created on demand.  Usages of a frozen (shared) source
+	 * model are read concurrently by the boots sharing it, so both the array and its elements are
+	 * safely published.  Wrappers are immutable, so racing threads at worst create the same wrapper
+	 * twice, and only the first one is kept
+	 */
+	private volatile AtomicReferenceArray<AnnotationAttributeValue<?,?>> attributeValues;
 
 	public AnnotationUsageImpl(
 			A annotation,
@@ -37,25 +63,46 @@ public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsag
 		this.annotationDescriptor = annotationDescriptor;
 		this.location = location;
 
-		this.valueMap = AnnotationUsageBuilder.extractAttributeValues( annotation, annotationDescriptor, location, processingContext );
+		this.values = AnnotationUsageBuilder.extractAttributeValues( annotation, annotationDescriptor, location, processingContext );
 
 		processingContext.registerUsage( this );
 	}
 
+	/**
+	 * Form used by the builders, accepting the compact values directly
+	 *
+	 * @param values The normalized values, indexed by attribute ordinal.  {@link #DEFAULTED}
+	 * indicates the shared default.
+	 */
 	public AnnotationUsageImpl(
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget location,
-			Map<String, AnnotationAttributeValue<?,?>> valueMap) {
+			Object[] values) {
 		this.annotationDescriptor = annotationDescriptor;
 		this.location = location;
-		this.valueMap = valueMap;
+		this.values = values;
+	}
+
+	public AnnotationUsageImpl(
+			AnnotationDescriptor<A> annotationDescriptor,
+			AnnotationTarget location,
+			Map<String, AnnotationAttributeValue<?,?>> valueMap) {
+		this( annotationDescriptor, location, compactValues( annotationDescriptor, valueMap.values() ) );
 	}
 
 	public AnnotationUsageImpl(
 			AnnotationDescriptor<A> annotationDescriptor,
 			AnnotationTarget location,
 			List<AnnotationAttributeValue<?,?>> valueList) {
-		this( annotationDescriptor, location, indexValues( valueList ) );
+		this( annotationDescriptor, location, compactValues( annotationDescriptor, valueList ) );
+	}
+
+	/**
+	 * A usage of the same annotation, sharing its values, on the given target.  Used to apply
+	 * {@linkplain AnnotationDescriptorImpl#getComposedUsages() composed usages}.
+	 */
+	public AnnotationUsageImpl<A> withTarget(AnnotationTarget target) {
+		return new AnnotationUsageImpl<>( annotationDescriptor, target, values );
 	}
 
 	@Override
@@ -70,25 +117,75 @@ public class AnnotationUsageImpl<A extends Annotation> implements AnnotationUsag
 
 	@Override
 	public <V,W> AnnotationAttributeValue<V,W> getAttributeValue(String name) {
+		final int ordinal = annotationDescriptor.getAttributeOrdinal( name );
+		if ( ordinal < 0 ) {
+			return null;
+		}
 		//noinspection unchecked
-		return (AnnotationAttributeValue<V,W>) valueMap.get( name );
+		return getAttributeValue( (AnnotationAttributeDescriptor<A,V,W>) annotationDescriptor.getAttributes().get( ordinal ) );
 	}
 
 	@Override
 	public <V,W> AnnotationAttributeValue<V,W> getAttributeValue(AnnotationAttributeDescriptor<A,V,W> attributeDescriptor) {
-		return getAttributeValue( attributeDescriptor.getAttributeName() );
+		final List<AnnotationAttributeDescriptor<A,?,?>> attributes = annotationDescriptor.getAttributes();
+		final int ordinal = attributeDescriptor.getOrdinal();
+		if ( ordinal >= attributes.size() || attributes.get( ordinal ) != attributeDescriptor ) {
+			// a descriptor for the same annotation type, but from a different AnnotationDescriptor
+			return getAttributeValue( attributeDescriptor.getAttributeName() );
+		}
+
+		final Object value = values[ ordinal ];
+		if ( value == UNSPECIFIED ) {
+			return null;
+		}
+		if ( value == DEFAULTED ) {
+			return attributeDescriptor.getDefaultValue();
+		}
+
+		AtomicReferenceArray<AnnotationAttributeValue<?,?>> wrappers = attributeValues;
+		if ( wrappers == null ) {
+			synchronized ( this ) {
+				wrappers = attributeValues;
+				if ( wrappers == null ) {
+					wrappers = new AtomicReferenceArray<>( values.length );
+					attributeValues = wrappers;
+				}
+			}
+		}
+
+		AnnotationAttributeValue<?,?> wrapper = wrappers.get( ordinal );
+		if ( wrapper == null ) {
+			//noinspection unchecked
+			final AnnotationAttributeValue<?,?> created = new AnnotationAttributeValueImpl<>( attributeDescriptor, (W) value );
+			wrapper = wrappers.compareAndSet( ordinal, null, created ) ? created : wrappers.get( ordinal );
+		}
+		//noinspection unchecked
+		return (AnnotationAttributeValue<V,W>) wrapper;
+	}
+
+	/**
+	 * An array for holding the values of the given annotation's attributes
+	 */
+	public static Object[] valueArray(AnnotationDescriptor<?> annotationDescriptor) {
+		final int size = annotationDescriptor.getAttributes().size();
+		return size == 0 ? NO_VALUES : new Object[ size ];
 	}
 
-	private static Map<String, AnnotationAttributeValue<?,?>> indexValues(List<AnnotationAttributeValue<?,?>> valueList) {
-		if ( CollectionHelper.isEmpty( valueList ) ) {
-			return Collections.emptyMap();
+	private static Object[] compactValues(
+			AnnotationDescriptor<?> annotationDescriptor,
+			Collection<AnnotationAttributeValue<?,?>> valueWrappers) {
+		final Object[] values = valueArray( annotationDescriptor );
+		if ( values.length == 0 ) {
+			return values;
 		}
 
-		final Map<String, AnnotationAttributeValue<?,?>> result = new HashMap<>();
-		for ( int i = 0; i < valueList.size(); i++ ) {
-			final AnnotationAttributeValue<?,?> value = valueList.get( i );
-			result.put( value.getAttributeDescriptor().getAttributeName(), value );
+		Arrays.fill( values, UNSPECIFIED );
+		for ( AnnotationAttributeValue<?,?> valueWrapper : valueWrappers ) {
+			final int ordinal = annotationDescriptor.getAttributeOrdinal( valueWrapper.getAttributeDescriptor().getAttributeName() );
+			if ( ordinal >= 0 ) {
+				values[ ordinal ] = valueWrapper.getValue();
+			}
 		}
-		return result;
+		return values;
 	}
 }
@@ -7,22 +7,18 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.IdentifiableTypeMetadata;
-import org.hibernate.boot.models.source.AnnotationAccessException;
 import org.hibernate.boot.models.source.spi.AnnotationAttributeValue;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
-import org.hibernate.boot.models.source.spi.HibernateAnnotations;
-import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
@@ -120,28 +116,7 @@ public class AnnotationWrapperHelper {
 	}
 
 	public static void forEachOrmAnnotation(Consumer<AnnotationDescriptor<?>> consumer) {
-		forEachOrmAnnotation( JpaAnnotations.class, consumer );
-		forEachOrmAnnotation( HibernateAnnotations.class, consumer );
-	}
-
-	private static void forEachOrmAnnotation(Class<?> declarer, Consumer<AnnotationDescriptor<?>> consumer) {
-		for ( Field field : declarer.getFields() ) {
-			if ( AnnotationDescriptor.class.equals( field.getType() ) ) {
-				try {
-					consumer.accept( (AnnotationDescriptor<?>) field.get( null ) );
-				}
-				catch (IllegalAccessException e) {
-					throw new AnnotationAccessException(
-							String.format(
-									Locale.ROOT,
-									"Unable to access standard annotation descriptor field - %s",
-									field.getName()
-							),
-							e
-					);
-				}
-			}
-		}
+		StandardModelTypes.singleton().forEachOrmDescriptor( consumer );
 	}
 
 	public static <V,W> AnnotationAttributeValue<V,W> extractValueWrapper(AnnotationUsage<?> usage, String attributeName) {
@@ -201,10 +176,26 @@ public class AnnotationWrapperHelper {
 	 * <p/>
 	 * This is useful for JPA annotations which can be used in inheritance situations but
 	 * are never defined with {@link java.lang.annotation.Inherited}
+	 *
+	 * @implNote Served from the {@linkplain EntityHierarchy#findInheritedAnnotation hierarchy}, which
+	 * resolves the effective usage for all of its types at once
 	 */
 	public static <A extends Annotation> AnnotationUsage<A> findInheritedAnnotation(
 			IdentifiableTypeMetadata base,
 			AnnotationDescriptor<A> annotationDescriptor) {
+		final EntityHierarchy hierarchy = base.getHierarchy();
+		if ( hierarchy != null ) {
+			return hierarchy.findInheritedAnnotation( base, annotationDescriptor );
+		}
+		return resolveInheritedAnnotation( base, annotationDescriptor );
+	}
+
+	/**
+	 * Uncached form of {@link #findInheritedAnnotation}, walking up the super types
+	 */
+	public static <A extends Annotation> AnnotationUsage<A> resolveInheritedAnnotation(
+			IdentifiableTypeMetadata base,
+			AnnotationDescriptor<A> annotationDescriptor) {
 		final AnnotationUsage<A> annotation = base.getManagedClass().getAnnotation( annotationDescriptor );
 		if ( annotation != null ) {
 			return annotation;
@@ -213,10 +204,10 @@ public class AnnotationWrapperHelper {
 		if ( ! annotationDescriptor.isInherited() ) {
 			// we have a case where the annotation is not marked as `@Inherited` (like JPA's annotations),
 			// so manually check up the hierarchy.
-			// todo (annotation-source) : do we need to manually check meta-annotations?
+			// composed annotations were already expanded onto each class, so there is no need to check meta-annotations
 
 			if ( base.getSuperType() != null ) {
-				return findInheritedAnnotation( base.getSuperType(), annotationDescriptor );
+				return resolveInheritedAnnotation( base.getSuperType(), annotationDescriptor );
 			}
 		}
 
@@ -37,6 +37,25 @@ public class ArrayNormalizer<I,O> implements ValueNormalizer<I[], List<O>>{
 		for ( int i = 0; i < incomingValue.length; i++ ) {
 			result.add( elementNormalizer.normalize( incomingValue[i], target, processingContext ) );
 		}
-		return result;
+
+		final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+		if ( canonicalizer == null ) {
+			return result.size() == 1 ? Collections.singletonList( result.get( 0 ) ) : result;
+		}
+		return canonicalizer.canonicalize( result );
+	}
+
+	@Override
+	public boolean isShareable(I[] incomingValue) {
+		if ( ArrayHelper.isEmpty( incomingValue ) ) {
+			return true;
+		}
+
+		for ( int i = 0; i < incomingValue.length; i++ ) {
+			if ( !elementNormalizer.isShareable( incomingValue[i] ) ) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal;
+
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsBuilder;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+/**
+ * Reference to a type by name, resolved to its ClassDetails on first use.
+ * <p/>
+ * Used for member types, so that materializing the members of a class does not load and
+ * register the type of each member (JDK types of methods such as {@code toString}, e.g.)
+ * until something actually needs it.
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsReference {
+	private final String name;
+	private final ClassDetailsBuilder builder;
+	private final ModelProcessingContext processingContext;
+
+	private volatile ClassDetails resolved;
+
+	public ClassDetailsReference(String name, ClassDetailsBuilder builder, ModelProcessingContext processingContext) {
+		this.name = name;
+		this.builder = builder;
+		this.processingContext = processingContext;
+	}
+
+	/**
+	 * The name of the referenced type, available without resolving it
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Whether the referenced type is {@code void} (or {@link Void})
+	 */
+	public boolean isVoid() {
+		return "void".equals( name ) || Void.class.getName().equals( name );
+	}
+
+	/**
+	 * The ClassDetails for the referenced type, resolving it through the
+	 * {@linkplain ModelProcessingContext#getClassDetailsRegistry() registry} if needed
+	 */
+	public ClassDetails resolve() {
+		ClassDetails result = resolved;
+		if ( result == null ) {
+			// the registry guarantees a single ClassDetails per name, so racing here is harmless
+			result = processingContext.getClassDetailsRegistry().resolveClassDetails( name, builder );
+			resolved = result;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "ClassDetailsReference(" + name + ")";
+	}
+}
@@ -7,12 +7,23 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.models.source.internal.hcann.ClassDetailsBuilderImpl;
 import org.hibernate.boot.models.source.UnknownManagedClassException;
 import org.hibernate.boot.models.source.spi.ClassDetails;
@@ -21,32 +32,107 @@ import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
 
 /**
- * Standard ClassDetailsRegistry implementation
+ * Standard ClassDetailsRegistry implementation.
+ * <p/>
+ * Safe for use from multiple threads.  Reads never block.  Resolution builds each
+ * ClassDetails just once - concurrent requests for the same name wait for the
+ * thread doing the building, while requests for other names proceed in parallel.
+ *
+ * @implNote Building a ClassDetails re-enters the registry (to resolve its super
+ * type, e.g.), which rules out {@link ConcurrentHashMap#computeIfAbsent} - the mapping
+ * function may not touch the map.  Instead, we track the in-flight resolutions
+ * separately, along with which thread is waiting on which resolution so that
+ * cross-thread cycles are detected rather than deadlocking.
+ * <p/>
+ * ClassDetails for {@linkplain StandardModelTypes standard types} are always built through
+ * reflection, regardless of the requested builder.  They are never registered up front, but
+ * are built on first access - including through {@link #findClassDetails} and {@link #getClassDetails}.
+ * <p/>
+ * A registry may be layered over a {@linkplain #freeze() frozen} parent registry shared
+ * by multiple contexts - see {@link org.hibernate.boot.models.spi.SharedSourceModel}.
+ * Look-ups fall through to the parent, while additions are always made locally.  A frozen
+ * registry itself accepts no additions at all.
  *
  * @author Steve Ebersole
  */
 public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
-	private final ClassDetailsBuilder fallbackClassDetailsBuilder;
+	private final ClassDetailsRegistry parent;
+	// released when frozen - a frozen registry builds nothing
+	private volatile ClassDetailsBuilder fallbackClassDetailsBuilder;
 	private final ModelProcessingContext context;
 
-	private final Map<String, ClassDetails> managedClassMap = new ConcurrentHashMap<>();
-	private final Map<String, List<ClassDetails>> subTypeManagedClassMap = new ConcurrentHashMap<>();
+	private volatile boolean frozen;
+
+	private final ConcurrentHashMap<String, ClassDetails> managedClassMap = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Queue<ClassDetails>> subTypeManagedClassMap = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<String, InFlightResolution> inFlightResolutions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Thread, InFlightResolution> waitingThreads = new ConcurrentHashMap<>();
 
 	public ClassDetailsRegistryImpl(ModelProcessingContext context) {
 		this( new ClassDetailsBuilderImpl( context ), context );
 	}
 
 	public ClassDetailsRegistryImpl(ClassDetailsBuilder fallbackClassDetailsBuilder, ModelProcessingContext context) {
+		this( null, fallbackClassDetailsBuilder, context );
+	}
+
+	public ClassDetailsRegistryImpl(
+			ClassDetailsRegistry parent,
+			ClassDetailsBuilder fallbackClassDetailsBuilder,
+			ModelProcessingContext context) {
+		this.parent = parent;
 		this.context = context;
 		this.fallbackClassDetailsBuilder = fallbackClassDetailsBuilder;
 	}
 
+	/**
+	 * Freezes this registry for sharing.  Afterwards, the registrations are fixed - adding
+	 * ClassDetails, or resolving ClassDetails which are not registered, fails.  The registered
+	 * ClassDetails are expected to be complete by then - see {@link ModelProcessingContextImpl#freeze()}.
+	 * <p/>
+	 * Standard types which are not registered are no longer built on demand either - registries
+	 * layered over this one build them locally.
+	 */
+	public void freeze() {
+		frozen = true;
+		fallbackClassDetailsBuilder = null;
+	}
+
+	public boolean isFrozen() {
+		return frozen;
+	}
+
 	@Override public ClassDetails findClassDetails(String name) {
-		return managedClassMap.get( name );
+		final ClassDetails registered = findRegisteredClassDetails( name );
+		if ( registered != null ) {
+			return registered;
+		}
+
+		if ( !frozen && StandardModelTypes.singleton().findReflectionType( name ) != null ) {
+			// standard types are not registered up front, but are always known - build them on demand
+			return resolveClassDetails( name, fallbackClassDetailsBuilder );
+		}
+
+		return null;
+	}
+
+	/**
+	 * Find an existing registration, without building standard types on demand
+	 */
+	private ClassDetails findRegisteredClassDetails(String name) {
+		final ClassDetails local = managedClassMap.get( name );
+		if ( local != null || parent == null ) {
+			return local;
+		}
+		if ( parent instanceof ClassDetailsRegistryImpl ) {
+			return ( (ClassDetailsRegistryImpl) parent ).findRegisteredClassDetails( name );
+		}
+		return parent.findClassDetails( name );
 	}
 
 	@Override public ClassDetails getClassDetails(String name) {
-		final ClassDetails named = managedClassMap.get( name );
+		final ClassDetails named = findClassDetails( name );
 		if ( named == null ) {
 			throw new UnknownManagedClassException( "Unknown managed class" );
 		}
@@ -54,15 +140,64 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 	}
 
 	@Override public void forEachClassDetails(Consumer<ClassDetails> consumer) {
+		if ( parent != null ) {
+			parent.forEachClassDetails( (classDetails) -> {
+				if ( !managedClassMap.containsKey( classDetails.getName() ) ) {
+					consumer.accept( classDetails );
+				}
+			} );
+		}
 		managedClassMap.values().forEach( consumer );
 	}
 
+	/**
+	 * Visit the registrations (name and ClassDetails) visible through this registry,
+	 * including those of the parent not shadowed by a local registration
+	 */
+	public void forEachRegistration(BiConsumer<String, ClassDetails> consumer) {
+		if ( parent instanceof ClassDetailsRegistryImpl ) {
+			( (ClassDetailsRegistryImpl) parent ).forEachRegistration( (name, classDetails) -> {
+				if ( !managedClassMap.containsKey( name ) ) {
+					consumer.accept( name, classDetails );
+				}
+			} );
+		}
+		else if ( parent != null ) {
+			parent.forEachClassDetails( (classDetails) -> {
+				if ( !managedClassMap.containsKey( classDetails.getName() ) ) {
+					consumer.accept( classDetails.getName(), classDetails );
+				}
+			} );
+		}
+		managedClassMap.forEach( consumer );
+	}
+
+	/**
+	 * Visit the registrations made directly with this registry, ignoring the parent
+	 */
+	public void forEachLocalRegistration(BiConsumer<String, ClassDetails> consumer) {
+		managedClassMap.forEach( consumer );
+	}
+
 	@Override public List<ClassDetails> getDirectSubTypes(String superTypeName) {
-		return subTypeManagedClassMap.get( superTypeName );
+		final Queue<ClassDetails> directSubTypes = subTypeManagedClassMap.get( superTypeName );
+		final List<ClassDetails> parentSubTypes = parent == null ? null : parent.getDirectSubTypes( superTypeName );
+		if ( directSubTypes == null ) {
+			return parentSubTypes;
+		}
+
+		final List<ClassDetails> result = new ArrayList<>( directSubTypes );
+		if ( parentSubTypes != null ) {
+			result.addAll( parentSubTypes );
+		}
+		return result;
 	}
 
 	@Override public void forEachDirectSubType(String superTypeName, Consumer<ClassDetails> consumer) {
-		final List<ClassDetails> directSubTypes = getDirectSubTypes( superTypeName );
+		if ( parent != null ) {
+			parent.forEachDirectSubType( superTypeName, consumer );
+		}
+		final Queue<ClassDetails> directSubTypes = subTypeManagedClassMap.get( superTypeName );
 		if ( directSubTypes != null ) {
 			directSubTypes.forEach( consumer );
 		}
@@ -73,18 +208,39 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 	}
 
 	@Override public void addClassDetails(String name, ClassDetails classDetails) {
-		managedClassMap.put( name, classDetails );
+		if ( frozen ) {
+			if ( managedClassMap.get( name ) == classDetails ) {
+				return;
+			}
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Cannot add ClassDetails to a frozen registry : %s",
+							name
+					)
+			);
+		}
+
+		final ClassDetails previous = managedClassMap.put( name, classDetails );
+
+		if ( previous == classDetails ) {
+			// ClassDetails generally register themselves, and are then registered
+			// again by `#resolveClassDetails` - only index them once
+			return;
+		}
 
 		if ( classDetails.getSuperType() != null ) {
-			List<ClassDetails> subTypes = subTypeManagedClassMap.get( classDetails.getSuperType().getName() );
-			if ( subTypes == null ) {
-				subTypes = new ArrayList<>();
-				subTypeManagedClassMap.put( classDetails.getSuperType().getName(), subTypes );
-			}
-			subTypes.add( classDetails );
+			subTypeManagedClassMap.computeIfAbsent(
+					classDetails.getSuperType().getName(),
+					(superTypeName) -> new ConcurrentLinkedQueue<>()
+			).add( classDetails );
 		}
 	}
 
+	@Override public ClassDetailsBuilder getClassDetailsBuilder() {
+		return fallbackClassDetailsBuilder;
+	}
+
 	@Override public ClassDetails resolveClassDetails(String name) {
 		return resolveClassDetails( name, fallbackClassDetailsBuilder );
 	}
@@ -92,26 +248,204 @@ public class ClassDetailsRegistryImpl implements ClassDetailsRegistry {
 	@Override public ClassDetails resolveClassDetails(
 			String name,
 			ClassDetailsBuilder creator) {
-		final ClassDetails existing = managedClassMap.get( name );
+		final ClassDetails existing = findRegisteredClassDetails( name );
 		if ( existing != null ) {
 			return existing;
 		}
 
-		final ClassDetails created = creator.buildClassDetails( name, context );
-		addClassDetails( name, created );
-		return created;
+		if ( frozen ) {
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Cannot resolve ClassDetails through a frozen registry - `%s` is not registered",
+							name
+					)
+			);
+		}
+
+		final InFlightResolution resolution = new InFlightResolution();
+		final InFlightResolution existingResolution = inFlightResolutions.putIfAbsent( name, resolution );
+		if ( existingResolution != null ) {
+			return awaitResolution( name, existingResolution );
+		}
+
+		try {
+			// check again - another thread may have completed between our
+			// initial check and registering our in-flight resolution
+			final ClassDetails raced = findRegisteredClassDetails( name );
+			if ( raced != null ) {
+				resolution.result.complete( raced );
+				return raced;
+			}
+
+			final ClassDetails created = buildClassDetails( name, creator );
+			addClassDetails( name, created );
+			resolution.result.complete( created );
+			return created;
+		}
+		catch (RuntimeException e) {
+			resolution.result.completeExceptionally( e );
+			throw e;
+		}
+		finally {
+			inFlightResolutions.remove( name, resolution );
+		}
+	}
+
+	private ClassDetails buildClassDetails(String name, ClassDetailsBuilder creator) {
+		final Class<?> reflectionType = StandardModelTypes.singleton().findReflectionType( name );
+		if ( reflectionType != null ) {
+			return org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl.buildClassDetails(
+					reflectionType,
+					context
+			);
+		}
+		return creator.buildClassDetails( name, context );
+	}
+
+	private ClassDetails awaitResolution(String name, InFlightResolution resolution) {
+		final Thread currentThread = Thread.currentThread();
+		// record the wait before checking for cycles - of 2 threads about to wait on
+		// each other, at least one is then guaranteed to see the other's wait
+		waitingThreads.put( currentThread, resolution );
+		try {
+			if ( isCircular( currentThread, resolution ) ) {
+				// the thread building `name` is (directly or indirectly) waiting on this thread - e.g.
+				// entities referring to each other through fields.  ClassDetails register themselves
+				// as part of construction, so check for that rather than waiting on each other forever
+				final ClassDetails registered = managedClassMap.get( name );
+				if ( registered != null ) {
+					return registered;
+				}
+				throw new HibernateException(
+						String.format(
+								Locale.ROOT,
+								"Circular resolution of ClassDetails : %s",
+								name
+						)
+				);
+			}
+
+			return resolution.result.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+		finally {
+			waitingThreads.remove( currentThread );
+		}
+	}
+
+	private boolean isCircular(Thread currentThread, InFlightResolution resolution) {
+		InFlightResolution next = resolution;
+		// bound the walk; a cycle among other threads is theirs to detect
+		int remaining = waitingThreads.size() + 1;
+		while ( next != null && remaining-- > 0 ) {
+			if ( next.owner == currentThread ) {
+				return true;
+			}
+			next = waitingThreads.get( next.owner );
+		}
+		return false;
 	}
 
 	@Override public ClassDetails resolveClassDetails(
 			String name,
 			Supplier<ClassDetails> creator) {
-		final ClassDetails existing = managedClassMap.get( name );
-		if ( existing != null ) {
-			return existing;
+		return resolveClassDetails( name, (n, processingContext) -> creator.get() );
+	}
+
+	@Override public List<ClassDetails> resolveClassDetails(Collection<String> names, ForkJoinPool forkJoinPool) {
+		return resolveClassDetails( names, fallbackClassDetailsBuilder, forkJoinPool );
+	}
+
+	@Override public List<ClassDetails> resolveClassDetails(
+			Collection<String> names,
+			ClassDetailsBuilder creator,
+			ForkJoinPool forkJoinPool) {
+		final LinkedHashSet<String> uniqueNames = new LinkedHashSet<>( names );
+		if ( frozen ) {
+			// nothing to build
+			final List<ClassDetails> result = new ArrayList<>( uniqueNames.size() );
+			for ( String name : uniqueNames ) {
+				result.add( resolveClassDetails( name, creator ) );
+			}
+			return result;
+		}
+
+		// the depth of each unregistered class (and super class) within the part of its
+		// hierarchy which is not yet registered - 0 for the top-most unregistered class
+		final Map<String, Integer> depths = new HashMap<>();
+		final List<List<String>> levels = new ArrayList<>();
+		for ( String name : uniqueNames ) {
+			collectUnresolvedHierarchy( name, creator, depths, levels );
+		}
+
+		for ( int i = 0; i < levels.size(); i++ ) {
+			final List<String> level = levels.get( i );
+			if ( forkJoinPool == null || level.size() == 1 ) {
+				for ( int j = 0; j < level.size(); j++ ) {
+					resolveClassDetails( level.get( j ), creator );
+				}
+			}
+			else {
+				// the super types of this level are all resolved, so the tasks never wait on each other
+				forkJoinPool.submit( () -> level.parallelStream().forEach( (name) -> resolveClassDetails( name, creator ) ) )
+						.join();
+			}
+		}
+
+		final List<ClassDetails> result = new ArrayList<>( uniqueNames.size() );
+		for ( String name : uniqueNames ) {
+			result.add( resolveClassDetails( name, creator ) );
 		}
+		return result;
+	}
+
+	private void collectUnresolvedHierarchy(
+			String name,
+			ClassDetailsBuilder creator,
+			Map<String, Integer> depths,
+			List<List<String>> levels) {
+		// walk up until reaching a class which is already registered or already collected
+		final List<String> unresolved = new ArrayList<>();
+		int depth = -1;
+		String current = name;
+		while ( current != null ) {
+			final Integer knownDepth = depths.get( current );
+			if ( knownDepth != null ) {
+				depth = knownDepth;
+				break;
+			}
+			if ( findRegisteredClassDetails( current ) != null ) {
+				break;
+			}
+			unresolved.add( current );
+			// standard types are simply built through reflection - no need to order their hierarchies
+			current = StandardModelTypes.singleton().findReflectionType( current ) != null
+					? null
+					: creator.findSuperTypeName( current, context );
+		}
+
+		for ( int i = unresolved.size() - 1; i >= 0; i-- ) {
+			depth++;
+			final String unresolvedName = unresolved.get( i );
+			depths.put( unresolvedName, depth );
+			if ( levels.size() == depth ) {
+				levels.add( new ArrayList<>() );
+			}
+			levels.get( depth ).add( unresolvedName );
+		}
+	}
 
-		final ClassDetails created = creator.get();
-		addClassDetails( name, created );
-		return created;
+	/**
+	 * Marker for a resolution currently being performed
+	 */
+	private static class InFlightResolution {
+		private final Thread owner = Thread.currentThread();
+		private final CompletableFuture<ClassDetails> result = new CompletableFuture<>();
 	}
 }
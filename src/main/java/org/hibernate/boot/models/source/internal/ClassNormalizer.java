@@ -26,7 +26,7 @@ public class ClassNormalizer implements ValueNormalizer<Class<?>, ClassDetails>
 
 	@Override
 	public ClassDetails normalize(Class<?> incomingValue, AnnotationTarget target, ModelProcessingContext processingContext) {
-		if ( incomingValue == null || attributeJavaType.equals( incomingValue ) || void.class.equals( incomingValue ) ) {
+		if ( isNullValue( incomingValue ) ) {
 			return null;
 		}
 
@@ -41,4 +41,14 @@ public class ClassNormalizer implements ValueNormalizer<Class<?>, ClassDetails>
 			return classDetails;
 		}
 	}
+
+	private boolean isNullValue(Class<?> incomingValue) {
+		return incomingValue == null || attributeJavaType.equals( incomingValue ) || void.class.equals( incomingValue );
+	}
+
+	@Override
+	public boolean isShareable(Class<?> incomingValue) {
+		// only the "null" values are independent of the registry
+		return isNullValue( incomingValue );
+	}
 }
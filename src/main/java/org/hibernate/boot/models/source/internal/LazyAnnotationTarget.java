@@ -14,6 +14,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
@@ -28,7 +29,9 @@ public abstract class LazyAnnotationTarget implements AnnotationTarget {
 	private final Supplier<Annotation[]> annotationSupplier;
 	private final ModelProcessingContext processingContext;
 
-	private Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	// published through the write to `usagesMap`
+	private AnnotationPresence annotationPresence;
 
 	public LazyAnnotationTarget(
 			Supplier<Annotation[]> annotationSupplier,
@@ -46,16 +49,32 @@ public abstract class LazyAnnotationTarget implements AnnotationTarget {
 		return AnnotationWrapperHelper.getAnnotation( type, resolveUsagesMap() );
 	}
 
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		resolveUsagesMap();
+		return annotationPresence;
+	}
+
 	@Override
 	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
 		return AnnotationWrapperHelper.getRepeatedAnnotations( type, resolveUsagesMap() );
 	}
 
 	private Map<Class<? extends Annotation>, AnnotationUsage<?>> resolveUsagesMap() {
-		if ( usagesMap == null ) {
-			usagesMap = buildUsagesMap();
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> result = usagesMap;
+		if ( result == null ) {
+			// the usages get registered with the processing context as they are built,
+			// so make sure that happens just once even with parallel processing
+			synchronized ( this ) {
+				result = usagesMap;
+				if ( result == null ) {
+					result = buildUsagesMap();
+					annotationPresence = AnnotationPresence.from( result.values() );
+					usagesMap = result;
+				}
+			}
 		}
-		return usagesMap;
+		return result;
 	}
 
 	private Map<Class<? extends Annotation>, AnnotationUsage<?>> buildUsagesMap() {
@@ -7,61 +7,164 @@
 package org.hibernate.boot.models.source.internal;
 
 import java.lang.annotation.Annotation;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.net.URL;
-import java.sql.Blob;
-import java.sql.Clob;
-import java.sql.NClob;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.OffsetDateTime;
-import java.time.OffsetTime;
-import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
-import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
-import org.hibernate.boot.models.source.internal.reflection.ClassDetailsImpl;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
+import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsBuilder;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.models.source.spi.MemberDetails;
+import org.hibernate.boot.models.source.spi.MethodDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.MetadataBuildingContext;
-import org.hibernate.internal.util.collections.CollectionHelper;
 
-import jakarta.persistence.AttributeConverter;
+import org.jboss.jandex.IndexView;
 
 /**
- * Standard implementation of ModelProcessingContext
+ * Standard implementation of ModelProcessingContext.
+ * <p/>
+ * Creation is cheap - the standard annotation descriptors and the ClassDetails for standard
+ * types come from {@link StandardModelTypes} on demand rather than being registered up front.
  *
  * @author Steve Ebersole
  */
 public class ModelProcessingContextImpl implements ModelProcessingContext {
+	private static final AnnotationPresence MANAGED_TYPES = AnnotationPresence.of(
+			JpaAnnotations.ENTITY,
+			JpaAnnotations.MAPPED_SUPERCLASS,
+			JpaAnnotations.EMBEDDABLE
+	);
+	private static final AnnotationPresence EMBEDDED_MEMBERS = AnnotationPresence.of(
+			JpaAnnotations.EMBEDDED,
+			JpaAnnotations.EMBEDDED_ID
+	);
+
 	private final AnnotationDescriptorRegistryImpl descriptorRegistry;
 	private final ClassDetailsRegistry classDetailsRegistry;
-	private final MetadataBuildingContext buildingContext;
+	// released when frozen - see #freeze
+	private MetadataBuildingContext buildingContext;
+
+	// non-null when layered over a shared source model
+	private final ModelProcessingContextImpl sharedContext;
+
+	// for a retained context, the frozen contexts which built the ClassDetails it holds - see #retain
+	private final List<ModelProcessingContextImpl> retainedFrom;
+	// for a frozen context whose ClassDetails were retained, the context of the boot now using them.
+	// lazy resolution on those ClassDetails is forwarded to it
+	private volatile ModelProcessingContextImpl homeContext;
+
+	// index of the usages of globally resolvable annotations.  concurrent, as usages are registered
+	// while building ClassDetails, which may happen from multiple threads
+	private final ConcurrentHashMap<AnnotationDescriptor<?>,Queue<AnnotationUsage<?>>> annotationUsageMap = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<AnnotationDescriptor<?>,AnnotatedClasses> annotatedClassMap = new ConcurrentHashMap<>();
 
-	private final Map<AnnotationDescriptor<?>,List<AnnotationUsage<?>>> annotationUsageMap = new HashMap<>();
+	private final ValueCanonicalizer valueCanonicalizer = new ValueCanonicalizer();
+
+	// built on demand - see #resolveDependencies
+	private SourceModelDependencies dependencies;
 
 	public ModelProcessingContextImpl(MetadataBuildingContext buildingContext) {
+		this( (IndexView) null, buildingContext );
+	}
+
+	/**
+	 * Creates a context building ClassDetails from the given Jandex index, if one.
+	 * Otherwise, as {@linkplain #ModelProcessingContextImpl(MetadataBuildingContext)}.
+	 */
+	public ModelProcessingContextImpl(IndexView jandexIndex, MetadataBuildingContext buildingContext) {
+		this( jandexIndex, buildingContext, false );
+	}
+
+	private ModelProcessingContextImpl(IndexView jandexIndex, MetadataBuildingContext buildingContext, boolean detachable) {
 		this.buildingContext = buildingContext;
+		this.sharedContext = null;
+		this.retainedFrom = Collections.emptyList();
 		this.descriptorRegistry = new AnnotationDescriptorRegistryImpl( this );
-		this.classDetailsRegistry = new ClassDetailsRegistryImpl( this );
+		this.classDetailsRegistry = new ClassDetailsRegistryImpl( determineClassDetailsBuilder( jandexIndex, detachable ), this );
+	}
 
-		primeRegistries();
+	/**
+	 * Creates a context whose source model can outlive the boot of {@code buildingContext} once
+	 * {@linkplain #freeze() frozen} - a {@linkplain org.hibernate.boot.models.spi.SharedSourceModel shared}
+	 * or {@linkplain org.hibernate.boot.models.spi.IncrementalSourceModel incremental} one.
+	 * <p/>
+	 * ClassDetails are built from the Jandex index, if one, and otherwise through reflection.  Never
+	 * through HCANN - its XClass references hold on to the ReflectionManager of the boot, and through
+	 * that to its BootstrapContext and ServiceRegistry.
+	 */
+	public static ModelProcessingContextImpl detachable(IndexView jandexIndex, MetadataBuildingContext buildingContext) {
+		return new ModelProcessingContextImpl( jandexIndex, buildingContext, true );
+	}
+
+	/**
+	 * Creates a context layered over the {@linkplain #freeze() frozen} {@code sharedContext}.
+	 * ClassDetails and usages from the shared context are visible through this one, while
+	 * anything created through this context (XML mappings, e.g.) stays local to it.
+	 *
+	 * @see org.hibernate.boot.models.spi.SharedSourceModel
+	 */
+	public ModelProcessingContextImpl(
+			ModelProcessingContextImpl sharedContext,
+			IndexView jandexIndex,
+			MetadataBuildingContext buildingContext) {
+		this( sharedContext, jandexIndex, buildingContext, false );
+	}
+
+	/**
+	 * Creates a {@linkplain #detachable(IndexView, MetadataBuildingContext) detachable} context layered
+	 * over the {@linkplain #freeze() frozen} {@code sharedContext} - the context of an
+	 * {@linkplain org.hibernate.boot.models.spi.IncrementalSourceModel incremental} boot, e.g.
+	 */
+	public static ModelProcessingContextImpl detachable(
+			ModelProcessingContextImpl sharedContext,
+			IndexView jandexIndex,
+			MetadataBuildingContext buildingContext) {
+		return new ModelProcessingContextImpl( sharedContext, jandexIndex, buildingContext, true );
+	}
+
+	private ModelProcessingContextImpl(
+			ModelProcessingContextImpl sharedContext,
+			IndexView jandexIndex,
+			MetadataBuildingContext buildingContext,
+			boolean detachable) {
+		assert sharedContext.isFrozen();
+
+		this.buildingContext = buildingContext;
+		this.sharedContext = sharedContext;
+		this.retainedFrom = Collections.emptyList();
+		// descriptors created here register the ClassDetails of their annotation type, which
+		// must go into this context rather than the frozen one
+		this.descriptorRegistry = new AnnotationDescriptorRegistryImpl( sharedContext.descriptorRegistry, this );
+		this.classDetailsRegistry = new ClassDetailsRegistryImpl(
+				sharedContext.classDetailsRegistry,
+				determineClassDetailsBuilder( jandexIndex, detachable ),
+				this
+		);
+
+		// re-home the retained ClassDetails onto this context
+		for ( ModelProcessingContextImpl source : sharedContext.retainedFrom ) {
+			source.homeContext = this;
+		}
 	}
 
 	public ModelProcessingContextImpl(
@@ -69,67 +172,284 @@ public class ModelProcessingContextImpl implements ModelProcessingContext {
 			AnnotationDescriptorRegistryImpl annotationDescriptorRegistry,
 			MetadataBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
+		this.sharedContext = null;
+		this.retainedFrom = Collections.emptyList();
 		this.descriptorRegistry = annotationDescriptorRegistry;
 		this.classDetailsRegistry = classDetailsRegistry;
+	}
+
+	/**
+	 * Creates a frozen context retaining the source model of {@code previous} - see {@link #retain}
+	 */
+	private ModelProcessingContextImpl(ModelProcessingContextImpl previous, Set<String> invalidatedClassNames) {
+		assert previous.isFrozen();
+
+		// frozen from the start, so never attached to a MetadataBuildingContext
+		this.buildingContext = null;
+		this.sharedContext = null;
+		this.descriptorRegistry = previous.descriptorRegistry;
+
+		final List<ModelProcessingContextImpl> sources = new ArrayList<>();
+		if ( previous.sharedContext != null ) {
+			sources.addAll( previous.sharedContext.retainedFrom );
+		}
+		sources.add( previous );
+		this.retainedFrom = sources;
+
+		final ClassDetailsRegistryImpl registry = new ClassDetailsRegistryImpl( null, null, this );
+		this.classDetailsRegistry = registry;
+
+		// the retained ClassDetails and their members - usages of anything else are dropped
+		final Set<AnnotationTarget> retainedTargets = Collections.newSetFromMap( new IdentityHashMap<>() );
+		( (ClassDetailsRegistryImpl) previous.classDetailsRegistry ).forEachRegistration( (name, classDetails) -> {
+			if ( invalidatedClassNames.contains( name )
+					|| classDetails instanceof org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl ) {
+				return;
+			}
+			registry.addClassDetails( name, classDetails );
+			retainedTargets.add( classDetails );
+			classDetails.forEachField( (index, fieldDetails) -> retainedTargets.add( fieldDetails ) );
+			classDetails.forEachMethod( (index, methodDetails) -> retainedTargets.add( methodDetails ) );
+		} );
+		registry.freeze();
+
+		previous.forEachRegisteredUsage( (usage) -> {
+			if ( retainedTargets.contains( usage.getAnnotationTarget() ) ) {
+				addUsage( usage.getAnnotationDescriptor(), usage );
+			}
+		} );
+
+		this.dependencies = previous.resolveDependencies().without( invalidatedClassNames );
+	}
+
+	private ClassDetailsBuilder determineClassDetailsBuilder(IndexView jandexIndex, boolean detachable) {
+		if ( jandexIndex != null ) {
+			return new org.hibernate.boot.models.source.internal.jandex.ClassDetailsBuilderImpl( jandexIndex );
+		}
+
+		// if we were handed a Jandex index, build ClassDetails from it rather than loading the classes
+		final Object jandexView = buildingContext.getBootstrapContext().getJandexView();
+		if ( jandexView instanceof IndexView ) {
+			return new org.hibernate.boot.models.source.internal.jandex.ClassDetailsBuilderImpl( (IndexView) jandexView );
+		}
+		if ( detachable ) {
+			return org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl.INSTANCE;
+		}
+		return new org.hibernate.boot.models.source.internal.hcann.ClassDetailsBuilderImpl( this );
+	}
+
+	/**
+	 * Freezes this context so that it can be {@linkplain org.hibernate.boot.models.spi.SharedSourceModel shared}.
+	 * <p/>
+	 * Completes the ClassDetails known at this point, so that other contexts see them fully built -
+	 * annotation usages, super and interface types and the Class of each.  Managed types (entities,
+	 * mapped-superclasses and embeddables, along with their super types and embedded types) are
+	 * completed in full - members and the types of the members which can be persistent attributes.
+	 * The types of other members ({@code toString()}, e.g.) are never resolved.  Completing may resolve
+	 * further types (associations, annotation attributes naming classes, etc.), so this repeats until
+	 * no new ClassDetails appear.
+	 * <p/>
+	 * Afterwards, the ClassDetails registry is frozen and the MetadataBuildingContext released - the
+	 * frozen context holds no reference to the boot which built it.
+	 *
+	 * @see #detachable
+	 */
+	public void freeze() {
+		final ClassDetailsRegistryImpl registry = (ClassDetailsRegistryImpl) classDetailsRegistry;
+		if ( registry.isFrozen() ) {
+			return;
+		}
+
+		final Set<ClassDetails> completed = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final Set<ClassDetails> completedManagedTypes = Collections.newSetFromMap( new IdentityHashMap<>() );
+		boolean changed = true;
+		while ( changed ) {
+			changed = false;
+
+			final List<ClassDetails> known = new ArrayList<>();
+			if ( sharedContext == null ) {
+				registry.forEachClassDetails( known::add );
+			}
+			else {
+				// the shared context is frozen, so its ClassDetails are complete already
+				registry.forEachLocalRegistration( (name, classDetails) -> known.add( classDetails ) );
+			}
+
+			for ( ClassDetails classDetails : known ) {
+				if ( isStandardType( classDetails ) || !completed.add( classDetails ) ) {
+					// standard types are never enhanced or inspected in detail
+					continue;
+				}
+				changed = true;
+
+				completeClassDetails( classDetails );
+				if ( classDetails.hasAnyAnnotation( MANAGED_TYPES ) ) {
+					completeManagedType( classDetails, completedManagedTypes );
+				}
+			}
+		}
+
+		registry.freeze();
+		buildingContext = null;
+	}
+
+	private static boolean isStandardType(ClassDetails classDetails) {
+		return StandardModelTypes.singleton().findReflectionType( classDetails.getName() ) != null;
+	}
+
+	private static void completeClassDetails(ClassDetails classDetails) {
+		// any look-up builds the full usage map
+		classDetails.getAnnotation( JpaAnnotations.ENTITY );
+		classDetails.getSuperType();
+		classDetails.getImplementedInterfaceTypes();
+		if ( !( classDetails instanceof org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl ) ) {
+			// the Class is loaded lazily (and cached) - the frozen context cannot load it later
+			classDetails.toJavaClass();
+		}
+	}
+
+	private static void completeManagedType(ClassDetails classDetails, Set<ClassDetails> completed) {
+		if ( classDetails == null || isStandardType( classDetails ) || !completed.add( classDetails ) ) {
+			return;
+		}
+
+		completeClassDetails( classDetails );
 
-		primeRegistries();
+		// materialize the members - `#forEachField` and `#forEachMethod` only visit members already built
+		final List<FieldDetails> fields = classDetails.getFields();
+		for ( int i = 0; i < fields.size(); i++ ) {
+			final FieldDetails fieldDetails = fields.get( i );
+			fieldDetails.getAnnotation( JpaAnnotations.ENTITY );
+			if ( fieldDetails.isPersistable() ) {
+				completeMemberType( fieldDetails, completed );
+			}
+		}
+		final List<MethodDetails> methods = classDetails.getMethods();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails methodDetails = methods.get( i );
+			methodDetails.getAnnotation( JpaAnnotations.ENTITY );
+			if ( methodDetails.isPersistable() && isGetterName( methodDetails.getName() ) ) {
+				completeMemberType( methodDetails, completed );
+			}
+		}
+
+		completeManagedType( classDetails.getSuperType(), completed );
+	}
+
+	private static void completeMemberType(MemberDetails memberDetails, Set<ClassDetails> completed) {
+		final ClassDetails type = memberDetails.getType();
+		if ( type == null ) {
+			return;
+		}
+		if ( memberDetails.hasAnyAnnotation( EMBEDDED_MEMBERS ) || type.hasAnyAnnotation( MANAGED_TYPES ) ) {
+			completeManagedType( type, completed );
+		}
 	}
 
-	private void primeRegistries() {
-		AnnotationWrapperHelper.forEachOrmAnnotation( (annotationDescriptor) -> {
-			descriptorRegistry.register( annotationDescriptor );
-			classDetailsRegistry.addClassDetails( new ClassDetailsImpl( annotationDescriptor.getAnnotationType(), this ) );
+	/**
+	 * Whether the method name follows the getter naming conventions, which
+	 * {@link MethodDetails#resolveAttributeName()} expects of persistent attributes
+	 */
+	private static boolean isGetterName(String methodName) {
+		return ( methodName.startsWith( "get" ) && methodName.length() > 3 )
+				|| ( methodName.startsWith( "is" ) && methodName.length() > 2 )
+				|| ( methodName.startsWith( "has" ) && methodName.length() > 3 );
+	}
+
+	public boolean isFrozen() {
+		return classDetailsRegistry instanceof ClassDetailsRegistryImpl
+				&& ( (ClassDetailsRegistryImpl) classDetailsRegistry ).isFrozen();
+	}
+
+	/**
+	 * Creates a context retaining the source model of this one for an
+	 * {@linkplain org.hibernate.boot.models.spi.IncrementalSourceModel incremental} boot.
+	 * <p/>
+	 * This context is {@linkplain #freeze() frozen} first.  The created context is itself frozen, to be
+	 * layered under the context of the next boot, and holds the ClassDetails (and their usages)
+	 * of this context, including those from any shared context, except for -<ul>
+	 *     <li>the named (invalidated) classes</li>
+	 *     <li>ClassDetails created from XML mappings, which are always re-processed</li>
+	 *     <li>usages on other targets (packages, e.g.), which are re-processed as well</li>
+	 * </ul>
+	 *
+	 * @param invalidatedClassNames The names of the classes to drop, generally determined through
+	 * {@link SourceModelDependencies#collectAffected}
+	 * <p/>
+	 * The retained ClassDetails still belong to the (frozen) contexts which built them.  Freezing completes
+	 * only what boots are known to need, so once a context is layered over the created one, those contexts
+	 * forward anything the retained ClassDetails resolve lazily (member types, the usages of members, etc.)
+	 * to it - its MetadataBuildingContext, ClassDetails registry and usage index.
+	 */
+	public ModelProcessingContextImpl retain(Set<String> invalidatedClassNames) {
+		freeze();
+		return new ModelProcessingContextImpl( this, invalidatedClassNames );
+	}
+
+	/**
+	 * The names of the ClassDetails of this {@linkplain #freeze() frozen} context whose Class was
+	 * loaded through a ClassLoader which the given ClassLoaderService no longer resolves those classes
+	 * through - a new application ClassLoader after a redeploy, e.g.  Such ClassDetails must not be
+	 * {@linkplain #retain retained}, even though the classes themselves did not change.
+	 * <p/>
+	 * Checked once per ClassLoader, by loading one of its classes.  Classes of the bootstrap
+	 * ClassLoader (JDK types) never go stale.
+	 */
+	public Set<String> collectStaleClassNames(ClassLoaderService classLoaderService) {
+		assert isFrozen();
+
+		final Map<ClassLoader,List<String>> namesByClassLoader = new IdentityHashMap<>();
+		( (ClassDetailsRegistryImpl) classDetailsRegistry ).forEachRegistration( (name, classDetails) -> {
+			if ( isStandardType( classDetails )
+					|| classDetails instanceof org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl ) {
+				return;
+			}
+			// loaded (and cached) while freezing
+			final ClassLoader classLoader = classDetails.toJavaClass().getClassLoader();
+			if ( classLoader != null ) {
+				namesByClassLoader.computeIfAbsent( classLoader, (loader) -> new ArrayList<>() ).add( name );
+			}
 		} );
 
-		// todo (annotation-source) : add any standard Java types here up front
-		//  	- anything we know we will never have to enhance really.
-		//		- possibly leverage `BasicTypeRegistry`, `JavaType(Registration(s))`
-
-		primeClassDetails( String.class );
-		primeClassDetails( Boolean.class );
-		primeClassDetails( Enum.class );
-		primeClassDetails( Byte.class );
-		primeClassDetails( Short.class );
-		primeClassDetails( Integer.class );
-		primeClassDetails( Long.class );
-		primeClassDetails( Double.class );
-		primeClassDetails( Float.class );
-		primeClassDetails( BigInteger.class );
-		primeClassDetails( BigDecimal.class );
-		primeClassDetails( Blob.class );
-		primeClassDetails( Clob.class );
-		primeClassDetails( NClob.class );
-		primeClassDetails( Instant.class );
-		primeClassDetails( LocalDate.class );
-		primeClassDetails( LocalTime.class );
-		primeClassDetails( LocalDateTime.class );
-		primeClassDetails( OffsetTime.class );
-		primeClassDetails( OffsetDateTime.class );
-		primeClassDetails( ZonedDateTime.class );
-		primeClassDetails( java.util.Date.class );
-		primeClassDetails( java.sql.Date.class );
-		primeClassDetails( java.sql.Time.class );
-		primeClassDetails( java.sql.Timestamp.class );
-		primeClassDetails( URL.class );
-		primeClassDetails( Collection.class );
-		primeClassDetails( Set.class );
-		primeClassDetails( List.class );
-		primeClassDetails( Map.class );
-		primeClassDetails( Comparator.class );
-		primeClassDetails( Comparable.class );
-		primeClassDetails( SortedSet.class );
-		primeClassDetails( SortedMap.class );
-
-		primeClassDetails( AttributeConverter.class );
-	}
-
-	private void primeClassDetails(Class<?> javaType) {
-		// Since we have a Class reference already, it is safe to directly use
-		// the reflection
-		classDetailsRegistry.resolveClassDetails(
-				javaType.getName(),
-				ClassDetailsBuilderImpl::buildClassDetailsStatic
-		);
+		final Set<String> staleClassNames = new HashSet<>();
+		namesByClassLoader.forEach( (classLoader, names) -> {
+			if ( !isCurrent( classLoader, names.get( 0 ), classLoaderService ) ) {
+				staleClassNames.addAll( names );
+			}
+		} );
+		return staleClassNames;
+	}
+
+	private static boolean isCurrent(ClassLoader classLoader, String className, ClassLoaderService classLoaderService) {
+		try {
+			return classLoaderService.classForName( className ).getClassLoader() == classLoader;
+		}
+		catch (ClassLoadingException e) {
+			// no longer available at all
+			return false;
+		}
+	}
+
+	/**
+	 * The dependencies between the ClassDetails known to this context, including those of
+	 * any shared context.  Built on first access - generally once the context is frozen.
+	 */
+	public synchronized SourceModelDependencies resolveDependencies() {
+		if ( dependencies == null ) {
+			final SourceModelDependencies resolved = sharedContext == null
+					? new SourceModelDependencies()
+					: sharedContext.resolveDependencies().copy();
+			( (ClassDetailsRegistryImpl) classDetailsRegistry ).forEachLocalRegistration( resolved::addClass );
+			dependencies = resolved;
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Canonicalizes the annotation attribute values of this context's source model
+	 */
+	public ValueCanonicalizer getValueCanonicalizer() {
+		return valueCanonicalizer;
 	}
 
 	@Override
@@ -139,68 +459,142 @@ public class ModelProcessingContextImpl implements ModelProcessingContext {
 
 	@Override
 	public ClassDetailsRegistry getClassDetailsRegistry() {
+		final ModelProcessingContextImpl home = homeContext;
+		if ( home != null ) {
+			return home.getClassDetailsRegistry();
+		}
 		return classDetailsRegistry;
 	}
 
 	@Override
 	public MetadataBuildingContext getMetadataBuildingContext() {
-		return buildingContext;
+		final MetadataBuildingContext current = buildingContext;
+		if ( current == null ) {
+			final ModelProcessingContextImpl home = homeContext;
+			if ( home != null ) {
+				return home.getMetadataBuildingContext();
+			}
+			throw new HibernateException( "ModelProcessingContext has been frozen and no longer has access to a MetadataBuildingContext" );
+		}
+		return current;
 	}
 
 	@Override
 	public void registerUsage(AnnotationUsage<? extends Annotation> usage) {
-		// todo (annotation-source) : we only care about this in specific cases.
-		//		this feeds a Map used to locate annotations regardless of target.
-		//		this is used when locating "global" annotations such as generators,
-		//		named-queries, etc.
-		//		+
-		//		an option to limit what we cache would be to add a flag to AnnotationDescriptor
-		//		to indicate whether the annotation is "globally resolvable".
-
-		// register the usage under the appropriate descriptor.
+		final ModelProcessingContextImpl home = homeContext;
+		if ( home != null ) {
+			// a retained ClassDetails building its usages lazily
+			home.registerUsage( usage );
+			return;
+		}
+
+		// only usages of "globally resolvable" annotations (generators, named-queries, etc.) are
+		// located regardless of target - there is no need to index anything else.
 		//
-		// if the incoming value is a usage of a "repeatable container", skip the
-		// registration - the repetitions themselves are what we are interested in,
-		// and they will get registered themselves
+		// usages of "repeatable containers" are never indexed - the repetitions themselves
+		// are what we are interested in, and they will get registered themselves
+		//
+		// meta-annotation usages (on a composed annotation) are not indexed either - they are
+		// registered for each target of the composed annotation as they are applied
 
 		final AnnotationDescriptor<?> incomingUsageDescriptor = usage.getAnnotationDescriptor();
-		final AnnotationDescriptor<? extends Annotation> repeatableDescriptor = descriptorRegistry.getContainedRepeatableDescriptor( incomingUsageDescriptor );
-		if ( repeatableDescriptor != null ) {
-			// the incoming value is a usage of a "repeatable container", skip the registration
+		if ( !incomingUsageDescriptor.isGloballyResolvable() ) {
+			return;
+		}
+		if ( usage.getAnnotationTarget() instanceof AnnotationDescriptor ) {
 			return;
 		}
 
+		addUsage( incomingUsageDescriptor, usage );
+	}
+
+	private void addUsage(AnnotationDescriptor<?> incomingUsageDescriptor, AnnotationUsage<?> usage) {
+		annotationUsageMap.computeIfAbsent( incomingUsageDescriptor, (descriptor) -> new ConcurrentLinkedQueue<>() )
+				.add( usage );
 
-		final List<AnnotationUsage<?>> registeredUsages;
-		final List<AnnotationUsage<?>> existingRegisteredUsages = annotationUsageMap.get( incomingUsageDescriptor );
-		if ( existingRegisteredUsages == null ) {
-			registeredUsages = new ArrayList<>();
-			annotationUsageMap.put( incomingUsageDescriptor, registeredUsages );
+		if ( usage.getAnnotationTarget() instanceof ClassDetails ) {
+			annotatedClassMap.computeIfAbsent( incomingUsageDescriptor, (descriptor) -> new AnnotatedClasses() )
+					.add( (ClassDetails) usage.getAnnotationTarget() );
 		}
-		else {
-			registeredUsages = existingRegisteredUsages;
+	}
+
+	/**
+	 * The classes annotated with a particular annotation, in registration order
+	 */
+	private static class AnnotatedClasses {
+		private final Set<ClassDetails> known = ConcurrentHashMap.newKeySet();
+		private final Queue<ClassDetails> ordered = new ConcurrentLinkedQueue<>();
+
+		private void add(ClassDetails classDetails) {
+			if ( known.add( classDetails ) ) {
+				ordered.add( classDetails );
+			}
 		}
+	}
 
-		registeredUsages.add( usage );
+	private void forEachRegisteredUsage(Consumer<AnnotationUsage<?>> consumer) {
+		if ( sharedContext != null ) {
+			sharedContext.forEachRegisteredUsage( consumer );
+		}
+		annotationUsageMap.values().forEach( (usages) -> usages.forEach( consumer ) );
 	}
 
-	@Override
-	public <A extends Annotation> List<AnnotationUsage<A>> getAllUsages(AnnotationDescriptor<A> annotationDescriptor) {
+	private void verifyIndexed(AnnotationDescriptor<?> annotationDescriptor) {
 		final AnnotationDescriptor<? extends Annotation> repeatableDescriptor = descriptorRegistry.getContainedRepeatableDescriptor( annotationDescriptor );
 		if ( repeatableDescriptor != null ) {
 			throw new HibernateException( "Annotations which are repeatable-containers are not supported" );
 		}
+		if ( !annotationDescriptor.isGloballyResolvable() ) {
+			throw new HibernateException(
+					String.format(
+							Locale.ROOT,
+							"Usages of `%s` are not indexed - it is not globally resolvable",
+							annotationDescriptor.getAnnotationType().getName()
+					)
+			);
+		}
+	}
 
-		//noinspection unchecked,rawtypes
-		return (List) annotationUsageMap.get( annotationDescriptor );
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getAllUsages(AnnotationDescriptor<A> annotationDescriptor) {
+		verifyIndexed( annotationDescriptor );
+
+		final List<AnnotationUsage<A>> allUsages = new ArrayList<>();
+		forEachUsage( annotationDescriptor, allUsages::add );
+		return allUsages;
+	}
+
+	@Override
+	public <A extends Annotation> List<ClassDetails> getAnnotatedClasses(AnnotationDescriptor<A> annotationDescriptor) {
+		final List<ClassDetails> annotatedClasses = new ArrayList<>();
+		forEachAnnotatedClass( annotationDescriptor, annotatedClasses::add );
+		return annotatedClasses;
+	}
+
+	@Override
+	public <A extends Annotation> void forEachAnnotatedClass(AnnotationDescriptor<A> annotationDescriptor, Consumer<ClassDetails> consumer) {
+		verifyIndexed( annotationDescriptor );
+
+		if ( sharedContext != null ) {
+			sharedContext.forEachAnnotatedClass( annotationDescriptor, consumer );
+		}
+		final AnnotatedClasses localAnnotatedClasses = annotatedClassMap.get( annotationDescriptor );
+		if ( localAnnotatedClasses != null ) {
+			localAnnotatedClasses.ordered.forEach( consumer );
+		}
 	}
 
 	@Override
 	public <A extends Annotation> void forEachUsage(AnnotationDescriptor<A> annotationDescriptor, Consumer<AnnotationUsage<A>> consumer) {
-		final List<AnnotationUsage<A>> allUsages = getAllUsages( annotationDescriptor );
-		if ( CollectionHelper.isEmpty( allUsages ) ) {
-			return;
+		verifyIndexed( annotationDescriptor );
+
+		if ( sharedContext != null ) {
+			sharedContext.forEachUsage( annotationDescriptor, consumer );
+		}
+		final Queue<AnnotationUsage<?>> localUsages = annotationUsageMap.get( annotationDescriptor );
+		if ( localUsages != null ) {
+			//noinspection unchecked,rawtypes
+			( (Queue) localUsages ).forEach( consumer );
 		}
-		allUsages.forEach( consumer );
 	}
 }
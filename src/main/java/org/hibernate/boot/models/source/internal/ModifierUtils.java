@@ -64,6 +64,10 @@ public class ModifierUtils {
 	 * Determine if the modifier flags from a field indicate persistability
 	 */
 	public static boolean isPersistableField(int modifierFlags) {
+		if ( isStatic( modifierFlags ) ) {
+			return false;
+		}
+
 		if ( isTransient( modifierFlags ) ) {
 			return false;
 		}
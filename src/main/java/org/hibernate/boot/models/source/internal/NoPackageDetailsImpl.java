@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.PackageDetails;
 
@@ -34,6 +35,11 @@ public class NoPackageDetailsImpl implements PackageDetails {
 		return null;
 	}
 
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		return AnnotationPresence.NONE;
+	}
+
 	@Override
 	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
 		return null;
@@ -10,12 +10,16 @@ import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.models.source.AnnotationAccessException;
 import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationTarget;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.HibernateAnnotations;
@@ -34,11 +38,52 @@ import org.hibernate.boot.models.source.spi.JpaAnnotations;
  * @author Steve Ebersole
  */
 public class OrmAnnotationDescriptorImpl<A extends Annotation> implements AnnotationDescriptor<A> {
+	private static final AtomicInteger ORDINAL_SEQUENCE = new AtomicInteger();
+
+	/**
+	 * The annotations whose usages are {@linkplain #isGloballyResolvable() globally resolvable}.
+	 * Repeatable containers are never indexed themselves, only their repetitions
+	 */
+	private static final Set<Class<? extends Annotation>> GLOBALLY_RESOLVABLE = Set.of(
+			// managed types
+			jakarta.persistence.Entity.class,
+			jakarta.persistence.MappedSuperclass.class,
+			jakarta.persistence.Embeddable.class,
+			jakarta.persistence.Converter.class,
+			// generators
+			jakarta.persistence.SequenceGenerator.class,
+			jakarta.persistence.TableGenerator.class,
+			org.hibernate.annotations.GenericGenerator.class,
+			// named queries, graphs and mappings
+			jakarta.persistence.NamedQuery.class,
+			jakarta.persistence.NamedNativeQuery.class,
+			jakarta.persistence.NamedStoredProcedureQuery.class,
+			jakarta.persistence.NamedEntityGraph.class,
+			jakarta.persistence.SqlResultSetMapping.class,
+			org.hibernate.annotations.NamedQuery.class,
+			org.hibernate.annotations.NamedNativeQuery.class,
+			// filters and fetch profiles
+			org.hibernate.annotations.FilterDef.class,
+			org.hibernate.annotations.FetchProfile.class,
+			org.hibernate.annotations.Imported.class,
+			// type contributions
+			org.hibernate.annotations.JavaTypeRegistration.class,
+			org.hibernate.annotations.JdbcTypeRegistration.class,
+			org.hibernate.annotations.ConverterRegistration.class,
+			org.hibernate.annotations.EmbeddableInstantiatorRegistration.class,
+			org.hibernate.annotations.CompositeTypeRegistration.class,
+			org.hibernate.annotations.CollectionTypeRegistration.class,
+			org.hibernate.annotations.TypeRegistration.class
+	);
+
 	private final Class<A> annotationType;
+	private final int ordinal;
 	private final List<AnnotationAttributeDescriptor<A,?,?>> attributeDescriptors;
+	private final Map<String,Integer> attributeOrdinals;
 	private final AnnotationDescriptor<?> repeatableContainer;
 
 	private final boolean inherited;
+	private final boolean globallyResolvable;
 	private final EnumSet<Kind> allowableTargets;
 
 	public OrmAnnotationDescriptorImpl(
@@ -46,10 +91,13 @@ public class OrmAnnotationDescriptorImpl<A extends Annotation> implements Annota
 			List<AnnotationAttributeDescriptor<A,?,?>> attributeDescriptors,
 			AnnotationDescriptor<?> repeatableContainer) {
 		this.annotationType = annotationType;
+		this.ordinal = ORDINAL_SEQUENCE.getAndIncrement();
 		this.attributeDescriptors = attributeDescriptors;
+		this.attributeOrdinals = AnnotationDescriptorBuilder.extractAttributeOrdinals( this.attributeDescriptors );
 		this.repeatableContainer = repeatableContainer;
 
 		this.inherited = AnnotationHelper.isInherited( annotationType );
+		this.globallyResolvable = GLOBALLY_RESOLVABLE.contains( annotationType );
 		this.allowableTargets = AnnotationHelper.extractTargets( annotationType );
 	}
 
@@ -71,6 +119,11 @@ public class OrmAnnotationDescriptorImpl<A extends Annotation> implements Annota
 		return inherited;
 	}
 
+	@Override
+	public boolean isGloballyResolvable() {
+		return globallyResolvable;
+	}
+
 	@Override
 	public EnumSet<Kind> getAllowableTargets() {
 		return allowableTargets;
@@ -86,14 +139,18 @@ public class OrmAnnotationDescriptorImpl<A extends Annotation> implements Annota
 
 	@Override
 	public <V, W> AnnotationAttributeDescriptor<A, V, W> getAttribute(String name) {
-		for ( int i = 0; i < attributeDescriptors.size(); i++ ) {
-			final AnnotationAttributeDescriptor<A,?,?> attributeDescriptor = attributeDescriptors.get( i );
-			if ( attributeDescriptor.getAttributeName().equals( name ) ) {
-				//noinspection unchecked
-				return (AnnotationAttributeDescriptor<A,V,W>) attributeDescriptor;
-			}
+		final Integer ordinal = attributeOrdinals.get( name );
+		if ( ordinal == null ) {
+			throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
 		}
-		throw new AnnotationAccessException( "No such attribute : " + annotationType.getName() + "." + name );
+		//noinspection unchecked
+		return (AnnotationAttributeDescriptor<A,V,W>) attributeDescriptors.get( ordinal );
+	}
+
+	@Override
+	public int getAttributeOrdinal(String name) {
+		final Integer ordinal = attributeOrdinals.get( name );
+		return ordinal == null ? -1 : ordinal;
 	}
 
 	/**
@@ -105,6 +162,17 @@ public class OrmAnnotationDescriptorImpl<A extends Annotation> implements Annota
 		return repeatableContainer;
 	}
 
+	@Override
+	public int getOrdinal() {
+		return ordinal;
+	}
+
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		// there are none
+		return AnnotationPresence.NONE;
+	}
+
 	@Override
 	public <X extends Annotation> AnnotationUsage<X> getAnnotation(AnnotationDescriptor<X> type) {
 		// there are none
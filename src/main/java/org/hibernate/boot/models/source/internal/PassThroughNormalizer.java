@@ -30,4 +30,9 @@ public class PassThroughNormalizer<V> implements ValueNormalizer<V, V> {
 	public V normalize(V incomingValue, AnnotationTarget target, ModelProcessingContext processingContext) {
 		return incomingValue;
 	}
+
+	@Override
+	public boolean isShareable(V incomingValue) {
+		return true;
+	}
 }
@@ -0,0 +1,231 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationAttributeValue;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
+import org.hibernate.boot.models.source.spi.AnnotationTarget;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+
+/**
+ * Dependency graph between the ClassDetails of a source model, used to determine which
+ * ClassDetails are affected by a change to some classes.
+ * <p/>
+ * ClassDetails A depends on ClassDetails B when A holds a reference to B - as its super
+ * type or an interface, as the type of one of its members, or as a Class-valued annotation
+ * attribute on the class or its members ({@code @Convert(converter=...)}, {@code @EntityListeners},
+ * {@code targetEntity}, etc).  Once B changes, A refers to a stale ClassDetails and must be
+ * rebuilt as well.
+ * <p/>
+ * ClassDetails created from XML mappings are volatile - they are always considered affected.
+ *
+ * @see org.hibernate.boot.models.spi.IncrementalSourceModel
+ *
+ * @author Steve Ebersole
+ */
+public class SourceModelDependencies {
+	// class name -> names of the classes it references
+	private final Map<String, Set<String>> references;
+	// class name -> names of the classes referencing it
+	private final Map<String, Set<String>> dependents;
+	private final Set<String> volatileClassNames;
+
+	public SourceModelDependencies() {
+		this( new HashMap<>(), new HashMap<>(), new HashSet<>() );
+	}
+
+	private SourceModelDependencies(
+			Map<String, Set<String>> references,
+			Map<String, Set<String>> dependents,
+			Set<String> volatileClassNames) {
+		this.references = references;
+		this.dependents = dependents;
+		this.volatileClassNames = volatileClassNames;
+	}
+
+	/**
+	 * Record the references held by the given ClassDetails, replacing any previously recorded
+	 * for the same name.
+	 */
+	public void addClass(String name, ClassDetails classDetails) {
+		if ( StandardModelTypes.singleton().findReflectionType( name ) != null ) {
+			// never changes
+			return;
+		}
+
+		removeReferences( name );
+
+		if ( classDetails instanceof org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl ) {
+			volatileClassNames.add( name );
+		}
+
+		final Set<String> classReferences = new HashSet<>();
+		addReference( classDetails.getSuperType(), classReferences );
+		final List<ClassDetails> interfaceTypes = classDetails.getImplementedInterfaceTypes();
+		if ( interfaceTypes != null ) {
+			interfaceTypes.forEach( (interfaceType) -> addReference( interfaceType, classReferences ) );
+		}
+		collectAnnotationReferences( classDetails, classReferences );
+
+		// only visit members which have been built - nothing in the model can depend on the others
+		classDetails.forEachField( (index, fieldDetails) -> {
+			addReference( fieldDetails.getTypeName(), classReferences );
+			collectAnnotationReferences( fieldDetails, classReferences );
+		} );
+		classDetails.forEachMethod( (index, methodDetails) -> {
+			addReference( methodDetails.getTypeName(), classReferences );
+			collectAnnotationReferences( methodDetails, classReferences );
+		} );
+
+		classReferences.remove( name );
+		references.put( name, classReferences );
+		for ( String referenced : classReferences ) {
+			dependents.computeIfAbsent( referenced, (n) -> new HashSet<>() ).add( name );
+		}
+	}
+
+	private void removeReferences(String name) {
+		volatileClassNames.remove( name );
+		final Set<String> previous = references.remove( name );
+		if ( previous == null ) {
+			return;
+		}
+		for ( String referenced : previous ) {
+			final Set<String> referencedDependents = dependents.get( referenced );
+			if ( referencedDependents != null ) {
+				referencedDependents.remove( name );
+			}
+		}
+	}
+
+	private static void addReference(ClassDetails referenced, Set<String> classReferences) {
+		if ( referenced == null ) {
+			return;
+		}
+		addReference( referenced.getName(), classReferences );
+	}
+
+	private static void addReference(String referencedName, Set<String> classReferences) {
+		if ( referencedName == null ) {
+			return;
+		}
+		if ( StandardModelTypes.singleton().findReflectionType( referencedName ) != null ) {
+			return;
+		}
+		classReferences.add( referencedName );
+	}
+
+	private static void collectAnnotationReferences(AnnotationTarget target, Set<String> classReferences) {
+		final AnnotationPresence presence = target.getAnnotationPresence();
+		if ( presence.isEmpty() ) {
+			return;
+		}
+
+		StandardModelTypes.singleton().forEachOrmDescriptor( (descriptor) -> {
+			if ( presence.contains( descriptor ) ) {
+				target.forEachAnnotation( descriptor, (usage) -> collectUsageReferences( usage, classReferences ) );
+			}
+		} );
+	}
+
+	private static <A extends Annotation> void collectUsageReferences(
+			AnnotationUsage<A> usage,
+			Set<String> classReferences) {
+		final AnnotationDescriptor<A> descriptor = usage.getAnnotationDescriptor();
+		for ( AnnotationAttributeDescriptor<A, ?, ?> attribute : descriptor.getAttributes() ) {
+			final AnnotationAttributeValue<?, ?> attributeValue = usage.getAttributeValue( attribute );
+			if ( attributeValue != null ) {
+				collectValueReferences( attributeValue.getValue(), classReferences );
+			}
+		}
+	}
+
+	private static void collectValueReferences(Object value, Set<String> classReferences) {
+		if ( value instanceof ClassDetails ) {
+			addReference( (ClassDetails) value, classReferences );
+		}
+		else if ( value instanceof AnnotationUsage ) {
+			collectUsageReferences( (AnnotationUsage<?>) value, classReferences );
+		}
+		else if ( value instanceof Collection ) {
+			for ( Object element : (Collection<?>) value ) {
+				collectValueReferences( element, classReferences );
+			}
+		}
+		else if ( value instanceof Object[] ) {
+			for ( Object element : (Object[]) value ) {
+				collectValueReferences( element, classReferences );
+			}
+		}
+	}
+
+	/**
+	 * The names of the classes affected by changes to the named classes - the changed
+	 * classes themselves, every class (transitively) depending on them, and all volatile classes.
+	 */
+	public Set<String> collectAffected(Collection<String> changedClassNames) {
+		final Set<String> affected = new HashSet<>();
+		final Deque<String> queue = new ArrayDeque<>( changedClassNames );
+		queue.addAll( volatileClassNames );
+
+		while ( !queue.isEmpty() ) {
+			final String name = queue.poll();
+			if ( !affected.add( name ) ) {
+				continue;
+			}
+			final Set<String> nameDependents = dependents.get( name );
+			if ( nameDependents != null ) {
+				queue.addAll( nameDependents );
+			}
+		}
+
+		return affected;
+	}
+
+	/**
+	 * A copy of this graph without the named classes
+	 */
+	public SourceModelDependencies without(Set<String> removedClassNames) {
+		final SourceModelDependencies copy = new SourceModelDependencies();
+		references.forEach( (name, classReferences) -> {
+			if ( removedClassNames.contains( name ) ) {
+				return;
+			}
+			copy.references.put( name, new HashSet<>( classReferences ) );
+			for ( String referenced : classReferences ) {
+				copy.dependents.computeIfAbsent( referenced, (n) -> new HashSet<>() ).add( name );
+			}
+		} );
+		for ( String volatileClassName : volatileClassNames ) {
+			if ( !removedClassNames.contains( volatileClassName ) ) {
+				copy.volatileClassNames.add( volatileClassName );
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * A copy of this graph
+	 */
+	public SourceModelDependencies copy() {
+		return without( Collections.emptySet() );
+	}
+}
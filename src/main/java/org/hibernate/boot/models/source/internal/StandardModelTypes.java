@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.NClob;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.models.source.AnnotationAccessException;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.HibernateAnnotations;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+
+import jakarta.persistence.AttributeConverter;
+
+/**
+ * JVM-wide, immutable tables of the types every {@linkplain org.hibernate.boot.models.spi.ModelProcessingContext processing context}
+ * knows about up front -<ul>
+ *     <li>the {@linkplain JpaAnnotations JPA} and {@linkplain HibernateAnnotations Hibernate} annotation descriptors</li>
+ *     <li>the annotation types and standard Java types whose ClassDetails are always built through reflection</li>
+ * </ul>
+ * The tables are built once, on first access, and consulted by the per-context registries
+ * instead of copying them into each context.
+ *
+ * @author Steve Ebersole
+ */
+public class StandardModelTypes {
+	private static final StandardModelTypes INSTANCE = new StandardModelTypes();
+
+	public static StandardModelTypes singleton() {
+		return INSTANCE;
+	}
+
+	private final List<AnnotationDescriptor<?>> ormDescriptors;
+	private final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> ormDescriptorsByType;
+	private final Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> ormRepeatablesByContainer;
+	private final Map<String, Class<?>> reflectionTypes;
+
+	private StandardModelTypes() {
+		// disallow direct instantiation
+
+		final List<AnnotationDescriptor<?>> descriptors = new ArrayList<>();
+		collectOrmDescriptors( JpaAnnotations.class, descriptors );
+		collectOrmDescriptors( HibernateAnnotations.class, descriptors );
+
+		final Map<Class<? extends Annotation>, AnnotationDescriptor<?>> descriptorsByType = new HashMap<>();
+		final Map<AnnotationDescriptor<?>, AnnotationDescriptor<?>> repeatablesByContainer = new HashMap<>();
+		final Map<String, Class<?>> reflectionTypes = new HashMap<>();
+		for ( AnnotationDescriptor<?> descriptor : descriptors ) {
+			descriptorsByType.put( descriptor.getAnnotationType(), descriptor );
+			if ( descriptor.getRepeatableContainer() != null ) {
+				repeatablesByContainer.put( descriptor.getRepeatableContainer(), descriptor );
+			}
+			reflectionTypes.put( descriptor.getAnnotationType().getName(), descriptor.getAnnotationType() );
+		}
+
+		// todo (annotation-source) : possibly leverage `BasicTypeRegistry`, `JavaType(Registration(s))`
+		addReflectionTypes(
+				reflectionTypes,
+				String.class,
+				Boolean.class,
+				Enum.class,
+				Byte.class,
+				Short.class,
+				Integer.class,
+				Long.class,
+				Double.class,
+				Float.class,
+				BigInteger.class,
+				BigDecimal.class,
+				Blob.class,
+				Clob.class,
+				NClob.class,
+				Instant.class,
+				LocalDate.class,
+				LocalTime.class,
+				LocalDateTime.class,
+				OffsetTime.class,
+				OffsetDateTime.class,
+				ZonedDateTime.class,
+				java.util.Date.class,
+				java.sql.Date.class,
+				java.sql.Time.class,
+				java.sql.Timestamp.class,
+				URL.class,
+				Collection.class,
+				Set.class,
+				List.class,
+				Map.class,
+				Comparator.class,
+				Comparable.class,
+				SortedSet.class,
+				SortedMap.class,
+				AttributeConverter.class
+		);
+
+		this.ormDescriptors = Collections.unmodifiableList( descriptors );
+		this.ormDescriptorsByType = Collections.unmodifiableMap( descriptorsByType );
+		this.ormRepeatablesByContainer = Collections.unmodifiableMap( repeatablesByContainer );
+		this.reflectionTypes = Collections.unmodifiableMap( reflectionTypes );
+	}
+
+	private static void collectOrmDescriptors(Class<?> declarer, List<AnnotationDescriptor<?>> descriptors) {
+		for ( Field field : declarer.getFields() ) {
+			if ( AnnotationDescriptor.class.equals( field.getType() ) ) {
+				try {
+					descriptors.add( (AnnotationDescriptor<?>) field.get( null ) );
+				}
+				catch (IllegalAccessException e) {
+					throw new AnnotationAccessException(
+							String.format(
+									Locale.ROOT,
+									"Unable to access standard annotation descriptor field - %s",
+									field.getName()
+							),
+							e
+					);
+				}
+			}
+		}
+	}
+
+	private static void addReflectionTypes(Map<String, Class<?>> reflectionTypes, Class<?>... javaTypes) {
+		for ( Class<?> javaType : javaTypes ) {
+			reflectionTypes.put( javaType.getName(), javaType );
+		}
+	}
+
+	public void forEachOrmDescriptor(Consumer<AnnotationDescriptor<?>> consumer) {
+		ormDescriptors.forEach( consumer );
+	}
+
+	/**
+	 * The JPA or Hibernate descriptor for the given annotation type, or {@code null}
+	 */
+	public <A extends Annotation> AnnotationDescriptor<A> findOrmDescriptor(Class<A> annotationType) {
+		//noinspection unchecked
+		return (AnnotationDescriptor<A>) ormDescriptorsByType.get( annotationType );
+	}
+
+	/**
+	 * The JPA or Hibernate repeatable descriptor contained by the given container, or {@code null}
+	 */
+	public <A extends Annotation> AnnotationDescriptor<A> findOrmRepeatableDescriptor(AnnotationDescriptor<A> containerDescriptor) {
+		//noinspection unchecked
+		return (AnnotationDescriptor<A>) ormRepeatablesByContainer.get( containerDescriptor );
+	}
+
+	/**
+	 * The Class for the named type, if it is one whose ClassDetails should be built through
+	 * reflection.  Otherwise, {@code null}
+	 *
+	 * @implNote Since we have a Class reference already, it is safe to directly use reflection
+	 */
+	public Class<?> findReflectionType(String name) {
+		return reflectionTypes.get( name );
+	}
+}
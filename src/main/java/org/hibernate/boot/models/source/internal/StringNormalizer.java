@@ -23,6 +23,13 @@ public class StringNormalizer implements ValueNormalizer<String, String> {
 
 	@Override
 	public String normalize(String incomingValue, AnnotationTarget target, ModelProcessingContext processingContext) {
-		return StringHelper.nullIfEmpty( incomingValue );
+		final String value = StringHelper.nullIfEmpty( incomingValue );
+		final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+		return canonicalizer == null ? value : canonicalizer.canonicalize( value );
+	}
+
+	@Override
+	public boolean isShareable(String incomingValue) {
+		return true;
 	}
 }
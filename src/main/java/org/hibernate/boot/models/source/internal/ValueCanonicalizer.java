@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+/**
+ * Canonicalizes normalized annotation attribute values, so that equal values share a single
+ * instance across the source model.  Used from the {@linkplain ValueNormalizer normalizers}
+ * and the usage builders -<ul>
+ *     <li>strings (column names such as {@code id}, e.g.) are interned</li>
+ *     <li>lists of immutable values (a {@code CascadeType[]}, e.g.) are shared as unmodifiable lists</li>
+ *     <li>
+ *         the {@linkplain AnnotationUsageImpl compact values} of usages holding only immutable
+ *         values are shared - e.g. the many identical {@code @JoinColumn} usages within
+ *         {@code @JoinColumns} across the model
+ *     </li>
+ * </ul>
+ * Only values whose equality is value-based ({@link String}, {@link Enum}, boxed primitives) and
+ * lists and value arrays made up of them are canonicalized; ClassDetails and nested usages
+ * are already unique or tied to their target.
+ *
+ * @author Steve Ebersole
+ */
+public class ValueCanonicalizer {
+	// rough, 64-bit compressed-oops, estimates used for reporting
+	private static final int STRING_OVERHEAD = 40;
+	private static final int LIST_OVERHEAD = 40;
+	private static final int ARRAY_OVERHEAD = 16;
+	private static final int REFERENCE_SIZE = 4;
+
+	private final ConcurrentHashMap<String,String> strings = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<List<?>,List<?>> lists = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<ValuesKey,Object[]> valueArrays = new ConcurrentHashMap<>();
+
+	private final LongAdder sharedStrings = new LongAdder();
+	private final LongAdder sharedLists = new LongAdder();
+	private final LongAdder sharedValueArrays = new LongAdder();
+	private final LongAdder savedBytes = new LongAdder();
+
+	/**
+	 * The canonicalizer of the given context, or {@code null} if it has none (while building
+	 * descriptor defaults, e.g.)
+	 */
+	public static ValueCanonicalizer from(ModelProcessingContext processingContext) {
+		if ( processingContext instanceof ModelProcessingContextImpl ) {
+			return ( (ModelProcessingContextImpl) processingContext ).getValueCanonicalizer();
+		}
+		return null;
+	}
+
+	/**
+	 * The canonical instance of the given string
+	 */
+	public String canonicalize(String value) {
+		if ( value == null ) {
+			return null;
+		}
+
+		final String existing = strings.putIfAbsent( value, value );
+		if ( existing == null ) {
+			return value;
+		}
+		if ( existing != value ) {
+			sharedStrings.increment();
+			savedBytes.add( STRING_OVERHEAD + value.length() );
+		}
+		return existing;
+	}
+
+	/**
+	 * The canonical form of the given list of normalized values - an unmodifiable list, shared
+	 * when all of its elements are immutable values.
+	 */
+	public <O> List<O> canonicalize(List<O> values) {
+		if ( values.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		if ( !isImmutableValues( values ) ) {
+			return values.size() == 1
+					? Collections.singletonList( values.get( 0 ) )
+					: Collections.unmodifiableList( values );
+		}
+
+		final List<O> canonical = Collections.unmodifiableList( values );
+		final List<?> existing = lists.putIfAbsent( canonical, canonical );
+		if ( existing == null ) {
+			return canonical;
+		}
+		sharedLists.increment();
+		savedBytes.add( LIST_OVERHEAD + (long) REFERENCE_SIZE * values.size() );
+		//noinspection unchecked
+		return (List<O>) existing;
+	}
+
+	/**
+	 * The canonical instance of the given {@linkplain AnnotationUsageImpl compact values} - shared
+	 * when all the values are immutable.  The values must never be changed afterwards.
+	 */
+	public Object[] canonicalize(Object[] values) {
+		if ( values.length == 0 ) {
+			return values;
+		}
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( !isImmutableValue( values[i] ) ) {
+				return values;
+			}
+		}
+
+		final Object[] existing = valueArrays.putIfAbsent( new ValuesKey( values ), values );
+		if ( existing == null ) {
+			return values;
+		}
+		sharedValueArrays.increment();
+		savedBytes.add( ARRAY_OVERHEAD + (long) REFERENCE_SIZE * values.length );
+		return existing;
+	}
+
+	private boolean isImmutableValues(List<?> values) {
+		for ( int i = 0; i < values.size(); i++ ) {
+			if ( !isImmutableValue( values.get( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean isImmutableValue(Object value) {
+		return value == null
+				|| value == AnnotationUsageImpl.DEFAULTED
+				|| value instanceof String
+				|| value instanceof Enum
+				|| value instanceof Number
+				|| value instanceof Boolean
+				|| value instanceof Character
+				// only ever canonical, immutable, lists are stored as values
+				|| ( value instanceof List && lists.get( value ) == value );
+	}
+
+	/**
+	 * The number of values which were replaced by a previously canonicalized instance
+	 */
+	public long getSharedValueCount() {
+		return sharedStrings.sum() + sharedLists.sum() + sharedValueArrays.sum();
+	}
+
+	/**
+	 * An estimate of the memory, in bytes, saved through sharing
+	 */
+	public long getSavedBytes() {
+		return savedBytes.sum();
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"ValueCanonicalizer(strings=%s/%s, lists=%s/%s, value-arrays=%s/%s, ~%s bytes saved)",
+				sharedStrings.sum(),
+				strings.size(),
+				sharedLists.sum(),
+				lists.size(),
+				sharedValueArrays.sum(),
+				valueArrays.size(),
+				savedBytes.sum()
+		);
+	}
+
+	/**
+	 * Value-based key over compact values
+	 */
+	private static class ValuesKey {
+		private final Object[] values;
+		private final int hashCode;
+
+		private ValuesKey(Object[] values) {
+			this.values = values;
+			this.hashCode = Arrays.hashCode( values );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof ValuesKey ) ) {
+				return false;
+			}
+			return Arrays.equals( values, ( (ValuesKey) o ).values );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
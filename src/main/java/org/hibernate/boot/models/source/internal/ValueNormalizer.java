@@ -23,4 +23,12 @@ import org.hibernate.boot.models.spi.ModelProcessingContext;
 @FunctionalInterface
 public interface ValueNormalizer<V, W> {
 	W normalize(V incomingValue, AnnotationTarget target, ModelProcessingContext processingContext);
+
+	/**
+	 * Whether normalizing the given value is independent of the target and processing context,
+	 * in which case the normalized value can be shared - see {@link org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor#getDefaultValue()}
+	 */
+	default boolean isShareable(V incomingValue) {
+		return false;
+	}
 }
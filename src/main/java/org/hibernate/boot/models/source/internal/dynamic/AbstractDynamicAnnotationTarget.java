@@ -8,14 +8,18 @@ package org.hibernate.boot.models.source.internal.dynamic;
 
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.boot.models.source.AnnotationAccessException;
+import org.hibernate.boot.models.source.internal.AnnotationDescriptorImpl;
+import org.hibernate.boot.models.source.internal.AnnotationUsageBuilder;
 import org.hibernate.boot.models.source.internal.AnnotationUsageImpl;
 import org.hibernate.boot.models.source.internal.AnnotationWrapperHelper;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
 
@@ -30,6 +34,7 @@ import static org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor
 public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotationTarget {
 	private final ModelProcessingContext processingContext;
 	private final Map<Class<? extends Annotation>,AnnotationUsage<?>> usagesMap = new HashMap<>();
+	private AnnotationPresence annotationPresence = AnnotationPresence.NONE;
 
 	public AbstractDynamicAnnotationTarget(ModelProcessingContext processingContext) {
 		this.processingContext = processingContext;
@@ -37,7 +42,6 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 
 	@Override
 	public <X extends Annotation> void apply(List<AnnotationUsage<X>> annotationUsages) {
-		// todo (annotation-source) : handle meta-annotations
 		annotationUsages.forEach( this::apply );
 	}
 
@@ -51,10 +55,31 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 	 */
 	@Override
 	public <X extends Annotation> void apply(AnnotationUsage<X> annotationUsage) {
+		applyUsage( annotationUsage );
+		processingContext.registerUsage( annotationUsage );
+		applyComposedUsages( annotationUsage.getAnnotationDescriptor() );
+	}
+
+	private void applyComposedUsages(AnnotationDescriptor<?> annotationDescriptor) {
+		if ( !AnnotationUsageBuilder.isComposed( annotationDescriptor ) ) {
+			return;
+		}
+		// annotations already applied win over composed ones
+		AnnotationUsageBuilder.applyComposedUsages(
+				(AnnotationDescriptorImpl<?>) annotationDescriptor,
+				this,
+				new HashSet<>( usagesMap.keySet() ),
+				(annotationType, usage) -> applyUsage( usage ),
+				processingContext
+		);
+	}
+
+	private void applyUsage(AnnotationUsage<?> annotationUsage) {
 		final AnnotationDescriptor<?> annotationDescriptor = annotationUsage.getAnnotationDescriptor();
 		final Class<? extends Annotation> annotationJavaType = annotationDescriptor.getAnnotationType();
 
 		final AnnotationUsage<?> previous = usagesMap.put( annotationJavaType, annotationUsage );
+		annotationPresence = annotationPresence.with( annotationDescriptor );
 
 		if ( previous != null ) {
 			// todo (annotation-source) : ignore?  log?  exception?
@@ -63,7 +88,6 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 
 	@Override
 	public void apply(Annotation[] annotations) {
-		// todo (annotation-source) : handle meta-annotations
 		for ( int i = 0; i < annotations.length; i++ ) {
 			apply( annotations[i] );
 		}
@@ -78,7 +102,14 @@ public abstract class AbstractDynamicAnnotationTarget implements DynamicAnnotati
 				this,
 				processingContext
 		);
-		apply( usage );
+		// the usage registered itself
+		applyUsage( usage );
+		applyComposedUsages( usage.getAnnotationDescriptor() );
+	}
+
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		return annotationPresence;
 	}
 
 	@Override
@@ -33,7 +33,7 @@ public class ClassDetailsImpl extends AbstractDynamicAnnotationTarget implements
 	public ClassDetailsImpl(
 			String name,
 			String className,
-			ClassDetailsImpl superType,
+			ClassDetails superType,
 			ModelProcessingContext processingContext) {
 		super( processingContext );
 		this.name = name;
@@ -6,10 +6,12 @@
  */
 package org.hibernate.boot.models.source.internal.dynamic;
 
+import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.MemberDetails;
 
 /**
  * @author Steve Ebersole
  */
 public interface DynamicMemberDetails extends DynamicAnnotationTarget, MemberDetails {
+	void setType(ClassDetails type);
 }
@@ -35,6 +35,7 @@ public class FieldDetailsImpl extends AbstractDynamicAnnotationTarget implements
 		return type;
 	}
 
+	@Override
 	public void setType(ClassDetails type) {
 		this.type = type;
 	}
@@ -49,6 +49,7 @@ public class MethodDetailsImpl extends AbstractDynamicAnnotationTarget implement
 		return type;
 	}
 
+	@Override
 	public void setType(ClassDetails type) {
 		this.type = type;
 	}
@@ -35,7 +35,10 @@ public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
 	@Override
 	public ClassDetails buildClassDetails(String name, ModelProcessingContext processingContext) {
 		final Class<?> classForName = classLoaderService.classForName( name );
-		final XClass xClassForName = hcannReflectionManager.toXClass( classForName );
+		final XClass xClassForName = HcannHelper.withReflectionManager(
+				processingContext,
+				() -> hcannReflectionManager.toXClass( classForName )
+		);
 		return new ClassDetailsImpl( xClassForName, processingContext );
 	}
 }
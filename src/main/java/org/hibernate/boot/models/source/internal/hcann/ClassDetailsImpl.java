@@ -17,6 +17,7 @@ import org.hibernate.annotations.common.reflection.XProperty;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.MethodDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
@@ -33,13 +34,16 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 	private final XClass xClass;
 
 	private final ClassDetails superType;
-	private List<ClassDetails> implementedInterfaces;
+	private volatile List<ClassDetails> implementedInterfaces;
 
-	private List<FieldDetailsImpl> fields;
-	private List<MethodDetailsImpl> methods;
+	private volatile List<FieldDetailsImpl> fields;
+	private volatile List<MethodDetailsImpl> methods;
+	private volatile ClassMemberTable memberTable;
+
+	private volatile Class<?> javaClass;
 
 	public ClassDetailsImpl(XClass xClass, ModelProcessingContext processingContext) {
-		super( xClass::getAnnotations, processingContext );
+		super( () -> HcannHelper.withReflectionManager( processingContext, xClass::getAnnotations ), processingContext );
 		this.xClass = xClass;
 
 		this.superType = determineSuperType( xClass, processingContext );
@@ -48,7 +52,7 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 	}
 
 	private ClassDetails determineSuperType(XClass xClass, ModelProcessingContext processingContext) {
-		final XClass superclass = xClass.getSuperclass();
+		final XClass superclass = HcannHelper.withReflectionManager( processingContext, xClass::getSuperclass );
 		if ( superclass == null ) {
 			return null;
 		}
@@ -89,15 +93,21 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
-		if ( implementedInterfaces == null ) {
-			implementedInterfaces = buildImplementedInterfaces();
+		List<ClassDetails> result = implementedInterfaces;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = implementedInterfaces;
+				if ( result == null ) {
+					result = buildImplementedInterfaces();
+					implementedInterfaces = result;
+				}
+			}
 		}
-
-		return implementedInterfaces;
+		return result;
 	}
 
 	private List<ClassDetails> buildImplementedInterfaces() {
-		final XClass[] interfaces = xClass.getInterfaces();
+		final XClass[] interfaces = HcannHelper.withReflectionManager( getProcessingContext(), xClass::getInterfaces );
 		if ( ArrayHelper.isEmpty( interfaces ) ) {
 			return Collections.emptyList();
 		}
@@ -121,15 +131,25 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			fields = resolveFields( xClass, getProcessingContext() );
+		List<FieldDetailsImpl> result = fields;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = fields;
+				if ( result == null ) {
+					result = resolveFields( xClass, getProcessingContext() );
+					fields = result;
+				}
+			}
 		}
 		//noinspection unchecked,rawtypes
-		return (List) fields;
+		return (List) result;
 	}
 
 	private static List<FieldDetailsImpl> resolveFields(XClass xClass, ModelProcessingContext processingContext) {
-		final List<XProperty> xFields = xClass.getDeclaredProperties( "field" );
+		final List<XProperty> xFields = HcannHelper.withReflectionManager(
+				processingContext,
+				() -> xClass.getDeclaredProperties( "field" )
+		);
 		final ArrayList<FieldDetailsImpl> fields = CollectionHelper.arrayList( xFields.size() );
 		for ( int i = 0; i < xFields.size(); i++ ) {
 			final XProperty xField = xFields.get( i );
@@ -149,17 +169,24 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			methods = resolveMethods( xClass, getProcessingContext() );
+		List<MethodDetailsImpl> result = methods;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = methods;
+				if ( result == null ) {
+					result = resolveMethods( xClass, getProcessingContext() );
+					methods = result;
+				}
+			}
 		}
 		//noinspection unchecked,rawtypes
-		return (List) methods;
+		return (List) result;
 	}
 
 	private static List<MethodDetailsImpl> resolveMethods(
 			XClass xClass,
 			ModelProcessingContext processingContext) {
-		final List<XMethod> xMethods = xClass.getDeclaredMethods();
+		final List<XMethod> xMethods = HcannHelper.withReflectionManager( processingContext, xClass::getDeclaredMethods );
 		final ArrayList<MethodDetailsImpl> methods = CollectionHelper.arrayList( xMethods.size() );
 		for ( int i = 0; i < xMethods.size(); i++ ) {
 			final XMethod xMethod = xMethods.get( i );
@@ -177,11 +204,32 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 		methods.forEach( (Consumer) consumer );
 	}
 
+	@Override
+	public ClassMemberTable getMemberTable() {
+		ClassMemberTable result = memberTable;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = memberTable;
+				if ( result == null ) {
+					result = ClassMemberTable.build( this );
+					memberTable = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public Class<?> toJavaClass() {
-		return getProcessingContext().getMetadataBuildingContext()
-				.getBootstrapContext()
-				.getReflectionManager()
-				.toClass( xClass );
+		// cached, so that it is still available once the context is frozen (and detached)
+		Class<?> result = javaClass;
+		if ( result == null ) {
+			result = getProcessingContext().getMetadataBuildingContext()
+					.getBootstrapContext()
+					.getReflectionManager()
+					.toClass( xClass );
+			javaClass = result;
+		}
+		return result;
 	}
 }
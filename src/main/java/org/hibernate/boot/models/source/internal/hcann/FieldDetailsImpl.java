@@ -6,7 +6,9 @@
  */
 package org.hibernate.boot.models.source.internal.hcann;
 
+import org.hibernate.annotations.common.reflection.XClass;
 import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.FieldDetails;
@@ -20,14 +22,16 @@ import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersista
  */
 public class FieldDetailsImpl extends LazyAnnotationTarget implements FieldDetails {
 	private final XProperty xProperty;
-	private final ClassDetails type;
+	private final ClassDetailsReference type;
 
 	public FieldDetailsImpl(XProperty xProperty, ModelProcessingContext processingContext) {
-		super( xProperty::getAnnotations, processingContext );
+		super( () -> HcannHelper.withReflectionManager( processingContext, xProperty::getAnnotations ), processingContext );
 		this.xProperty = xProperty;
-		this.type = processingContext.getClassDetailsRegistry().resolveClassDetails(
-				xProperty.getType().getName(),
-				() -> new ClassDetailsImpl( xProperty.getType(), processingContext )
+		final XClass memberType = HcannHelper.withReflectionManager( processingContext, xProperty::getType );
+		this.type = new ClassDetailsReference(
+				memberType.getName(),
+				(name, context) -> new ClassDetailsImpl( memberType, context ),
+				processingContext
 		);
 	}
 
@@ -38,7 +42,12 @@ public class FieldDetailsImpl extends LazyAnnotationTarget implements FieldDetai
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
 	}
 
 	@Override
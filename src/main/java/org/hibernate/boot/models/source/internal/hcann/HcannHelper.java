@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.hcann;
+
+import java.util.function.Supplier;
+
+import org.hibernate.annotations.common.reflection.ReflectionManager;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+/**
+ * Helper for dealing with HCANN
+ *
+ * @author Steve Ebersole
+ */
+public class HcannHelper {
+	/**
+	 * Performs the given action holding the lock of the HCANN {@link ReflectionManager}.
+	 *
+	 * @apiNote The ReflectionManager (and the metadata-provider it uses) caches its
+	 * {@link org.hibernate.annotations.common.reflection.XClass}, etc. references
+	 * in non-thread-safe structures.  Any access which might populate those caches
+	 * needs to go through here to support parallel processing.
+	 */
+	public static <T> T withReflectionManager(ModelProcessingContext processingContext, Supplier<T> action) {
+		final ReflectionManager reflectionManager = processingContext.getMetadataBuildingContext()
+				.getBootstrapContext()
+				.getReflectionManager();
+		//noinspection SynchronizationOnLocalVariableOrMethodParameter
+		synchronized ( reflectionManager ) {
+			return action.get();
+		}
+	}
+
+	private HcannHelper() {
+		// disallow direct instantiation
+	}
+}
@@ -6,7 +6,9 @@
  */
 package org.hibernate.boot.models.source.internal.hcann;
 
+import org.hibernate.annotations.common.reflection.XClass;
 import org.hibernate.annotations.common.reflection.XMethod;
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.MethodDetails;
@@ -19,14 +21,16 @@ import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersista
  */
 public class MethodDetailsImpl extends LazyAnnotationTarget implements MethodDetails {
 	private final XMethod xMethod;
-	private final ClassDetails type;
+	private final ClassDetailsReference type;
 
 	public MethodDetailsImpl(XMethod xMethod, ModelProcessingContext processingContext) {
-		super( xMethod::getAnnotations, processingContext );
+		super( () -> HcannHelper.withReflectionManager( processingContext, xMethod::getAnnotations ), processingContext );
 		this.xMethod = xMethod;
-		this.type = processingContext.getClassDetailsRegistry().resolveClassDetails(
-				xMethod.getType().getName(),
-				() -> new ClassDetailsImpl( xMethod.getType(), processingContext )
+		final XClass memberType = HcannHelper.withReflectionManager( processingContext, xMethod::getType );
+		this.type = new ClassDetailsReference(
+				memberType.getName(),
+				(name, context) -> new ClassDetailsImpl( memberType, context ),
+				processingContext
 		);
 	}
 
@@ -37,7 +41,12 @@ public class MethodDetailsImpl extends LazyAnnotationTarget implements MethodDet
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
 	}
 
 	@Override
@@ -47,10 +56,11 @@ public class MethodDetailsImpl extends LazyAnnotationTarget implements MethodDet
 //			return false;
 //		}
 
-		if ( "void".equals( type.getName() ) || "Void".equals( type.getName() ) ) {
+		// only look at the modifiers and signature - never resolve the type here
+		if ( !isPersistableMethod( xMethod.getModifiers() ) ) {
 			return false;
 		}
 
-		return isPersistableMethod( xMethod.getModifiers() );
+		return !type.isVoid();
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.hibernate.boot.models.source.internal.AnnotationWrapperHelper;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
+import org.hibernate.boot.models.source.spi.AnnotationTarget;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+import org.jboss.jandex.AnnotationInstance;
+
+/**
+ * AnnotationTarget based on Jandex {@link AnnotationInstance} references.  As with
+ * {@link org.hibernate.boot.models.source.internal.LazyAnnotationTarget}, the
+ * annotations are not processed until (unless!) they are needed
+ *
+ * @author Steve Ebersole
+ */
+public abstract class AbstractJandexAnnotationTarget implements AnnotationTarget {
+	private final Supplier<Collection<AnnotationInstance>> annotationSupplier;
+	private final ClassDetailsBuilderImpl classDetailsBuilder;
+	private final ModelProcessingContext processingContext;
+
+	private volatile Map<Class<? extends Annotation>, AnnotationUsage<?>> usagesMap;
+	// published through the write to `usagesMap`
+	private AnnotationPresence annotationPresence;
+
+	public AbstractJandexAnnotationTarget(
+			Supplier<Collection<AnnotationInstance>> annotationSupplier,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		this.annotationSupplier = annotationSupplier;
+		this.classDetailsBuilder = classDetailsBuilder;
+		this.processingContext = processingContext;
+	}
+
+	protected ModelProcessingContext getProcessingContext() {
+		return processingContext;
+	}
+
+	protected ClassDetailsBuilderImpl getClassDetailsBuilder() {
+		return classDetailsBuilder;
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getAnnotation(AnnotationDescriptor<A> type) {
+		return AnnotationWrapperHelper.getAnnotation( type, resolveUsagesMap() );
+	}
+
+	@Override
+	public AnnotationPresence getAnnotationPresence() {
+		resolveUsagesMap();
+		return annotationPresence;
+	}
+
+	@Override
+	public <A extends Annotation> List<AnnotationUsage<A>> getRepeatedAnnotations(AnnotationDescriptor<A> type) {
+		return AnnotationWrapperHelper.getRepeatedAnnotations( type, resolveUsagesMap() );
+	}
+
+	private Map<Class<? extends Annotation>, AnnotationUsage<?>> resolveUsagesMap() {
+		Map<Class<? extends Annotation>, AnnotationUsage<?>> result = usagesMap;
+		if ( result == null ) {
+			// the usages get registered with the processing context as they are built,
+			// so make sure that happens just once even with parallel processing
+			synchronized ( this ) {
+				result = usagesMap;
+				if ( result == null ) {
+					result = buildUsagesMap();
+					annotationPresence = AnnotationPresence.from( result.values() );
+					usagesMap = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private Map<Class<? extends Annotation>, AnnotationUsage<?>> buildUsagesMap() {
+		final Map<Class<? extends Annotation>, AnnotationUsage<?>> result = new HashMap<>();
+		JandexAnnotationUsageBuilder.processAnnotations(
+				annotationSupplier.get(),
+				this,
+				result::put,
+				classDetailsBuilder,
+				processingContext
+		);
+		return result;
+	}
+
+	@Override
+	public <A extends Annotation> void forEachAnnotation(AnnotationDescriptor<A> type, Consumer<AnnotationUsage<A>> consumer) {
+		final List<AnnotationUsage<A>> annotations = getRepeatedAnnotations( type );
+		if ( annotations == null ) {
+			return;
+		}
+		annotations.forEach( consumer );
+	}
+
+	@Override
+	public <A extends Annotation> AnnotationUsage<A> getNamedAnnotation(
+			AnnotationDescriptor<A> type,
+			String matchValue,
+			String attributeToMatch) {
+		return AnnotationWrapperHelper.getNamedAnnotation( type, matchValue, attributeToMatch, resolveUsagesMap() );
+	}
+}
@@ -0,0 +1,543 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.spi.ModelSourceSettings;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGGER;
+import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_LOGGER_DEBUG_ENABLED;
+import static org.hibernate.boot.models.spi.ModelSourceLogging.MODEL_SOURCE_MSG_LOGGER;
+
+/**
+ * Cache of the source model for the managed classes, used to avoid re-processing annotations
+ * on boots where the domain model has not changed.  Two levels -<ol>
+ *     <li>
+ *         On disk, a Jandex index of each managed class, along with a checksum (CRC32) of its class file.
+ *         The cache file is read back through a memory-mapped buffer and only the classes whose checksum
+ *         changed (or which are new) are re-indexed.  {@code ClassDetails} are built from the index without
+ *         loading or reflecting on the classes.
+ *     </li>
+ *     <li>
+ *         In memory, the processed (frozen) source model of the managed classes - the {@code ClassDetails}
+ *         along with their annotation usages - per cache file.  Later boots in the same JVM reference it,
+ *         just as with a {@link org.hibernate.boot.models.spi.SharedSourceModel}, rather than processing the
+ *         classes again.  When classes changed, the ClassDetails not affected by the change are
+ *         {@linkplain ModelProcessingContextImpl#retain retained} and only the affected ones re-processed.
+ *         Changed XML mappings re-process the model as a whole.
+ *     </li>
+ * </ol>
+ * The processed models are softly referenced, so that the ClassLoaders they hold on to can be collected, and
+ * replaced as soon as they are found stale.
+ *
+ * @see ModelSourceSettings#BOOT_MODEL_CACHE
+ *
+ * @author Steve Ebersole
+ */
+public class BootModelCache {
+	private static final int MAGIC = 0x48424D43;
+	private static final int VERSION = 3;
+
+	// the processed source model per (absolute) cache file
+	private static final Map<Path, SoftReference<ProcessedModel>> PROCESSED_MODELS = new ConcurrentHashMap<>();
+
+	private final Path cacheFile;
+	private final ClassLoaderService classLoaderService;
+
+	// set by #resolveIndex -
+	// 		* the checksums of the class files of the managed classes, by class name
+	//		* the checksums of the XML mappings, by origin; null if any of them cannot be re-read
+	//		* the classes which had to be (re-)indexed
+	private Map<String, Long> classChecksums;
+	private Map<String, Long> xmlChecksums;
+	private Set<String> reindexedClassNames;
+
+	/**
+	 * Resolve the cache for the given boot, if caching is enabled
+	 *
+	 * @return The cache, or {@code null} if caching is not enabled
+	 */
+	public static BootModelCache from(MetadataBuildingContext buildingContext) {
+		if ( buildingContext.getBootstrapContext().getJandexView() != null ) {
+			// we were handed an index, use it
+			return null;
+		}
+
+		final String cacheFileName = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ConfigurationService.class )
+				.getSetting( ModelSourceSettings.BOOT_MODEL_CACHE, StandardConverters.STRING );
+		if ( cacheFileName == null ) {
+			return null;
+		}
+
+		final ClassLoaderService classLoaderService = buildingContext.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ClassLoaderService.class );
+		return new BootModelCache( Paths.get( cacheFileName ), classLoaderService );
+	}
+
+	public BootModelCache(Path cacheFile, ClassLoaderService classLoaderService) {
+		this.cacheFile = cacheFile.toAbsolutePath();
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * Resolve the Jandex index of the given managed classes - read from the cache file for the classes
+	 * whose class file did not change, re-indexed for the others.  The cache file is re-written if any
+	 * class was re-indexed, added or removed.
+	 *
+	 * @param streamedXmlMappings The names of the {@linkplain ModelSourceSettings#STREAMED_XML_MAPPINGS streamed}
+	 * XML mappings, which are part of the key of the processed model along with those of {@code managedResources}
+	 */
+	public IndexView resolveIndex(ManagedResources managedResources, Collection<String> streamedXmlMappings) {
+		final Map<String, URL> classFiles = new TreeMap<>();
+		for ( Class<?> managedClassReference : managedResources.getAnnotatedClassReferences() ) {
+			locateClassFile( managedClassReference.getName(), classFiles );
+		}
+		for ( String managedClassName : managedResources.getAnnotatedClassNames() ) {
+			locateClassFile( managedClassName, classFiles );
+		}
+
+		this.xmlChecksums = checksumXmlMappings( managedResources.getXmlMappingBindings(), streamedXmlMappings );
+
+		final Map<String, CachedClass> cachedClasses = readCachedClasses();
+		final Map<String, CachedClass> currentClasses = new TreeMap<>();
+		final Map<String, Long> classChecksums = new HashMap<>();
+		final Set<String> reindexedClassNames = new TreeSet<>();
+		final List<IndexView> indexes = new ArrayList<>( classFiles.size() );
+		classFiles.forEach( (className, classFileUrl) -> {
+			final byte[] classFile = readClassFile( className, classFileUrl );
+			final long checksum = checksum( classFile );
+			classChecksums.put( className, checksum );
+
+			final CachedClass cachedClass = cachedClasses.get( className );
+			Index index = cachedClass != null && cachedClass.checksum == checksum
+					? readIndex( cachedClass.index )
+					: null;
+			final CachedClass currentClass;
+			if ( index == null ) {
+				index = indexClass( className, classFile );
+				currentClass = new CachedClass( checksum, writeIndex( index ) );
+				reindexedClassNames.add( className );
+			}
+			else {
+				currentClass = cachedClass;
+			}
+			currentClasses.put( className, currentClass );
+			indexes.add( index );
+		} );
+		this.classChecksums = classChecksums;
+		this.reindexedClassNames = reindexedClassNames;
+
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			MODEL_SOURCE_LOGGER.debugf(
+					"Boot model cache `%s` - re-indexed %s of %s class(es)",
+					cacheFile,
+					reindexedClassNames.size(),
+					classFiles.size()
+			);
+		}
+		if ( !reindexedClassNames.isEmpty() || !cachedClasses.keySet().equals( currentClasses.keySet() ) ) {
+			writeCache( currentClasses );
+		}
+
+		return CompositeIndex.create( indexes );
+	}
+
+	/**
+	 * The names of the classes which the last {@linkplain #resolveIndex resolved} index had to (re-)index,
+	 * rather than reading them from the cache file
+	 */
+	public Set<String> getReindexedClassNames() {
+		return reindexedClassNames;
+	}
+
+	/**
+	 * Resolve the processed source model of the managed classes {@linkplain #resolveIndex indexed}.
+	 * The one cached for this cache file is used as-is if neither its classes (their class files or the
+	 * ClassLoader they were loaded through) nor the XML mappings changed.  Otherwise the creator builds
+	 * a new one, passed either<ul>
+	 *     <li>
+	 *         the {@linkplain ModelProcessingContextImpl#retain retained} ClassDetails not affected by the
+	 *         changed classes, to layer the new context over
+	 *     </li>
+	 *     <li>
+	 *         {@code null}, when there is nothing to retain - no cached model, or the XML mappings changed
+	 *     </li>
+	 * </ul>
+	 * The creator is expected to return a {@linkplain ModelProcessingContextImpl#freeze() frozen} context
+	 * which does not reference the boot building it.
+	 */
+	public ModelProcessingContextImpl resolveProcessingContext(
+			Function<ModelProcessingContextImpl, ModelProcessingContextImpl> creator) {
+		assert classChecksums != null : "#resolveIndex not called";
+
+		final ProcessedModel[] resolved = new ProcessedModel[1];
+		PROCESSED_MODELS.compute( cacheFile, (path, reference) -> {
+			final ProcessedModel existing = reference == null ? null : reference.get();
+			resolved[0] = resolveProcessedModel( existing, creator );
+			return resolved[0] == existing ? reference : new SoftReference<>( resolved[0] );
+		} );
+		return resolved[0].processingContext;
+	}
+
+	private ProcessedModel resolveProcessedModel(
+			ProcessedModel existing,
+			Function<ModelProcessingContextImpl, ModelProcessingContextImpl> creator) {
+		if ( existing == null || xmlChecksums == null || !xmlChecksums.equals( existing.xmlChecksums ) ) {
+			return new ProcessedModel( classChecksums, xmlChecksums, creator.apply( null ) );
+		}
+
+		final Set<String> changedClassNames = new HashSet<>();
+		existing.classChecksums.forEach( (className, checksum) -> {
+			if ( !checksum.equals( classChecksums.get( className ) ) ) {
+				changedClassNames.add( className );
+			}
+		} );
+		classChecksums.forEach( (className, checksum) -> {
+			if ( !existing.classChecksums.containsKey( className ) ) {
+				changedClassNames.add( className );
+			}
+		} );
+		changedClassNames.addAll( existing.processingContext.collectStaleClassNames( classLoaderService ) );
+
+		if ( changedClassNames.isEmpty() ) {
+			if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+				MODEL_SOURCE_LOGGER.debugf( "Using cached processed boot model : %s", cacheFile );
+			}
+			return existing;
+		}
+
+		final Set<String> affectedClassNames = existing.processingContext
+				.resolveDependencies()
+				.collectAffected( changedClassNames );
+		if ( MODEL_SOURCE_LOGGER_DEBUG_ENABLED ) {
+			MODEL_SOURCE_LOGGER.debugf(
+					"Cached processed boot model `%s` - %s changed class(es) affecting %s class(es)",
+					cacheFile,
+					changedClassNames.size(),
+					affectedClassNames.size()
+			);
+		}
+		return new ProcessedModel(
+				classChecksums,
+				xmlChecksums,
+				creator.apply( existing.processingContext.retain( affectedClassNames ) )
+		);
+	}
+
+	/**
+	 * Discard the processed source model cached for the given cache file, if one
+	 */
+	public static void release(Path cacheFile) {
+		PROCESSED_MODELS.remove( cacheFile.toAbsolutePath() );
+	}
+
+	private void locateClassFile(String className, Map<String, URL> classFiles) {
+		final URL classFileUrl = classLoaderService.locateResource( className.replace( '.', '/' ) + ".class" );
+		if ( classFileUrl == null ) {
+			// not backed by a class file; such classes are handled through reflection
+			return;
+		}
+		classFiles.put( className, classFileUrl );
+	}
+
+	private static byte[] readClassFile(String className, URL classFileUrl) {
+		try ( InputStream stream = classFileUrl.openStream() ) {
+			return stream.readAllBytes();
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to read class file : " + className, e );
+		}
+	}
+
+	private static long checksum(byte[] bytes) {
+		final CRC32 crc = new CRC32();
+		crc.update( bytes, 0, bytes.length );
+		return crc.getValue();
+	}
+
+	/**
+	 * Checksums the XML mappings, by origin
+	 *
+	 * @return The checksums, or {@code null} if any of the mappings cannot be re-read (bound from a stream, e.g.)
+	 */
+	private Map<String, Long> checksumXmlMappings(
+			Collection<? extends Binding<?>> xmlMappings,
+			Collection<String> streamedXmlMappings) {
+		final Map<String, Long> checksums = new HashMap<>();
+		for ( Binding<?> xmlMapping : xmlMappings ) {
+			final Long checksum = checksum( locateXmlMapping( xmlMapping.getOrigin() ) );
+			if ( checksum == null ) {
+				return null;
+			}
+			checksums.put( xmlMapping.getOrigin().getType() + ":" + xmlMapping.getOrigin().getName(), checksum );
+		}
+		for ( String resourceName : streamedXmlMappings ) {
+			final Long checksum = checksum( classLoaderService.locateResource( resourceName ) );
+			if ( checksum == null ) {
+				return null;
+			}
+			checksums.put( "streamed:" + resourceName, checksum );
+		}
+		return checksums;
+	}
+
+	private URL locateXmlMapping(Origin origin) {
+		try {
+			switch ( origin.getType() ) {
+				case RESOURCE: {
+					return classLoaderService.locateResource( origin.getName() );
+				}
+				case FILE: {
+					return Paths.get( origin.getName() ).toUri().toURL();
+				}
+				case URL: {
+					return new URL( origin.getName() );
+				}
+				default: {
+					return null;
+				}
+			}
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Long checksum(URL url) {
+		if ( url == null ) {
+			return null;
+		}
+		try ( InputStream stream = url.openStream() ) {
+			return checksum( stream.readAllBytes() );
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Index indexClass(String className, byte[] classFile) {
+		final Indexer indexer = new Indexer();
+		try {
+			indexer.index( new ByteArrayInputStream( classFile ) );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to index class : " + className, e );
+		}
+		return indexer.complete();
+	}
+
+	private static byte[] writeIndex(Index index) {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try {
+			new IndexWriter( stream ).write( index );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to serialize Jandex index", e );
+		}
+		return stream.toByteArray();
+	}
+
+	private Index readIndex(byte[] index) {
+		try {
+			return new IndexReader( new ByteArrayInputStream( index ) ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			// re-indexed instead
+			MODEL_SOURCE_MSG_LOGGER.unableToReadBootModelCache( cacheFile.toString(), e.getMessage() );
+			return null;
+		}
+	}
+
+	/**
+	 * The entries of the cache file, by class name
+	 */
+	private Map<String, CachedClass> readCachedClasses() {
+		if ( !Files.isRegularFile( cacheFile ) ) {
+			return Collections.emptyMap();
+		}
+
+		try ( FileChannel channel = FileChannel.open( cacheFile, StandardOpenOption.READ ) ) {
+			final ByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, channel.size() );
+			final DataInputStream input = new DataInputStream( new ByteBufferInputStream( buffer ) );
+
+			if ( input.readInt() != MAGIC || input.readInt() != VERSION ) {
+				return Collections.emptyMap();
+			}
+
+			final int numberOfEntries = input.readInt();
+			final Map<String, CachedClass> cachedClasses = new HashMap<>();
+			for ( int i = 0; i < numberOfEntries; i++ ) {
+				final String className = input.readUTF();
+				final long checksum = input.readLong();
+				final byte[] index = new byte[input.readInt()];
+				input.readFully( index );
+				cachedClasses.put( className, new CachedClass( checksum, index ) );
+			}
+			return cachedClasses;
+		}
+		catch (IOException | RuntimeException e) {
+			MODEL_SOURCE_MSG_LOGGER.unableToReadBootModelCache( cacheFile.toString(), e.getMessage() );
+			return Collections.emptyMap();
+		}
+	}
+
+	private void writeCache(Map<String, CachedClass> cachedClasses) {
+		try {
+			final Path directory = cacheFile.getParent();
+			Files.createDirectories( directory );
+
+			// write to a temp file and move it into place so that a concurrent
+			// boot never sees a partially written cache
+			final Path tempFile = Files.createTempFile( directory, cacheFile.getFileName().toString(), ".tmp" );
+			try {
+				try ( OutputStream stream = new BufferedOutputStream( Files.newOutputStream( tempFile ) ) ) {
+					final DataOutputStream output = new DataOutputStream( stream );
+					output.writeInt( MAGIC );
+					output.writeInt( VERSION );
+					output.writeInt( cachedClasses.size() );
+					for ( Map.Entry<String, CachedClass> entry : cachedClasses.entrySet() ) {
+						output.writeUTF( entry.getKey() );
+						output.writeLong( entry.getValue().checksum );
+						output.writeInt( entry.getValue().index.length );
+						output.write( entry.getValue().index );
+					}
+					output.flush();
+				}
+
+				try {
+					Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( tempFile );
+			}
+		}
+		catch (IOException e) {
+			// the cache is only an optimization
+			MODEL_SOURCE_MSG_LOGGER.unableToWriteBootModelCache( cacheFile.toString(), e.getMessage() );
+		}
+	}
+
+	/**
+	 * An entry of the cache file - the checksum of a class file along with the (serialized) Jandex index of the class
+	 */
+	private static final class CachedClass {
+		private final long checksum;
+		private final byte[] index;
+
+		private CachedClass(long checksum, byte[] index) {
+			this.checksum = checksum;
+			this.index = index;
+		}
+	}
+
+	/**
+	 * A processed (frozen) source model, along with the checksums of the class files and XML mappings it
+	 * was processed from
+	 */
+	private static final class ProcessedModel {
+		private final Map<String, Long> classChecksums;
+		private final Map<String, Long> xmlChecksums;
+		private final ModelProcessingContextImpl processingContext;
+
+		private ProcessedModel(
+				Map<String, Long> classChecksums,
+				Map<String, Long> xmlChecksums,
+				ModelProcessingContextImpl processingContext) {
+			this.classChecksums = classChecksums;
+			this.xmlChecksums = xmlChecksums;
+			this.processingContext = processingContext;
+		}
+	}
+
+	/**
+	 * InputStream view of a (memory-mapped) buffer
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if ( length == 0 ) {
+				return 0;
+			}
+			if ( !buffer.hasRemaining() ) {
+				return -1;
+			}
+			final int count = Math.min( length, buffer.remaining() );
+			buffer.get( bytes, offset, count );
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
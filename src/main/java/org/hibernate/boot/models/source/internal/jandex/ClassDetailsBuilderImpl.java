@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsBuilder;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+/**
+ * Jandex based ClassDetailsBuilder
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsBuilderImpl implements ClassDetailsBuilder {
+	private final IndexView jandexIndex;
+
+	public ClassDetailsBuilderImpl(IndexView jandexIndex) {
+		this.jandexIndex = jandexIndex;
+	}
+
+	public IndexView getJandexIndex() {
+		return jandexIndex;
+	}
+
+	@Override
+	public ClassDetails buildClassDetails(String name, ModelProcessingContext processingContext) {
+		final Class<?> primitiveType = resolvePrimitiveType( name );
+		if ( primitiveType != null ) {
+			return org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl.buildClassDetails(
+					primitiveType,
+					processingContext
+			);
+		}
+
+		final ClassInfo classInfo = jandexIndex.getClassByName( DotName.createSimple( name ) );
+		if ( classInfo == null ) {
+			// not part of the index (JDK types, e.g.) - fall back to reflection
+			return org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl.buildClassDetailsStatic(
+					name,
+					processingContext
+			);
+		}
+
+		return new ClassDetailsImpl( classInfo, this, processingContext );
+	}
+
+	@Override
+	public String findSuperTypeName(String name, ModelProcessingContext processingContext) {
+		if ( resolvePrimitiveType( name ) != null ) {
+			return null;
+		}
+
+		final ClassInfo classInfo = jandexIndex.getClassByName( DotName.createSimple( name ) );
+		if ( classInfo == null ) {
+			// built through reflection
+			return ClassDetailsBuilder.super.findSuperTypeName( name, processingContext );
+		}
+
+		final DotName superName = classInfo.superName();
+		return superName == null ? null : superName.toString();
+	}
+
+	private static Class<?> resolvePrimitiveType(String name) {
+		switch ( name ) {
+			case "boolean":
+				return boolean.class;
+			case "byte":
+				return byte.class;
+			case "short":
+				return short.class;
+			case "int":
+				return int.class;
+			case "long":
+				return long.class;
+			case "float":
+				return float.class;
+			case "double":
+				return double.class;
+			case "char":
+				return char.class;
+			case "void":
+				return void.class;
+			default:
+				return null;
+		}
+	}
+}
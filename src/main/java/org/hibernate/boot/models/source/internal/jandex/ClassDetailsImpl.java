@@ -0,0 +1,229 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.MethodDetails;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.IndexedConsumer;
+import org.hibernate.internal.util.collections.CollectionHelper;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * ClassDetails implementation based on a Jandex {@link ClassInfo} reference.
+ *
+ * @implNote The described class is never loaded, unless {@link #toJavaClass()} is called
+ *
+ * @author Steve Ebersole
+ */
+public class ClassDetailsImpl extends AbstractJandexAnnotationTarget implements ClassDetails {
+	private static final DotName OBJECT = DotName.createSimple( Object.class.getName() );
+
+	private final ClassInfo classInfo;
+
+	private final ClassDetails superType;
+	private volatile List<ClassDetails> implementedInterfaces;
+
+	private volatile List<FieldDetailsImpl> fields;
+	private volatile List<MethodDetailsImpl> methods;
+	private volatile ClassMemberTable memberTable;
+
+	private volatile Class<?> javaClass;
+
+	public ClassDetailsImpl(
+			ClassInfo classInfo,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		super( classInfo::declaredAnnotations, classDetailsBuilder, processingContext );
+		this.classInfo = classInfo;
+
+		this.superType = determineSuperType( classInfo, classDetailsBuilder, processingContext );
+
+		processingContext.getClassDetailsRegistry().addClassDetails( this );
+	}
+
+	private static ClassDetails determineSuperType(
+			ClassInfo classInfo,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		final DotName superName = classInfo.superName();
+		if ( superName == null || OBJECT.equals( superName ) ) {
+			return null;
+		}
+
+		final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+		return classDetailsRegistry.resolveClassDetails( superName.toString(), classDetailsBuilder );
+	}
+
+	@Override
+	public String getName() {
+		return getClassName();
+	}
+
+	@Override
+	public String getClassName() {
+		return classInfo.name().toString();
+	}
+
+	@Override
+	public boolean isAbstract() {
+		return Modifier.isAbstract( classInfo.flags() );
+	}
+
+	@Override
+	public ClassDetails getSuperType() {
+		return superType;
+	}
+
+	@Override
+	public List<ClassDetails> getImplementedInterfaceTypes() {
+		List<ClassDetails> result = implementedInterfaces;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = implementedInterfaces;
+				if ( result == null ) {
+					result = buildImplementedInterfaces();
+					implementedInterfaces = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private List<ClassDetails> buildImplementedInterfaces() {
+		final List<DotName> interfaceNames = classInfo.interfaceNames();
+		if ( CollectionHelper.isEmpty( interfaceNames ) ) {
+			return Collections.emptyList();
+		}
+
+		final ClassDetailsRegistry classDetailsRegistry = getProcessingContext().getClassDetailsRegistry();
+		final ArrayList<ClassDetails> result = CollectionHelper.arrayList( interfaceNames.size() );
+		for ( int i = 0; i < interfaceNames.size(); i++ ) {
+			result.add( classDetailsRegistry.resolveClassDetails(
+					interfaceNames.get( i ).toString(),
+					getClassDetailsBuilder()
+			) );
+		}
+		return result;
+	}
+
+	@Override
+	public List<FieldDetails> getFields() {
+		List<FieldDetailsImpl> result = fields;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = fields;
+				if ( result == null ) {
+					result = resolveFields();
+					fields = result;
+				}
+			}
+		}
+		//noinspection unchecked,rawtypes
+		return (List) result;
+	}
+
+	private List<FieldDetailsImpl> resolveFields() {
+		final List<FieldInfo> fieldInfos = classInfo.fields();
+		final ArrayList<FieldDetailsImpl> result = CollectionHelper.arrayList( fieldInfos.size() );
+		for ( int i = 0; i < fieldInfos.size(); i++ ) {
+			result.add( new FieldDetailsImpl( fieldInfos.get( i ), getClassDetailsBuilder(), getProcessingContext() ) );
+		}
+		return result;
+	}
+
+	@Override
+	public void forEachField(IndexedConsumer<FieldDetails> consumer) {
+		//noinspection unchecked,rawtypes
+		getFields().forEach( (Consumer) consumer );
+	}
+
+	@Override
+	public List<MethodDetails> getMethods() {
+		List<MethodDetailsImpl> result = methods;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = methods;
+				if ( result == null ) {
+					result = resolveMethods();
+					methods = result;
+				}
+			}
+		}
+		//noinspection unchecked,rawtypes
+		return (List) result;
+	}
+
+	private List<MethodDetailsImpl> resolveMethods() {
+		final List<MethodInfo> methodInfos = classInfo.methods();
+		final ArrayList<MethodDetailsImpl> result = CollectionHelper.arrayList( methodInfos.size() );
+		for ( int i = 0; i < methodInfos.size(); i++ ) {
+			final MethodInfo methodInfo = methodInfos.get( i );
+			if ( methodInfo.isConstructor() || methodInfo.isStaticInitializer() ) {
+				continue;
+			}
+			result.add( new MethodDetailsImpl( methodInfo, getClassDetailsBuilder(), getProcessingContext() ) );
+		}
+		return result;
+	}
+
+	@Override
+	public void forEachMethod(IndexedConsumer<MethodDetails> consumer) {
+		//noinspection unchecked,rawtypes
+		getMethods().forEach( (Consumer) consumer );
+	}
+
+	@Override
+	public ClassMemberTable getMemberTable() {
+		ClassMemberTable result = memberTable;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = memberTable;
+				if ( result == null ) {
+					result = ClassMemberTable.build( this );
+					memberTable = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Class<?> toJavaClass() {
+		// the one and only place we load the class
+		if ( javaClass == null ) {
+			javaClass = getProcessingContext().getMetadataBuildingContext()
+					.getBootstrapContext()
+					.getServiceRegistry()
+					.getService( ClassLoaderService.class )
+					.classForName( getClassName() );
+		}
+		return javaClass;
+	}
+
+	@Override
+	public String toString() {
+		return "ClassDetails(jandex) {" +
+				"    name='" + getName() + "'," +
+				"	 sys-hash-code=" + System.identityHashCode( this ) +
+				"}";
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+import org.jboss.jandex.FieldInfo;
+
+import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersistableField;
+
+/**
+ * @author Steve Ebersole
+ */
+public class FieldDetailsImpl extends AbstractJandexAnnotationTarget implements FieldDetails {
+	private final FieldInfo fieldInfo;
+	private final ClassDetailsReference type;
+
+	public FieldDetailsImpl(
+			FieldInfo fieldInfo,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		super( fieldInfo::declaredAnnotations, classDetailsBuilder, processingContext );
+		this.fieldInfo = fieldInfo;
+		this.type = new ClassDetailsReference(
+				fieldInfo.type().name().toString(),
+				classDetailsBuilder,
+				processingContext
+		);
+	}
+
+	@Override
+	public String getName() {
+		return fieldInfo.name();
+	}
+
+	@Override
+	public ClassDetails getType() {
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
+	}
+
+	@Override
+	public boolean isPersistable() {
+		return isPersistableField( fieldInfo.flags() );
+	}
+}
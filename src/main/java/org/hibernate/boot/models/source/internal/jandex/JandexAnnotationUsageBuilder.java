@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.hibernate.boot.models.source.internal.AnnotationDescriptorImpl;
+import org.hibernate.boot.models.source.internal.AnnotationUsageBuilder;
+import org.hibernate.boot.models.source.internal.AnnotationUsageImpl;
+import org.hibernate.boot.models.source.internal.ValueCanonicalizer;
+import org.hibernate.boot.models.source.spi.AnnotationAttributeDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
+import org.hibernate.boot.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.boot.models.source.spi.AnnotationTarget;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.CollectionHelper;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+
+/**
+ * Helper for building {@link AnnotationUsage} instances from Jandex {@link AnnotationInstance} references
+ *
+ * @see org.hibernate.boot.models.source.internal.AnnotationUsageBuilder
+ *
+ * @author Steve Ebersole
+ */
+public class JandexAnnotationUsageBuilder {
+	private static final DotName REPEATABLE = DotName.createSimple( Repeatable.class.getName() );
+	private static final DotName TARGET = DotName.createSimple( Target.class.getName() );
+	private static final DotName RETENTION = DotName.createSimple( Retention.class.getName() );
+	private static final DotName DOCUMENTED = DotName.createSimple( Documented.class.getName() );
+
+	/**
+	 * Process annotations creating usage instances passed back to the consumer
+	 */
+	public static void processAnnotations(
+			Collection<AnnotationInstance> annotations,
+			AnnotationTarget target,
+			BiConsumer<Class<? extends Annotation>, AnnotationUsage<?>> consumer,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		if ( CollectionHelper.isEmpty( annotations ) ) {
+			return;
+		}
+
+		// created only when composed annotations are found
+		List<AnnotationDescriptorImpl<?>> composedDescriptors = null;
+
+		for ( AnnotationInstance annotation : annotations ) {
+			if ( !annotation.runtimeVisible() ) {
+				// match the reflection-based handling, which never sees CLASS retention annotations
+				continue;
+			}
+
+			// skip a few well-know ones that are irrelevant
+			final DotName annotationName = annotation.name();
+			if ( REPEATABLE.equals( annotationName )
+					|| TARGET.equals( annotationName )
+					|| RETENTION.equals( annotationName )
+					|| DOCUMENTED.equals( annotationName ) ) {
+				continue;
+			}
+
+			final AnnotationUsage<?> usage = makeUsage( annotation, target, classDetailsBuilder, processingContext );
+			consumer.accept( usage.getAnnotationDescriptor().getAnnotationType(), usage );
+
+			if ( AnnotationUsageBuilder.isComposed( usage.getAnnotationDescriptor() ) ) {
+				if ( composedDescriptors == null ) {
+					composedDescriptors = new ArrayList<>();
+				}
+				composedDescriptors.add( (AnnotationDescriptorImpl<?>) usage.getAnnotationDescriptor() );
+			}
+		}
+
+		if ( composedDescriptors != null ) {
+			// annotations declared directly on the target win over composed ones.  composed annotations
+			// are rare enough that re-resolving the (already registered) descriptors here is fine
+			final Set<Class<? extends Annotation>> present = new HashSet<>();
+			for ( AnnotationInstance annotation : annotations ) {
+				if ( annotation.runtimeVisible() ) {
+					present.add( resolveDescriptor( annotation, processingContext ).getAnnotationType() );
+				}
+			}
+			for ( int i = 0; i < composedDescriptors.size(); i++ ) {
+				AnnotationUsageBuilder.applyComposedUsages(
+						composedDescriptors.get( i ),
+						target,
+						present,
+						consumer,
+						processingContext
+				);
+			}
+		}
+	}
+
+	private static <A extends Annotation> AnnotationUsage<A> makeUsage(
+			AnnotationInstance annotation,
+			AnnotationTarget target,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		final AnnotationDescriptor<A> annotationDescriptor = resolveDescriptor( annotation, processingContext );
+		final AnnotationUsageImpl<A> usage = new AnnotationUsageImpl<>(
+				annotationDescriptor,
+				target,
+				extractAttributeValues( annotation, annotationDescriptor, target, classDetailsBuilder, processingContext )
+		);
+		processingContext.registerUsage( usage );
+		return usage;
+	}
+
+	private static <A extends Annotation> AnnotationDescriptor<A> resolveDescriptor(
+			AnnotationInstance annotation,
+			ModelProcessingContext processingContext) {
+		// annotation types are the one kind of class we do need to load, in order to
+		// locate (or build) the descriptor.  these are generally JPA and Hibernate
+		// annotations which are already loaded anyway
+		final Class<A> annotationType = processingContext.getMetadataBuildingContext()
+				.getBootstrapContext()
+				.getServiceRegistry()
+				.getService( ClassLoaderService.class )
+				.classForName( annotation.name().toString() );
+		final AnnotationDescriptorRegistry descriptorRegistry = processingContext.getAnnotationDescriptorRegistry();
+		return descriptorRegistry.getDescriptor( annotationType );
+	}
+
+	/**
+	 * Extracts values from a Jandex annotation, in the compact form used by {@link AnnotationUsageImpl}.
+	 */
+	public static <A extends Annotation> Object[] extractAttributeValues(
+			AnnotationInstance annotation,
+			AnnotationDescriptor<A> annotationDescriptor,
+			AnnotationTarget target,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		final List<AnnotationAttributeDescriptor<A, ?, ?>> attributes = annotationDescriptor.getAttributes();
+		final Object[] values = AnnotationUsageImpl.valueArray( annotationDescriptor );
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = extractAttributeValue( annotation, attributes.get( i ), target, classDetailsBuilder, processingContext );
+		}
+
+		final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+		return canonicalizer == null ? values : canonicalizer.canonicalize( values );
+	}
+
+	private static <A extends Annotation, V, W> Object extractAttributeValue(
+			AnnotationInstance annotation,
+			AnnotationAttributeDescriptor<A,V,W> attributeDescriptor,
+			AnnotationTarget target,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		final AnnotationValue jandexValue = annotation.value( attributeDescriptor.getAttributeName() );
+		if ( jandexValue == null ) {
+			// Jandex does not report values which were not explicitly specified
+			return AnnotationUsageBuilder.compactValue(
+					attributeDescriptor,
+					attributeDescriptor.getAttributeDefault(),
+					target,
+					processingContext
+			);
+		}
+
+		return wrapValue(
+				jandexValue,
+				attributeDescriptor.getAttributeType(),
+				target,
+				classDetailsBuilder,
+				processingContext
+		);
+	}
+
+	/**
+	 * Performs the same normalization as the {@linkplain org.hibernate.boot.models.source.internal.ValueNormalizer}
+	 * used for reflection-based values, but without needing a physical value
+	 */
+	private static Object wrapValue(
+			AnnotationValue jandexValue,
+			Class<?> valueType,
+			AnnotationTarget target,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		if ( valueType.isArray() ) {
+			final List<AnnotationValue> elements = jandexValue.asArrayList();
+			if ( CollectionHelper.isEmpty( elements ) ) {
+				return Collections.emptyList();
+			}
+
+			final Class<?> elementType = valueType.getComponentType();
+			final ArrayList<Object> result = CollectionHelper.arrayList( elements.size() );
+			for ( int i = 0; i < elements.size(); i++ ) {
+				result.add( wrapValue( elements.get( i ), elementType, target, classDetailsBuilder, processingContext ) );
+			}
+			final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+			return canonicalizer == null ? result : canonicalizer.canonicalize( result );
+		}
+
+		if ( String.class.equals( valueType ) ) {
+			final String value = StringHelper.nullIfEmpty( jandexValue.asString() );
+			final ValueCanonicalizer canonicalizer = ValueCanonicalizer.from( processingContext );
+			return canonicalizer == null ? value : canonicalizer.canonicalize( value );
+		}
+
+		if ( Class.class.equals( valueType ) ) {
+			final String className = jandexValue.asClass().name().toString();
+			if ( "void".equals( className ) ) {
+				return null;
+			}
+			return processingContext.getClassDetailsRegistry().resolveClassDetails( className, classDetailsBuilder );
+		}
+
+		if ( valueType.isAnnotation() ) {
+			return makeUsage( jandexValue.asNested(), target, classDetailsBuilder, processingContext );
+		}
+
+		if ( valueType.isEnum() ) {
+			//noinspection unchecked,rawtypes
+			return Enum.valueOf( (Class) valueType, jandexValue.asEnum() );
+		}
+
+		// primitive (boxed) values
+		return jandexValue.value();
+	}
+
+	private JandexAnnotationUsageBuilder() {
+		// disallow direct instantiation
+	}
+}
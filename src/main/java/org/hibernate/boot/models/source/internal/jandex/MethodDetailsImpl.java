@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.internal.jandex;
+
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.MethodDetails;
+import org.hibernate.boot.models.spi.ModelProcessingContext;
+
+import org.jboss.jandex.MethodInfo;
+
+import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersistableMethod;
+
+/**
+ * @author Steve Ebersole
+ */
+public class MethodDetailsImpl extends AbstractJandexAnnotationTarget implements MethodDetails {
+	private final MethodInfo methodInfo;
+	private final ClassDetailsReference type;
+
+	public MethodDetailsImpl(
+			MethodInfo methodInfo,
+			ClassDetailsBuilderImpl classDetailsBuilder,
+			ModelProcessingContext processingContext) {
+		super( methodInfo::declaredAnnotations, classDetailsBuilder, processingContext );
+		this.methodInfo = methodInfo;
+		this.type = new ClassDetailsReference(
+				methodInfo.returnType().name().toString(),
+				classDetailsBuilder,
+				processingContext
+		);
+	}
+
+	@Override
+	public String getName() {
+		return methodInfo.name();
+	}
+
+	@Override
+	public ClassDetails getType() {
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
+	}
+
+	@Override
+	public boolean isPersistable() {
+		// only look at the modifiers and signature - never resolve the type here
+		if ( !isPersistableMethod( methodInfo.flags() ) ) {
+			return false;
+		}
+
+		if ( methodInfo.parametersCount() > 0 ) {
+			// should be the getter
+			return false;
+		}
+
+		// again, should be the getter
+		return !type.isVoid();
+	}
+}
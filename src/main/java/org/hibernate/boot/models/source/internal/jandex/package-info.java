@@ -0,0 +1,15 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+
+/**
+ * Support for building the source model from a Jandex {@linkplain org.jboss.jandex.IndexView index}.
+ * Managed classes are never loaded while building the model - only annotation types
+ * (to locate their descriptors) and types not part of the index (JDK types, e.g.) are.
+ *
+ * @author Steve Ebersole
+ */
+package org.hibernate.boot.models.source.internal.jandex;
@@ -17,6 +17,7 @@ import java.util.function.Consumer;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
 import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.MethodDetails;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
@@ -34,10 +35,11 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 	private final Class<?> managedClass;
 
 	private final ClassDetails superType;
-	private List<ClassDetails> interfaces;
+	private volatile List<ClassDetails> interfaces;
 
-	private List<FieldDetailsImpl> fields;
-	private List<MethodDetailsImpl> methods;
+	private volatile List<FieldDetailsImpl> fields;
+	private volatile List<MethodDetailsImpl> methods;
+	private volatile ClassMemberTable memberTable;
 
 	public ClassDetailsImpl(
 			Class<?> managedClass,
@@ -96,10 +98,17 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<ClassDetails> getImplementedInterfaceTypes() {
-		if ( interfaces == null ) {
-			interfaces = collectInterfaces();
+		List<ClassDetails> result = interfaces;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = interfaces;
+				if ( result == null ) {
+					result = collectInterfaces();
+					interfaces = result;
+				}
+			}
 		}
-		return interfaces;
+		return result;
 	}
 
 	private List<ClassDetails> collectInterfaces() {
@@ -135,16 +144,28 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<FieldDetails> getFields() {
-		if ( fields == null ) {
-			final Field[] reflectionFields = managedClass.getFields();
-			this.fields = CollectionHelper.arrayList( reflectionFields.length );
-			for ( int i = 0; i < reflectionFields.length; i++ ) {
-				final Field reflectionField = reflectionFields[i];
-				fields.add( new FieldDetailsImpl( reflectionField, getProcessingContext() ) );
+		List<FieldDetailsImpl> result = fields;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = fields;
+				if ( result == null ) {
+					result = resolveFields();
+					fields = result;
+				}
 			}
 		}
 		//noinspection unchecked,rawtypes
-		return (List) fields;
+		return (List) result;
+	}
+
+	private List<FieldDetailsImpl> resolveFields() {
+		final Field[] reflectionFields = managedClass.getDeclaredFields();
+		final List<FieldDetailsImpl> result = CollectionHelper.arrayList( reflectionFields.length );
+		for ( int i = 0; i < reflectionFields.length; i++ ) {
+			final Field reflectionField = reflectionFields[i];
+			result.add( new FieldDetailsImpl( reflectionField, getProcessingContext() ) );
+		}
+		return result;
 	}
 
 	@Override
@@ -159,15 +180,27 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 
 	@Override
 	public List<MethodDetails> getMethods() {
-		if ( methods == null ) {
-			final Method[] reflectionMethods = managedClass.getMethods();
-			this.methods = CollectionHelper.arrayList( reflectionMethods.length );
-			for ( int i = 0; i < reflectionMethods.length; i++ ) {
-				this.methods.add( new MethodDetailsImpl( reflectionMethods[i], getProcessingContext() ) );
+		List<MethodDetailsImpl> result = methods;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = methods;
+				if ( result == null ) {
+					result = resolveMethods();
+					methods = result;
+				}
 			}
 		}
 		//noinspection unchecked,rawtypes
-		return (List) methods;
+		return (List) result;
+	}
+
+	private List<MethodDetailsImpl> resolveMethods() {
+		final Method[] reflectionMethods = managedClass.getDeclaredMethods();
+		final List<MethodDetailsImpl> result = CollectionHelper.arrayList( reflectionMethods.length );
+		for ( int i = 0; i < reflectionMethods.length; i++ ) {
+			result.add( new MethodDetailsImpl( reflectionMethods[i], getProcessingContext() ) );
+		}
+		return result;
 	}
 
 	@Override
@@ -180,6 +213,21 @@ public class ClassDetailsImpl extends LazyAnnotationTarget implements ClassDetai
 		methods.forEach( (Consumer) consumer );
 	}
 
+	@Override
+	public ClassMemberTable getMemberTable() {
+		ClassMemberTable result = memberTable;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = memberTable;
+				if ( result == null ) {
+					result = ClassMemberTable.build( this );
+					memberTable = result;
+				}
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public String toString() {
 		return "ClassDetails(reflection) {" +
@@ -8,6 +8,7 @@ package org.hibernate.boot.models.source.internal.reflection;
 
 import java.lang.reflect.Field;
 
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.FieldDetails;
@@ -21,14 +22,15 @@ import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersista
  */
 public class FieldDetailsImpl extends LazyAnnotationTarget implements FieldDetails {
 	private final Field field;
-	private final ClassDetails type;
+	private final ClassDetailsReference type;
 
 	public FieldDetailsImpl(Field field, ModelProcessingContext processingContext) {
 		super( field::getAnnotations, processingContext );
 		this.field = field;
-		this.type = processingContext.getClassDetailsRegistry().resolveClassDetails(
+		this.type = new ClassDetailsReference(
 				field.getType().getName(),
-				() -> ClassDetailsBuilderImpl.buildClassDetails( field.getType(), getProcessingContext() )
+				(name, context) -> ClassDetailsBuilderImpl.buildClassDetails( field.getType(), context ),
+				processingContext
 		);
 	}
 
@@ -39,7 +41,12 @@ public class FieldDetailsImpl extends LazyAnnotationTarget implements FieldDetai
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
 	}
 
 	@Override
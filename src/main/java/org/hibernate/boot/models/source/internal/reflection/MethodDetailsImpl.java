@@ -8,6 +8,7 @@ package org.hibernate.boot.models.source.internal.reflection;
 
 import java.lang.reflect.Method;
 
+import org.hibernate.boot.models.source.internal.ClassDetailsReference;
 import org.hibernate.boot.models.source.internal.LazyAnnotationTarget;
 import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.MethodDetails;
@@ -20,14 +21,15 @@ import static org.hibernate.boot.models.source.internal.ModifierUtils.isPersista
  */
 public class MethodDetailsImpl extends LazyAnnotationTarget implements MethodDetails {
 	private final Method method;
-	private final ClassDetails type;
+	private final ClassDetailsReference type;
 
 	public MethodDetailsImpl(Method method, ModelProcessingContext processingContext) {
 		super( method::getAnnotations, processingContext );
 		this.method = method;
-		this.type = processingContext.getClassDetailsRegistry().resolveClassDetails(
+		this.type = new ClassDetailsReference(
 				method.getReturnType().getName(),
-				() -> ClassDetailsBuilderImpl.buildClassDetails( method.getReturnType(), getProcessingContext() )
+				(name, context) -> ClassDetailsBuilderImpl.buildClassDetails( method.getReturnType(), context ),
+				processingContext
 		);
 	}
 
@@ -38,21 +40,27 @@ public class MethodDetailsImpl extends LazyAnnotationTarget implements MethodDet
 
 	@Override
 	public ClassDetails getType() {
-		return type;
+		return type.resolve();
+	}
+
+	@Override
+	public String getTypeName() {
+		return type.getName();
 	}
 
 	@Override
 	public boolean isPersistable() {
-		if ( method.getParameterCount() > 0 ) {
-			// should be the getter
+		// only look at the modifiers and signature - never resolve the type here
+		if ( !isPersistableMethod( method.getModifiers() ) ) {
 			return false;
 		}
 
-		if ( "void".equals( type.getName() ) || "Void".equals( type.getName() ) ) {
-			// again, should be the getter
+		if ( method.getParameterCount() > 0 ) {
+			// should be the getter
 			return false;
 		}
 
-		return isPersistableMethod( method.getModifiers() );
+		// again, should be the getter
+		return !type.isVoid();
 	}
 }
@@ -38,6 +38,11 @@ public interface AnnotationAttributeDescriptor<A extends Annotation, V, W> {
 	 */
 	Method getAttributeMethod();
 
+	/**
+	 * The position of this attribute within its {@linkplain AnnotationDescriptor#getAttributes() annotation's attributes}
+	 */
+	int getOrdinal();
+
 	/**
 	 * The {@linkplain Class Java type} of the attribute
 	 *
@@ -55,6 +60,15 @@ public interface AnnotationAttributeDescriptor<A extends Annotation, V, W> {
 	 */
 	V getAttributeDefault();
 
+	/**
+	 * The wrapped {@linkplain #getAttributeDefault() default value}, shared by all usages which do not
+	 * specify a value for the attribute.
+	 *
+	 * @return The shared default, or {@code null} if the wrapped default depends on the usage - e.g.
+	 * a {@link ClassDetails} or nested annotation default
+	 */
+	AnnotationAttributeValue<V,W> getDefaultValue();
+
 	/**
 	 * Extract the value for the described attribute from an instance of the containing annotation
 	 *
@@ -63,6 +77,11 @@ public interface AnnotationAttributeDescriptor<A extends Annotation, V, W> {
 	 */
 	V extractValue(A annotation);
 
+	/**
+	 * Normalize an underlying value into its wrapper form.  E.g. {@link Class} to {@link ClassDetails}
+	 */
+	W normalizeValue(V value, AnnotationTarget target, ModelProcessingContext processingContext);
+
 	AnnotationAttributeValue<V,W> makeValueWrapper(
 			V value,
 			AnnotationTarget target,
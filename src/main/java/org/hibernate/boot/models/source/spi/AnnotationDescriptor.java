@@ -47,9 +47,48 @@ public interface AnnotationDescriptor<A extends Annotation> extends AnnotationTa
 	 */
 	<V,W> AnnotationAttributeDescriptor<A,V,W> getAttribute(String name);
 
+	/**
+	 * The {@linkplain AnnotationAttributeDescriptor#getOrdinal() ordinal} of the named attribute
+	 *
+	 * @return The ordinal, or {@code -1} if the annotation has no such attribute
+	 */
+	default int getAttributeOrdinal(String name) {
+		final List<AnnotationAttributeDescriptor<A,?,?>> attributes = getAttributes();
+		for ( int i = 0; i < attributes.size(); i++ ) {
+			if ( attributes.get( i ).getAttributeName().equals( name ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * If the described annotation is {@linkplain Repeatable repeatable}, returns the descriptor
 	 * for the {@linkplain Repeatable#value() container} annotation.
 	 */
 	AnnotationDescriptor<?> getRepeatableContainer();
+
+	/**
+	 * Dense ordinal of the {@linkplain JpaAnnotations JPA} and {@linkplain HibernateAnnotations Hibernate}
+	 * descriptors, used to track their {@linkplain AnnotationPresence presence}.
+	 *
+	 * @return The ordinal, or {@code -1} for other annotations
+	 */
+	default int getOrdinal() {
+		return -1;
+	}
+
+	/**
+	 * Whether usages of the described annotation are indexed by the
+	 * {@linkplain org.hibernate.boot.models.spi.ModelProcessingContext processing context} to be
+	 * located regardless of their target.  This covers "global" annotations such as generators,
+	 * named queries and type registrations, as well as the managed type annotations
+	 * ({@code @Entity}, e.g.).
+	 *
+	 * @see org.hibernate.boot.models.spi.ModelProcessingContext#getAllUsages
+	 * @see org.hibernate.boot.models.spi.ModelProcessingContext#getAnnotatedClasses
+	 */
+	default boolean isGloballyResolvable() {
+		return false;
+	}
 }
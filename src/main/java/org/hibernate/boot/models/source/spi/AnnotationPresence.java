@@ -0,0 +1,125 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.spi;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of {@linkplain JpaAnnotations JPA} and {@linkplain HibernateAnnotations Hibernate}
+ * annotation types, as a bitmask keyed by {@linkplain AnnotationDescriptor#getOrdinal() descriptor ordinal}.
+ * <p/>
+ * Used both to describe which of those annotations are used on a {@linkplain AnnotationTarget#getAnnotationPresence() target}
+ * and as a mask of the annotations to check for, allowing checks for a group of annotations to be
+ * performed as a few word-wise operations rather than a lookup per annotation.
+ * <p/>
+ * Descriptors without an ordinal (custom annotations) are never part of a presence set.
+ *
+ * @author Steve Ebersole
+ */
+public final class AnnotationPresence {
+	/**
+	 * No annotations
+	 */
+	public static final AnnotationPresence NONE = new AnnotationPresence( new long[0] );
+
+	private static final int WORD_SHIFT = 6;
+
+	private final long[] words;
+
+	private AnnotationPresence(long[] words) {
+		this.words = words;
+	}
+
+	/**
+	 * A mask of the given annotations
+	 */
+	public static AnnotationPresence of(AnnotationDescriptor<?>... descriptors) {
+		long[] words = NONE.words;
+		for ( int i = 0; i < descriptors.length; i++ ) {
+			words = set( words, descriptors[i] );
+		}
+		return words.length == 0 ? NONE : new AnnotationPresence( words );
+	}
+
+	/**
+	 * The presence set for the given usages
+	 */
+	public static AnnotationPresence from(Collection<? extends AnnotationUsage<?>> usages) {
+		long[] words = NONE.words;
+		for ( AnnotationUsage<?> usage : usages ) {
+			words = set( words, usage.getAnnotationDescriptor() );
+		}
+		return words.length == 0 ? NONE : new AnnotationPresence( words );
+	}
+
+	/**
+	 * A presence set with the given annotation added
+	 */
+	public AnnotationPresence with(AnnotationDescriptor<?> descriptor) {
+		final long[] copy = Arrays.copyOf( words, words.length );
+		final long[] result = set( copy, descriptor );
+		return result.length == 0 ? NONE : new AnnotationPresence( result );
+	}
+
+	private static long[] set(long[] words, AnnotationDescriptor<?> descriptor) {
+		final int ordinal = descriptor.getOrdinal();
+		if ( ordinal < 0 ) {
+			return words;
+		}
+
+		final int wordIndex = ordinal >> WORD_SHIFT;
+		final long[] result = wordIndex < words.length ? words : Arrays.copyOf( words, wordIndex + 1 );
+		result[ wordIndex ] |= 1L << ordinal;
+		return result;
+	}
+
+	/**
+	 * Whether the given annotation is part of this set
+	 */
+	public boolean contains(AnnotationDescriptor<?> descriptor) {
+		final int ordinal = descriptor.getOrdinal();
+		if ( ordinal < 0 ) {
+			return false;
+		}
+		final int wordIndex = ordinal >> WORD_SHIFT;
+		return wordIndex < words.length && ( words[ wordIndex ] & ( 1L << ordinal ) ) != 0;
+	}
+
+	/**
+	 * Whether any of the annotations in the given {@code mask} are part of this set
+	 */
+	public boolean containsAny(AnnotationPresence mask) {
+		final int length = Math.min( words.length, mask.words.length );
+		for ( int i = 0; i < length; i++ ) {
+			if ( ( words[i] & mask.words[i] ) != 0 ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return words.length == 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( !( o instanceof AnnotationPresence ) ) {
+			return false;
+		}
+		return Arrays.equals( words, ( (AnnotationPresence) o ).words );
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode( words );
+	}
+}
@@ -45,6 +45,21 @@ public interface AnnotationTarget {
 	 */
 	<A extends Annotation> AnnotationUsage<A> getAnnotation(AnnotationDescriptor<A> type);
 
+	/**
+	 * Which of the {@linkplain JpaAnnotations JPA} and {@linkplain HibernateAnnotations Hibernate}
+	 * annotations are used on this target
+	 */
+	AnnotationPresence getAnnotationPresence();
+
+	/**
+	 * Whether any of the annotations in the given {@code mask} are used on this target.
+	 *
+	 * @see AnnotationPresence#of
+	 */
+	default boolean hasAnyAnnotation(AnnotationPresence mask) {
+		return getAnnotationPresence().containsAny( mask );
+	}
+
 	/**
 	 * For {@linkplain Repeatable repeatable} annotation types, this method will return a list
 	 * of all the annotations on the target, even those on the {@linkplain Repeatable#value() "containing annotation"}.
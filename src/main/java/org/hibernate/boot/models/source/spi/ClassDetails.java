@@ -93,6 +93,17 @@ public interface ClassDetails extends AnnotationTarget {
 	 */
 	void forEachMethod(IndexedConsumer<MethodDetails> consumer);
 
+	/**
+	 * The {@linkplain #getFields() fields} and {@linkplain #getMethods() methods} of this
+	 * class, partitioned by persistability.
+	 *
+	 * @implNote The default implementation scans the members on each call.  Implementations
+	 * whose members cannot change cache the table.
+	 */
+	default ClassMemberTable getMemberTable() {
+		return ClassMemberTable.build( this );
+	}
+
 	/**
 	 * Know what you are doing before calling this method
 	 */
@@ -7,6 +7,8 @@
 package org.hibernate.boot.models.source.spi;
 
 import org.hibernate.boot.models.spi.ModelProcessingContext;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 
 /**
  * Builder for {@link ClassDetails} references.
@@ -19,4 +21,30 @@ public interface ClassDetailsBuilder {
 	 * Build a ClassDetails descriptor for a class with the given name
 	 */
 	ClassDetails buildClassDetails(String name, ModelProcessingContext processingContext);
+
+	/**
+	 * The name of the super class of the named class, without building its ClassDetails.  Used
+	 * to order {@linkplain ClassDetailsRegistry#resolveClassDetails(java.util.Collection) batch resolutions}.
+	 *
+	 * @return The super class name, or {@code null} if there is none or it cannot be determined
+	 *
+	 * @implSpec The default implementation loads the class
+	 */
+	default String findSuperTypeName(String name, ModelProcessingContext processingContext) {
+		final Class<?> javaClass;
+		try {
+			javaClass = processingContext.getMetadataBuildingContext()
+					.getBootstrapContext()
+					.getServiceRegistry()
+					.getService( ClassLoaderService.class )
+					.classForName( name );
+		}
+		catch (ClassLoadingException e) {
+			// dynamic models, primitives, etc.
+			return null;
+		}
+
+		final Class<?> superclass = javaClass.getSuperclass();
+		return superclass == null ? null : superclass.getName();
+	}
 }
@@ -6,7 +6,9 @@
  */
 package org.hibernate.boot.models.source.spi;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -58,6 +60,12 @@ public interface ClassDetailsRegistry {
 	 */
 	void addClassDetails(String name, ClassDetails classDetails);
 
+	/**
+	 * The builder used to create registrations which are missing, if not otherwise specified.
+	 * {@code null} once the registry is frozen.
+	 */
+	ClassDetailsBuilder getClassDetailsBuilder();
+
 	/**
 	 * Resolves a managed-class by name.  If there is currently no such registration,
 	 * one is created.
@@ -75,4 +83,33 @@ public interface ClassDetailsRegistry {
 	 * one is created using the specified {@code creator}.
 	 */
 	ClassDetails resolveClassDetails(String name, Supplier<ClassDetails> creator);
+
+	/**
+	 * Resolves a batch of managed-classes by name, creating any which are not yet registered.
+	 *
+	 * @return The ClassDetails, in the order of the (de-duplicated) names
+	 */
+	default List<ClassDetails> resolveClassDetails(Collection<String> names) {
+		return resolveClassDetails( names, null );
+	}
+
+	/**
+	 * Form of {@link #resolveClassDetails(Collection)} spreading the work across the given
+	 * {@code forkJoinPool}, if one.
+	 */
+	List<ClassDetails> resolveClassDetails(Collection<String> names, ForkJoinPool forkJoinPool);
+
+	/**
+	 * Form of {@link #resolveClassDetails(Collection, ForkJoinPool)} creating missing registrations using the
+	 * specified {@code creator}.
+	 * <p/>
+	 * Super types shared by the classes of the batch are resolved just once, and before their subtypes -
+	 * classes are resolved level by level, starting from the top of their hierarchies.  With a
+	 * {@code forkJoinPool}, each level is resolved in parallel without threads waiting on each other's
+	 * super types.
+	 */
+	List<ClassDetails> resolveClassDetails(
+			Collection<String> names,
+			ClassDetailsBuilder creator,
+			ForkJoinPool forkJoinPool);
 }
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.source.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The members declared by a class, partitioned by a single pass over its
+ * {@linkplain ClassDetails#getFields() fields} and {@linkplain ClassDetails#getMethods() methods}
+ * according to {@linkplain MemberDetails#isPersistable() persistability}.
+ * <p/>
+ * Shared by everything inspecting the members of a managed class (attribute member
+ * resolution, id member detection, callback discovery) so that each class is only
+ * scanned once.  This includes entity listener classes, which are often named by many entities.
+ *
+ * @see ClassDetails#getMemberTable()
+ *
+ * @author Steve Ebersole
+ */
+public final class ClassMemberTable {
+	/**
+	 * The JPA lifecycle callback annotations, in the order of the {@linkplain #getLifecycleCallback index}
+	 */
+	private static final List<AnnotationDescriptor<?>> LIFECYCLE_CALLBACK_TYPES = List.of(
+			JpaAnnotations.PRE_PERSIST,
+			JpaAnnotations.PRE_REMOVE,
+			JpaAnnotations.PRE_UPDATE,
+			JpaAnnotations.POST_LOAD,
+			JpaAnnotations.POST_PERSIST,
+			JpaAnnotations.POST_REMOVE,
+			JpaAnnotations.POST_UPDATE
+	);
+	private static final AnnotationPresence LIFECYCLE_CALLBACK_PRESENCE = AnnotationPresence.of(
+			LIFECYCLE_CALLBACK_TYPES.toArray( new AnnotationDescriptor<?>[0] )
+	);
+
+	private final List<FieldDetails> persistableFields;
+	private final List<MethodDetails> persistableMethods;
+	private final List<MethodDetails> nonPersistableMethods;
+
+	private volatile MethodDetails[] lifecycleCallbacks;
+
+	private ClassMemberTable(
+			List<FieldDetails> persistableFields,
+			List<MethodDetails> persistableMethods,
+			List<MethodDetails> nonPersistableMethods) {
+		this.persistableFields = persistableFields;
+		this.persistableMethods = persistableMethods;
+		this.nonPersistableMethods = nonPersistableMethods;
+	}
+
+	/**
+	 * Scan the members of the given class
+	 */
+	public static ClassMemberTable build(ClassDetails classDetails) {
+		final List<FieldDetails> fields = classDetails.getFields();
+		final List<FieldDetails> persistableFields = new ArrayList<>( fields.size() );
+		for ( int i = 0; i < fields.size(); i++ ) {
+			final FieldDetails fieldDetails = fields.get( i );
+			if ( fieldDetails.isPersistable() ) {
+				persistableFields.add( fieldDetails );
+			}
+		}
+
+		final List<MethodDetails> methods = classDetails.getMethods();
+		final List<MethodDetails> persistableMethods = new ArrayList<>();
+		final List<MethodDetails> nonPersistableMethods = new ArrayList<>();
+		for ( int i = 0; i < methods.size(); i++ ) {
+			final MethodDetails methodDetails = methods.get( i );
+			if ( methodDetails.isPersistable() ) {
+				persistableMethods.add( methodDetails );
+			}
+			else {
+				nonPersistableMethods.add( methodDetails );
+			}
+		}
+
+		return new ClassMemberTable(
+				compact( persistableFields ),
+				compact( persistableMethods ),
+				compact( nonPersistableMethods )
+		);
+	}
+
+	private static <T> List<T> compact(List<T> list) {
+		if ( list.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList( new ArrayList<>( list ) );
+	}
+
+	/**
+	 * Fields which can be persistent attributes
+	 */
+	public List<FieldDetails> getPersistableFields() {
+		return persistableFields;
+	}
+
+	/**
+	 * Methods (getters) which can be persistent attributes
+	 */
+	public List<MethodDetails> getPersistableMethods() {
+		return persistableMethods;
+	}
+
+	/**
+	 * All other methods - setters, {@code void} methods such as lifecycle callbacks, etc.
+	 */
+	public List<MethodDetails> getNonPersistableMethods() {
+		return nonPersistableMethods;
+	}
+
+	/**
+	 * The method annotated with the given JPA lifecycle callback annotation ({@code @PrePersist}, e.g.),
+	 * or {@code null} if there is none.
+	 *
+	 * @throws IllegalArgumentException if the descriptor is not for a lifecycle callback annotation
+	 */
+	public MethodDetails getLifecycleCallback(AnnotationDescriptor<?> callbackType) {
+		final int index = LIFECYCLE_CALLBACK_TYPES.indexOf( callbackType );
+		if ( index < 0 ) {
+			throw new IllegalArgumentException( "Not a lifecycle callback annotation : " + callbackType.getAnnotationType().getName() );
+		}
+		return getLifecycleCallbacks()[index];
+	}
+
+	/**
+	 * Whether any method is annotated with a JPA lifecycle callback annotation
+	 */
+	public boolean hasLifecycleCallbacks() {
+		final MethodDetails[] callbacks = getLifecycleCallbacks();
+		for ( int i = 0; i < callbacks.length; i++ ) {
+			if ( callbacks[i] != null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private MethodDetails[] getLifecycleCallbacks() {
+		MethodDetails[] result = lifecycleCallbacks;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = lifecycleCallbacks;
+				if ( result == null ) {
+					result = indexLifecycleCallbacks();
+					lifecycleCallbacks = result;
+				}
+			}
+		}
+		return result;
+	}
+
+	private MethodDetails[] indexLifecycleCallbacks() {
+		// a single pass over the methods.  callbacks return void, so are never persistable
+		final MethodDetails[] result = new MethodDetails[ LIFECYCLE_CALLBACK_TYPES.size() ];
+		for ( int i = 0; i < nonPersistableMethods.size(); i++ ) {
+			final MethodDetails methodDetails = nonPersistableMethods.get( i );
+			final AnnotationPresence presence = methodDetails.getAnnotationPresence();
+			if ( !presence.containsAny( LIFECYCLE_CALLBACK_PRESENCE ) ) {
+				continue;
+			}
+
+			for ( int t = 0; t < result.length; t++ ) {
+				// the first method wins, should the same annotation be used multiple times
+				if ( result[t] == null && presence.contains( LIFECYCLE_CALLBACK_TYPES.get( t ) ) ) {
+					result[t] = methodDetails;
+				}
+			}
+		}
+		return result;
+	}
+}
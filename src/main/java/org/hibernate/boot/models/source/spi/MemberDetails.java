@@ -27,6 +27,15 @@ public interface MemberDetails extends AnnotationTarget {
 	 */
 	ClassDetails getType();
 
+	/**
+	 * The name of the field type or method return type.  Unlike {@link #getType()}, this
+	 * never requires the type to be resolved.
+	 */
+	default String getTypeName() {
+		final ClassDetails type = getType();
+		return type == null ? null : type.getName();
+	}
+
 	/**
 	 * Whether the member is a field.
 	 *
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.spi;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Internal;
+
+/**
+ * Keeps the source model ({@code ClassDetails}, {@code AnnotationUsage}) of a boot around so
+ * that the next boot over the same domain classes - a dev-mode reload, e.g. - only re-processes
+ * what changed.
+ * <p/>
+ * Pass the same instance to each boot using {@link ModelSourceSettings#INCREMENTAL_SOURCE_MODEL}
+ * and report the classes changed in between through {@link #classesChanged}.  The next boot
+ * rebuilds the ClassDetails of the changed classes along with those of every class depending on
+ * them (through super types, member types, converters, entity listeners, etc) and reuses
+ * the rest.  XML mappings are always re-processed.
+ *
+ * @apiNote The ClassDetails of unchanged classes are reused as-is, including the {@code Class}
+ * references they hold - unless the next boot loads those classes through a different ClassLoader,
+ * in which case they are rebuilt as if changed.  The recorded source model holds no reference to
+ * the boot which built it (its building context, ServiceRegistry, etc.).  Boots using the same
+ * instance are expected to happen one after the other.
+ *
+ * @author Steve Ebersole
+ */
+public class IncrementalSourceModel {
+	private final Set<String> changedClassNames = new HashSet<>();
+	private ModelProcessingContext processingContext;
+
+	/**
+	 * Record classes which were added, changed or removed since the last boot
+	 */
+	public synchronized void classesChanged(Collection<String> classNames) {
+		changedClassNames.addAll( classNames );
+	}
+
+	/**
+	 * Discard the recorded source model - the next boot processes everything
+	 */
+	public synchronized void reset() {
+		processingContext = null;
+		changedClassNames.clear();
+	}
+
+	/**
+	 * Whether a source model has been recorded
+	 */
+	public synchronized boolean isBuilt() {
+		return processingContext != null;
+	}
+
+	/**
+	 * The processing context recorded by the last boot, or {@code null}
+	 */
+	@Internal
+	public synchronized ModelProcessingContext getProcessingContext() {
+		return processingContext;
+	}
+
+	/**
+	 * The names of the classes changed since the last boot, clearing them
+	 */
+	@Internal
+	public synchronized Set<String> consumeChangedClassNames() {
+		final Set<String> consumed = new HashSet<>( changedClassNames );
+		changedClassNames.clear();
+		return consumed;
+	}
+
+	/**
+	 * Record the (frozen) processing context of a completed boot
+	 */
+	@Internal
+	public synchronized void recordProcessingContext(ModelProcessingContext processingContext) {
+		this.processingContext = processingContext;
+	}
+}
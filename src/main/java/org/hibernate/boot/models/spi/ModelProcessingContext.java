@@ -13,6 +13,7 @@ import java.util.function.Consumer;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptorRegistry;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
 import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
 import org.hibernate.boot.spi.MetadataBuildingContext;
 
@@ -38,9 +39,46 @@ public interface ModelProcessingContext {
 	 */
 	ClassDetailsRegistry getClassDetailsRegistry();
 
+	/**
+	 * Registers a usage with the index of "global" usages.  Only usages of
+	 * {@linkplain AnnotationDescriptor#isGloballyResolvable() globally resolvable} annotations
+	 * are indexed; others are ignored.  Safe to call concurrently.
+	 */
 	void registerUsage(AnnotationUsage<?> usage);
 
+	/**
+	 * All usages of the given globally resolvable annotation.  Usages of other annotations
+	 * ({@code @Column}, e.g.) are never indexed, so asking for them is an error rather
+	 * than silently returning nothing.
+	 *
+	 * @throws org.hibernate.HibernateException if the annotation is not
+	 * {@linkplain AnnotationDescriptor#isGloballyResolvable() globally resolvable}
+	 */
 	<A extends Annotation> List<AnnotationUsage<A>> getAllUsages(AnnotationDescriptor<A> annotationDescriptor);
 
+	/**
+	 * Form of {@link #getAllUsages} visiting the usages in place, without collecting them
+	 *
+	 * @throws org.hibernate.HibernateException if the annotation is not
+	 * {@linkplain AnnotationDescriptor#isGloballyResolvable() globally resolvable}
+	 */
 	<A extends Annotation> void forEachUsage(AnnotationDescriptor<A> annotationDescriptor, Consumer<AnnotationUsage<A>> consumer);
+
+	/**
+	 * The classes annotated with the given annotation.  This is an index over the
+	 * {@linkplain #registerUsage registered usages}, so only covers classes whose
+	 * annotations have been processed.
+	 *
+	 * @throws org.hibernate.HibernateException if the annotation is not
+	 * {@linkplain AnnotationDescriptor#isGloballyResolvable() globally resolvable}
+	 */
+	<A extends Annotation> List<ClassDetails> getAnnotatedClasses(AnnotationDescriptor<A> annotationDescriptor);
+
+	/**
+	 * Form of {@link #getAnnotatedClasses} visiting the classes in place, without collecting them
+	 *
+	 * @throws org.hibernate.HibernateException if the annotation is not
+	 * {@linkplain AnnotationDescriptor#isGloballyResolvable() globally resolvable}
+	 */
+	<A extends Annotation> void forEachAnnotatedClass(AnnotationDescriptor<A> annotationDescriptor, Consumer<ClassDetails> consumer);
 }
@@ -17,6 +17,7 @@ import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.ValidIdRange;
 
 import static org.jboss.logging.Logger.Level.INFO;
+import static org.jboss.logging.Logger.Level.WARN;
 
 /**
  * todo (annotation-source) : find the proper min/max id range
@@ -45,4 +46,12 @@ public interface ModelSourceLogging extends BasicLogger {
 	@LogMessage(level = INFO)
 	@Message( id = 999902, value = "Entity `%s` used both @DynamicUpdate and @SQLUpdate" )
 	void dynamicAndCustomUpdate(String entityName);
+
+	@LogMessage(level = WARN)
+	@Message( id = 999903, value = "Unable to read boot model cache `%s`; the model will be rebuilt : %s" )
+	void unableToReadBootModelCache(String cacheFile, String reason);
+
+	@LogMessage(level = WARN)
+	@Message( id = 999904, value = "Unable to write boot model cache `%s` : %s" )
+	void unableToWriteBootModelCache(String cacheFile, String reason);
 }
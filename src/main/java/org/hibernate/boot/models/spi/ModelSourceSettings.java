@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.spi;
+
+/**
+ * Settings which control the processing of managed resources into the boot model
+ *
+ * @author Steve Ebersole
+ */
+public interface ModelSourceSettings {
+	/**
+	 * Whether the managed resources should be processed using multiple threads.
+	 * <p/>
+	 * When enabled, building the source model ({@code ClassDetails}) and the
+	 * intermediate model ({@code EntityHierarchy}) is spread across a
+	 * {@linkplain java.util.concurrent.ForkJoinPool fork-join pool}.  Binding into
+	 * the {@linkplain org.hibernate.boot.spi.InFlightMetadataCollector metadata collector}
+	 * is always performed on the calling thread, in a deterministic order.
+	 * <p/>
+	 * Default is {@code false}
+	 */
+	String PARALLEL_PROCESSING = "hibernate.models.parallel_processing";
+
+	/**
+	 * The number of threads to use when {@linkplain #PARALLEL_PROCESSING parallel processing}
+	 * is enabled.
+	 * <p/>
+	 * Default is {@link Runtime#availableProcessors()}
+	 */
+	String PARALLELISM = "hibernate.models.parallelism";
+
+	/**
+	 * Path to a file used to cache the source model of the managed classes between
+	 * boots.  The cache holds a Jandex index of each managed class along with a checksum
+	 * of its class file.  On boot, only the classes whose class file changed are re-indexed
+	 * and the file re-written.  Within a JVM, the processed source model is additionally kept
+	 * and shared by later boots using the same file - as is, as long as neither the class files
+	 * nor the XML mappings changed, and otherwise minus the classes affected by the changed
+	 * ones.  Ignored for that purpose when a {@link #SHARED_SOURCE_MODEL} is configured.
+	 * <p/>
+	 * Ignored when a Jandex index is {@linkplain org.hibernate.boot.spi.BootstrapContext#getJandexView() supplied}.
+	 * <p/>
+	 * Default is to not cache
+	 */
+	String BOOT_MODEL_CACHE = "hibernate.models.cache_file";
+
+	/**
+	 * A {@link SharedSourceModel} instance to share the source model between multiple
+	 * SessionFactories built over the same domain classes.
+	 * <p/>
+	 * Default is to not share
+	 */
+	String SHARED_SOURCE_MODEL = "hibernate.models.shared_source_model";
+
+	/**
+	 * An {@link IncrementalSourceModel} instance, passed to successive boots over the same
+	 * domain classes (dev-mode reloads, e.g.) so that each boot re-processes only the classes
+	 * affected by the changes since the previous one.
+	 * <p/>
+	 * Takes precedence over {@link #SHARED_SOURCE_MODEL} once a source model has been recorded.
+	 * <p/>
+	 * Default is to process everything on each boot
+	 */
+	String INCREMENTAL_SOURCE_MODEL = "hibernate.models.incremental_source_model";
+
+	/**
+	 * A {@link org.hibernate.boot.models.instrument.spi.BootModelInstrumentation} to be notified of
+	 * the cost of each stage, class and entity hierarchy processed.  Accepts an instance, its class
+	 * or class name, or {@code jfr} for {@link org.hibernate.boot.models.instrument.spi.JfrBootModelInstrumentation}.
+	 * <p/>
+	 * Default is no instrumentation
+	 */
+	String BOOT_MODEL_INSTRUMENTATION = "hibernate.models.instrumentation";
+
+	/**
+	 * Names of {@code mapping.xml} resources to be read by streaming them (StAX), rather
+	 * than binding each document to a JAXB tree as a whole.  The documents are validated
+	 * and then processed just like the others.  Intended for very large mapping documents.
+	 * Accepts a collection or a comma/whitespace separated list of resource names.  The
+	 * resources should not also be listed as regular mapping files.
+	 * <p/>
+	 * Default is to stream none
+	 *
+	 * @see org.hibernate.boot.models.jaxb.internal.StreamedXmlMappingReader
+	 */
+	String STREAMED_XML_MAPPINGS = "hibernate.models.xml_mapping.streamed";
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.boot.models.spi;
+
+import java.util.function.Supplier;
+
+import org.hibernate.Internal;
+
+/**
+ * A source model ({@code ClassDetails}, {@code AnnotationUsage}) shared by multiple
+ * SessionFactories built over the same domain classes - one per tenant, e.g.
+ * <p/>
+ * Pass the same instance to each SessionFactory using {@link ModelSourceSettings#SHARED_SOURCE_MODEL}.
+ * The first to boot builds the source model for its annotated classes and freezes it.
+ * Later boots reference that model read-only and keep only what is specific to them
+ * (XML mappings, additional classes) locally.
+ *
+ * @apiNote The shared model holds no reference to the boot which built it (its building context,
+ * ServiceRegistry, etc.) - the ClassDetails are built from Jandex or through reflection and
+ * completed (including loading their Class) before the model is frozen.  It does reference
+ * the domain classes themselves, and so their ClassLoader.
+ *
+ * @author Steve Ebersole
+ */
+public class SharedSourceModel {
+	private ModelProcessingContext processingContext;
+
+	/**
+	 * Whether the shared model has been built
+	 */
+	public synchronized boolean isBuilt() {
+		return processingContext != null;
+	}
+
+	/**
+	 * Access to the shared (frozen) processing context, building it if needed.  Concurrent
+	 * boots wait for the first to finish building it.
+	 */
+	@Internal
+	public synchronized ModelProcessingContext resolveProcessingContext(Supplier<ModelProcessingContext> creator) {
+		if ( processingContext == null ) {
+			processingContext = creator.get();
+		}
+		return processingContext;
+	}
+}
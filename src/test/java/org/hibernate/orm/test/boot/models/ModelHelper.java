@@ -14,6 +14,7 @@ import org.hibernate.boot.models.intermediate.internal.EntityHierarchyBuilder;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
 import org.hibernate.boot.models.source.internal.hcann.ClassDetailsImpl;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
 import org.hibernate.boot.models.spi.ModelProcessingContext;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 
@@ -37,7 +38,10 @@ public class ModelHelper {
 
 		for ( int i = 0; i < classes.length; i++ ) {
 			final XClass xClass = hcannReflectionManager.toXClass( classes[ i ] );
-			new ClassDetailsImpl( xClass, processingContext );
+			final ClassDetailsImpl classDetails = new ClassDetailsImpl( xClass, processingContext );
+			// process the class-level annotations (registering them with the annotated-class
+			// index), as `ManagedResourcesProcessor` does for the managed classes
+			classDetails.getAnnotation( JpaAnnotations.ENTITY );
 		}
 
 		return EntityHierarchyBuilder.createEntityHierarchies( processingContext );
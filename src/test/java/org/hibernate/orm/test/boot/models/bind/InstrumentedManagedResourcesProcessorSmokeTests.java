@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.bind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.models.bind.internal.ManagedResourcesProcessor;
+import org.hibernate.boot.models.instrument.internal.BootModelRecorder;
+import org.hibernate.boot.models.instrument.spi.BootModelMeasurement;
+import org.hibernate.boot.models.instrument.spi.BootModelStage;
+import org.hibernate.boot.models.instrument.spi.HistogramBootModelInstrumentation;
+import org.hibernate.boot.models.spi.ModelSourceSettings;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Same as {@link ManagedResourcesProcessorSmokeTests}, but with
+ * {@linkplain ModelSourceSettings#BOOT_MODEL_INSTRUMENTATION instrumentation}
+ *
+ * @author Steve Ebersole
+ */
+public class InstrumentedManagedResourcesProcessorSmokeTests {
+	@Test
+	void simpleTest() {
+		final HistogramBootModelInstrumentation instrumentation = new HistogramBootModelInstrumentation();
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelSourceSettings.BOOT_MODEL_INSTRUMENTATION, instrumentation )
+				.build();
+		try {
+			final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( serviceRegistry );
+			final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+			managedResources.addAnnotatedClassReference( SimpleEntity.class );
+			managedResources.addAnnotatedPackageName( getClass().getPackageName() );
+
+			ManagedResourcesProcessor.bindBootModel( managedResources, buildingContext );
+
+			assertThat( buildingContext.getMetadataCollector().getEntityBinding( SimpleEntity.class.getName() ) ).isNotNull();
+
+			assertThat( instrumentation.getStageTotal( BootModelStage.PREPARE ) ).isNotNull();
+			assertThat( instrumentation.getStageTotal( BootModelStage.PROCESS_GLOBAL_ANNOTATIONS ) ).isNotNull();
+			assertThat( instrumentation.getStageTotal( BootModelStage.CREATE_ENTITY_HIERARCHIES ) ).isNotNull();
+			assertThat( instrumentation.getStageTotal( BootModelStage.PROCESS_HIERARCHIES ) ).isNotNull();
+			assertThat( instrumentation.getItemCount( BootModelStage.PREPARE ) ).isEqualTo( 1 );
+			assertThat( instrumentation.getItemCount( BootModelStage.CREATE_ENTITY_HIERARCHIES ) ).isEqualTo( 1 );
+			assertThat( instrumentation.getItemCount( BootModelStage.PROCESS_ATTRIBUTES ) ).isEqualTo( 1 );
+
+			assertThat( instrumentation.generateReport() ).contains( SimpleEntity.class.getName() );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	void testStagesDoNotOverlap() {
+		final List<String> events = new ArrayList<>();
+		final HistogramBootModelInstrumentation instrumentation = new HistogramBootModelInstrumentation() {
+			@Override
+			public void stageStarted(BootModelStage stage) {
+				events.add( "started " + stage );
+			}
+
+			@Override
+			public synchronized void stageCompleted(BootModelStage stage, BootModelMeasurement measurement) {
+				events.add( "completed " + stage );
+				super.stageCompleted( stage, measurement );
+			}
+		};
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( ModelSourceSettings.BOOT_MODEL_INSTRUMENTATION, instrumentation )
+				.build();
+		try {
+			final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( serviceRegistry );
+			final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+			managedResources.addAnnotatedClassReference( SimpleEntity.class );
+			managedResources.addAnnotatedPackageName( getClass().getPackageName() );
+
+			ManagedResourcesProcessor.bindBootModel( managedResources, buildingContext );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+
+		// each stage is completed before the next one is started
+		assertThat( events ).containsExactly(
+				"started PREPARE",
+				"completed PREPARE",
+				"started PROCESS_GLOBAL_ANNOTATIONS",
+				"completed PROCESS_GLOBAL_ANNOTATIONS",
+				"started PROCESS_XML",
+				"completed PROCESS_XML",
+				"started CREATE_ENTITY_HIERARCHIES",
+				"completed CREATE_ENTITY_HIERARCHIES",
+				"started PROCESS_GLOBAL_ANNOTATIONS",
+				"completed PROCESS_GLOBAL_ANNOTATIONS",
+				"started PROCESS_HIERARCHIES",
+				"completed PROCESS_HIERARCHIES",
+				"started PROCESS_ATTRIBUTES",
+				"completed PROCESS_ATTRIBUTES"
+		);
+	}
+
+	@Test
+	void testNestedStageRejected() {
+		final BootModelRecorder recorder = new BootModelRecorder( new HistogramBootModelInstrumentation() );
+		final BootModelRecorder.Mark prepareStart = recorder.start( BootModelStage.PREPARE );
+		assertThatThrownBy( () -> recorder.start( BootModelStage.PROCESS_XML ) ).isInstanceOf( AssertionError.class );
+		recorder.stageCompleted( prepareStart );
+	}
+}
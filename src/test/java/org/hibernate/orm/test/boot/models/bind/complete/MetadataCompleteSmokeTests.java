@@ -10,7 +10,10 @@ import org.hibernate.boot.models.bind.internal.ManagedResourcesProcessor;
 import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
 import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.RootClass;
 import org.hibernate.type.spi.TypeConfiguration;
 
 import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
@@ -50,4 +53,30 @@ public class MetadataCompleteSmokeTests {
 		// name
 		assertThat( entityBinding.getPropertyClosureSpan() ).isEqualTo( 1 );
 	}
+
+	@Test
+	void testHierarchy(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( scope.getRegistry() );
+		final InFlightMetadataCollectorImpl metadataCollector = (InFlightMetadataCollectorImpl) buildingContext.getMetadataCollector();
+
+		final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+		managedResources.addXmlBinding( xmlMappingBinderAccess.bind( "mappings/boot/complete-hierarchy.xml" ) );
+
+		ManagedResourcesProcessor.bindBootModel( managedResources, buildingContext );
+
+		// the XML mapped-superclass is the super type of the XML entity
+		final RootClass entityBinding = (RootClass) metadataCollector.getEntityBinding( XmlClassBindingSchedulerTests.Person.class.getName() );
+		assertThat( entityBinding ).isNotNull();
+		assertThat( entityBinding.hasProperty( "name" ) ).isTrue();
+
+		final MappedSuperclass mappedSuperclass = entityBinding.getSuperMappedSuperclass();
+		assertThat( mappedSuperclass ).isNotNull();
+		assertThat( mappedSuperclass.getDeclaredProperties() ).extracting( Property::getName ).containsExactly( "revision" );
+		assertThat( mappedSuperclass.getMappedClass() ).isEqualTo( XmlClassBindingSchedulerTests.Versioned.class );
+		assertThat( metadataCollector.getMappedSuperclass( XmlClassBindingSchedulerTests.Versioned.class ) ).isSameAs( mappedSuperclass );
+
+		// the embeddable is not an entity
+		assertThat( metadataCollector.getEntityBinding( XmlClassBindingSchedulerTests.Address.class.getName() ) ).isNull();
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.bind.complete;
+
+import java.util.List;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.models.bind.internal.ManagedResourcesProcessor;
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.models.jaxb.internal.StreamedXmlMappingReader;
+import org.hibernate.boot.models.jaxb.internal.XmlMappingProcessor;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.models.spi.ModelSourceSettings;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.mapping.PersistentClass;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Same as {@link MetadataCompleteSmokeTests}, but with the mapping
+ * {@linkplain ModelSourceSettings#STREAMED_XML_MAPPINGS streamed}
+ *
+ * @author Steve Ebersole
+ */
+@ServiceRegistry( settings = @Setting( name = ModelSourceSettings.STREAMED_XML_MAPPINGS, value = "mappings/boot/complete-entity.xml" ) )
+public class StreamedMetadataCompleteSmokeTests {
+	@Test
+	void simpleTest(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+
+		ManagedResourcesProcessor.bindBootModel( new ManagedResourcesImpl(), buildingContext );
+
+		final PersistentClass entityBinding = buildingContext.getMetadataCollector().getEntityBinding( XmlMappedEntity.class.getName() );
+		assertThat( entityBinding ).isNotNull();
+
+		assertThat( entityBinding.getClassName() ).isEqualTo( XmlMappedEntity.class.getName() );
+		assertThat( entityBinding.getEntityName() ).isEqualTo( entityBinding.getClassName() );
+
+		// name
+		assertThat( entityBinding.getPropertyClosureSpan() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void testEntityMetadataComplete(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		// the document is not complete, but the entity is
+		final Binding<BindableMappingDescriptor> binding = reader( scope ).read( "mappings/boot/streamed-entity-complete.xml" );
+		final JaxbEntityMappings root = (JaxbEntityMappings) binding.getRoot();
+		assertThat( root.getPersistenceUnitMetadata() ).isNull();
+		assertThat( root.getEntities() ).hasSize( 1 );
+
+		XmlMappingProcessor.processXmlMappings( List.of( binding ), processingContext );
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().findClassDetails( XmlMappedEntity.class.getName() );
+		assertThat( classDetails ).isNotNull();
+		assertThat( classDetails.getAnnotation( JpaAnnotations.ENTITY ) ).isNotNull();
+		assertThat( classDetails.getFields() ).hasSize( 2 );
+	}
+
+	@Test
+	void testValidation(ServiceRegistryScope scope) {
+		assertThatThrownBy( () -> reader( scope ).read( "mappings/boot/streamed-invalid.xml" ) )
+				.isInstanceOf( MappingException.class )
+				.hasMessageContaining( "mappings/boot/streamed-invalid.xml" );
+	}
+
+	private static StreamedXmlMappingReader reader(ServiceRegistryScope scope) {
+		return new StreamedXmlMappingReader( scope.getRegistry().getService( ClassLoaderService.class ) );
+	}
+}
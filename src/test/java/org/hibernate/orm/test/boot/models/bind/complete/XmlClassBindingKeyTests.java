@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.bind.complete;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.MappingException;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.models.jaxb.internal.XmlMappingProcessor;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.spi.XmlMappingBinderAccess;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for keying XML class bindings by package-qualified class name
+ *
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class XmlClassBindingKeyTests {
+	@Test
+	void testSameSimpleNameInDifferentPackages(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		XmlMappingProcessor.processXmlMappings(
+				bind( scope, "mappings/boot/complete-package-a.xml", "mappings/boot/complete-package-b.xml" ),
+				processingContext
+		);
+
+		final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+		final ClassDetails thingA = classDetailsRegistry.findClassDetails( "org.hibernate.orm.test.boot.models.bind.complete.a.Thing" );
+		final ClassDetails thingB = classDetailsRegistry.findClassDetails( "org.hibernate.orm.test.boot.models.bind.complete.b.Thing" );
+		assertThat( thingA ).isNotNull();
+		assertThat( thingB ).isNotNull();
+		assertThat( thingA ).isNotSameAs( thingB );
+	}
+
+	@Test
+	void testDuplicateWithinDocument(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		assertThatThrownBy( () -> XmlMappingProcessor.processXmlMappings(
+				bind( scope, "mappings/boot/complete-duplicate.xml" ),
+				processingContext
+		) )
+				.isInstanceOf( MappingException.class )
+				.hasMessageContaining( "org.hibernate.orm.test.boot.models.bind.complete.Thing" );
+	}
+
+	private static List<Binding<BindableMappingDescriptor>> bind(ServiceRegistryScope scope, String... resourceNames) {
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( scope.getRegistry() );
+		final List<Binding<BindableMappingDescriptor>> bindings = new ArrayList<>();
+		for ( String resourceName : resourceNames ) {
+			//noinspection unchecked,rawtypes
+			bindings.add( (Binding) xmlMappingBinderAccess.bind( resourceName ) );
+		}
+		return bindings;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.bind.complete;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.models.jaxb.internal.ClassProcessingContextImpl;
+import org.hibernate.boot.models.jaxb.internal.DocumentProcessingContextImpl;
+import org.hibernate.boot.models.jaxb.internal.XmlClassBindingScheduler;
+import org.hibernate.boot.models.jaxb.internal.XmlMappingProcessor;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.XmlMappingBinderAccess;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class XmlClassBindingSchedulerTests {
+	@Test
+	void testWaves(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( scope.getRegistry() );
+
+		final Binding<?> binding = xmlMappingBinderAccess.bind( "mappings/boot/complete-hierarchy.xml" );
+		final JaxbEntityMappings root = (JaxbEntityMappings) binding.getRoot();
+		final DocumentProcessingContextImpl documentContext = new DocumentProcessingContextImpl( root, binding.getOrigin(), processingContext );
+
+		// deliberately in "reverse" order
+		final List<ClassProcessingContextImpl> classBindings = new ArrayList<>();
+		root.getEntities().forEach( (mapping) -> classBindings.add( new ClassProcessingContextImpl( mapping, documentContext ) ) );
+		root.getEmbeddables().forEach( (mapping) -> classBindings.add( new ClassProcessingContextImpl( mapping, documentContext ) ) );
+		root.getMappedSuperclasses().forEach( (mapping) -> classBindings.add( new ClassProcessingContextImpl( mapping, documentContext ) ) );
+
+		final XmlClassBindingScheduler scheduler = new XmlClassBindingScheduler(
+				classBindings,
+				scope.getRegistry().getService( ClassLoaderService.class ),
+				processingContext.getClassDetailsRegistry()
+		);
+
+		final List<List<ClassProcessingContextImpl>> waves = scheduler.getWaves();
+		assertThat( waves ).hasSize( 2 );
+		assertThat( waves.get( 0 ) ).extracting( XmlClassBindingScheduler::qualifiedClassName )
+				.containsExactly( Address.class.getName(), Versioned.class.getName() );
+		assertThat( waves.get( 1 ) ).extracting( XmlClassBindingScheduler::qualifiedClassName )
+				.containsExactly( Person.class.getName() );
+
+		assertThat( scheduler.getMappedSuperTypeName( Person.class.getName() ) ).isEqualTo( Versioned.class.getName() );
+		assertThat( scheduler.getMappedSuperTypeName( Versioned.class.getName() ) ).isNull();
+		assertThat( scheduler.getEmbeddedTypeName( Person.class.getName(), "address" ) ).isEqualTo( Address.class.getName() );
+	}
+
+	@Test
+	void testIntermediateSuperTypes(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( scope.getRegistry() );
+
+		// Audited is mapped through annotations
+		processingContext.getClassDetailsRegistry().resolveClassDetails( Audited.class.getName() );
+
+		final Binding<?> binding = xmlMappingBinderAccess.bind( "mappings/boot/complete-intermediate.xml" );
+		final JaxbEntityMappings root = (JaxbEntityMappings) binding.getRoot();
+		final DocumentProcessingContextImpl documentContext = new DocumentProcessingContextImpl( root, binding.getOrigin(), processingContext );
+
+		final List<ClassProcessingContextImpl> classBindings = new ArrayList<>();
+		root.getEntities().forEach( (mapping) -> classBindings.add( new ClassProcessingContextImpl( mapping, documentContext ) ) );
+		root.getMappedSuperclasses().forEach( (mapping) -> classBindings.add( new ClassProcessingContextImpl( mapping, documentContext ) ) );
+
+		final XmlClassBindingScheduler scheduler = new XmlClassBindingScheduler(
+				classBindings,
+				scope.getRegistry().getService( ClassLoaderService.class ),
+				processingContext.getClassDetailsRegistry()
+		);
+
+		// the annotated intermediate super type is not skipped...
+		assertThat( scheduler.getMappedSuperTypeName( Auditable.class.getName() ) ).isEqualTo( Audited.class.getName() );
+		// ...but the plain one is
+		assertThat( scheduler.getMappedSuperTypeName( Employee.class.getName() ) ).isEqualTo( Versioned.class.getName() );
+
+		final List<List<ClassProcessingContextImpl>> waves = scheduler.getWaves();
+		assertThat( waves ).hasSize( 2 );
+		assertThat( waves.get( 0 ) ).extracting( XmlClassBindingScheduler::qualifiedClassName )
+				.containsExactlyInAnyOrder( Auditable.class.getName(), Versioned.class.getName() );
+		assertThat( waves.get( 1 ) ).extracting( XmlClassBindingScheduler::qualifiedClassName )
+				.containsExactly( Employee.class.getName() );
+	}
+
+	@Test
+	void testProcessedHierarchy(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final XmlMappingBinderAccess xmlMappingBinderAccess = new XmlMappingBinderAccess( scope.getRegistry() );
+
+		//noinspection unchecked,rawtypes
+		final Binding<BindableMappingDescriptor> binding = (Binding) xmlMappingBinderAccess.bind( "mappings/boot/complete-hierarchy.xml" );
+		XmlMappingProcessor.processXmlMappings( Collections.singletonList( binding ), processingContext );
+
+		final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+		final ClassDetails versioned = classDetailsRegistry.findClassDetails( Versioned.class.getName() );
+		final ClassDetails person = classDetailsRegistry.findClassDetails( Person.class.getName() );
+		final ClassDetails address = classDetailsRegistry.findClassDetails( Address.class.getName() );
+
+		assertThat( versioned.getAnnotation( JpaAnnotations.MAPPED_SUPERCLASS ) ).isNotNull();
+		assertThat( person.getAnnotation( JpaAnnotations.ENTITY ) ).isNotNull();
+		assertThat( person.getSuperType() ).isSameAs( versioned );
+		assertThat( address.getAnnotation( JpaAnnotations.EMBEDDABLE ) ).isNotNull();
+
+		final FieldDetails addressField = person.getFields().stream()
+				.filter( (field) -> field.getName().equals( "address" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( addressField.getAnnotation( JpaAnnotations.EMBEDDED ) ).isNotNull();
+		assertThat( addressField.getType() ).isSameAs( address );
+	}
+
+	public static class Versioned {
+		private Integer id;
+		private Integer revision;
+	}
+
+	public static class Person extends Versioned {
+		private String name;
+		private Address address;
+	}
+
+	public static class Address {
+		private String street;
+	}
+
+	@MappedSuperclass
+	public static class Audited extends Versioned {
+		private String auditor;
+	}
+
+	public static class Auditable extends Audited {
+		private String department;
+	}
+
+	public static class Plain extends Versioned {
+	}
+
+	public static class Employee extends Plain {
+		private String name;
+	}
+}
@@ -26,12 +26,16 @@ import org.hibernate.annotations.TenantId;
 import org.hibernate.annotations.TimeZoneColumn;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.Type;
+import org.hibernate.boot.model.source.spi.AttributePath;
 import org.hibernate.orm.test.boot.models.CompositeUserTypeImpl;
 import org.hibernate.orm.test.boot.models.EmbeddableInstantiatorImpl;
 import org.hibernate.orm.test.boot.models.MapConverter;
 import org.hibernate.orm.test.boot.models.ModelHelper;
 import org.hibernate.orm.test.boot.models.UserTypeImpl;
 import org.hibernate.boot.models.intermediate.AccessTypePlacementException;
+import org.hibernate.boot.models.intermediate.internal.AttributeMetadataImpl;
+import org.hibernate.boot.models.intermediate.internal.AttributeTable;
+import org.hibernate.boot.models.intermediate.spi.AttributeMetadata;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.EntityTypeMetadata;
 import org.hibernate.boot.models.source.spi.ClassDetails;
@@ -123,6 +127,41 @@ public class AttributeMetadataSmokeTests {
 		} );
 	}
 
+	@Test
+	void testAttributeLookup(ServiceRegistryScope scope) {
+		final EntityTypeMetadata entity = ModelHelper.buildHierarchies( scope.getRegistry(), MixedAccess.class )
+				.iterator()
+				.next()
+				.getRoot();
+		assertThat( entity.findAttribute( "id" ).getMember().isField() ).isTrue();
+		assertThat( entity.findAttribute( "name" ).getMember().isField() ).isFalse();
+		assertThat( entity.findAttribute( "missing" ) ).isNull();
+		assertThat( entity.findAttribute( new AttributePath().append( "name" ) ).getName() ).isEqualTo( "name" );
+		assertThat( entity.findAttribute( new AttributePath().append( "other" ).append( "name" ) ) ).isNull();
+
+		// enough names for buckets to collide
+		final AttributeMetadata[] attributes = new AttributeMetadata[100];
+		for ( int i = 0; i < attributes.length; i++ ) {
+			attributes[i] = new AttributeMetadataImpl( "attribute" + i, BASIC, null );
+		}
+		final AttributeTable attributeTable = AttributeTable.build( attributes );
+		for ( int i = 0; i < attributes.length; i++ ) {
+			assertThat( attributeTable.indexOf( "attribute" + i ) ).isEqualTo( i );
+		}
+		assertThat( attributeTable.indexOf( "attribute100" ) ).isEqualTo( -1 );
+	}
+
+	@Test
+	void testRepeatedGetterNames(ServiceRegistryScope scope) {
+		// `isActive` and `getActive` both name the `active` attribute - one of them is used
+		final EntityTypeMetadata entity = ModelHelper.buildHierarchies( scope.getRegistry(), RepeatedGetterNames.class )
+				.iterator()
+				.next()
+				.getRoot();
+		assertThat( entity.getAttributes() ).hasSize( 2 );
+		assertThat( entity.findAttribute( "active" ) ).isNotNull();
+	}
+
 	@Test
 	void testTransiency(ServiceRegistryScope scope) {
 		final EntityTypeMetadata mismatch = ModelHelper.buildHierarchies( scope.getRegistry(), Transiency.class )
@@ -262,6 +301,25 @@ public class AttributeMetadataSmokeTests {
 		}
 	}
 
+	@Entity( name = "RepeatedGetterNames" )
+	public static class RepeatedGetterNames {
+		private Integer id;
+		private boolean active;
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public boolean getActive() {
+			return active;
+		}
+	}
+
 	@Entity( name = "Container" )
 	@Table( name = "container" )
 	public static class Container {
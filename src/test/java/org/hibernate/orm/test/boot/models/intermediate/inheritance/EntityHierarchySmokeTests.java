@@ -12,7 +12,9 @@ import org.hibernate.orm.test.boot.models.ModelHelper;
 import org.hibernate.boot.models.intermediate.spi.EntityHierarchy;
 import org.hibernate.boot.models.intermediate.spi.EntityTypeMetadata;
 import org.hibernate.orm.test.boot.models.SimpleEntity;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
 import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
 
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.ServiceRegistryScope;
@@ -79,6 +81,12 @@ public class EntityHierarchySmokeTests {
 		final EntityTypeMetadata subType = (EntityTypeMetadata) hierarchy.getRoot().getSubTypes().iterator().next();
 		assertThat( subType.getEntityName() ).isEqualTo( JoinedLeaf.class.getName() );
 		assertThat( subType.getSuperType() ).isSameAs( hierarchy.getRoot() );
+
+		// @Inheritance is not `@Inherited`, but is in effect for the leaf through the root
+		final AnnotationUsage<Inheritance> rootInheritance = hierarchy.findInheritedAnnotation( hierarchy.getRoot(), JpaAnnotations.INHERITANCE );
+		assertThat( rootInheritance ).isNotNull();
+		assertThat( hierarchy.findInheritedAnnotation( subType, JpaAnnotations.INHERITANCE ) ).isSameAs( rootInheritance );
+		assertThat( hierarchy.findInheritedAnnotation( subType, JpaAnnotations.TABLE ) ).isNull();
 	}
 
 	@Test
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.models.source.internal.AnnotationUsageImpl;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Smoke tests for the index of globally resolvable annotation usages
+ *
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class AnnotationUsageIndexSmokeTests {
+	@Test
+	void testOnlyGloballyResolvableIndexed(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().resolveClassDetails(
+				SimpleEntity.class.getName(),
+				ClassDetailsBuilderImpl.INSTANCE
+		);
+
+		assertThat( processingContext.getAllUsages( JpaAnnotations.ENTITY ) ).hasSize( 1 );
+		assertThat( processingContext.getAnnotatedClasses( JpaAnnotations.ENTITY ) ).containsExactly( classDetails );
+
+		// @Column usages are processed...
+		final FieldDetails nameField = classDetails.getFields().stream()
+				.filter( (field) -> field.getName().equals( "name" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( nameField.getAnnotation( JpaAnnotations.COLUMN ) ).isNotNull();
+
+		// ...but not indexed
+		assertThatThrownBy( () -> processingContext.getAllUsages( JpaAnnotations.COLUMN ) )
+				.isInstanceOf( HibernateException.class );
+		assertThatThrownBy( () -> processingContext.forEachUsage( JpaAnnotations.COLUMN, (usage) -> {} ) )
+				.isInstanceOf( HibernateException.class );
+		assertThatThrownBy( () -> processingContext.getAnnotatedClasses( JpaAnnotations.COLUMN ) )
+				.isInstanceOf( HibernateException.class );
+		assertThatThrownBy( () -> processingContext.forEachAnnotatedClass( JpaAnnotations.COLUMN, (annotatedClass) -> {} ) )
+				.isInstanceOf( HibernateException.class );
+	}
+
+	@Test
+	void testConcurrentRegistration(ServiceRegistryScope scope) throws Exception {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final int numberOfClasses = 200;
+		final int numberOfThreads = 8;
+
+		final List<ClassDetails> classes = new ArrayList<>( numberOfClasses );
+		for ( int i = 0; i < numberOfClasses; i++ ) {
+			final String name = "org.hibernate.orm.test.DynamicThing" + i;
+			classes.add( new ClassDetailsImpl( name, name, null, processingContext ) );
+		}
+
+		// every thread registers a usage on every class
+		final ForkJoinPool forkJoinPool = new ForkJoinPool( numberOfThreads );
+		try {
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>( numberOfThreads );
+			for ( int t = 0; t < numberOfThreads; t++ ) {
+				tasks.add( forkJoinPool.submit( () -> {
+					for ( ClassDetails classDetails : classes ) {
+						processingContext.registerUsage(
+								new AnnotationUsageImpl<>( JpaAnnotations.ENTITY, classDetails, Collections.emptyMap() )
+						);
+					}
+				} ) );
+			}
+			for ( ForkJoinTask<?> task : tasks ) {
+				task.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+
+		assertThat( processingContext.getAllUsages( JpaAnnotations.ENTITY ) ).hasSize( numberOfClasses * numberOfThreads );
+		// each class is reported once
+		assertThat( processingContext.getAnnotatedClasses( JpaAnnotations.ENTITY ) )
+				.hasSize( numberOfClasses )
+				.containsExactlyInAnyOrderElementsOf( classes );
+	}
+}
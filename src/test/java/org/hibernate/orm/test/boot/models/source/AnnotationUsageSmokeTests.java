@@ -8,14 +8,20 @@ package org.hibernate.orm.test.boot.models.source;
 
 import java.lang.reflect.Field;
 
+import org.hibernate.annotations.common.reflection.XClass;
+import org.hibernate.annotations.common.reflection.java.JavaReflectionManager;
 import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
 import org.hibernate.orm.test.boot.models.CustomAnnotation;
 import org.hibernate.orm.test.boot.models.CustomMetaAnnotation;
 import org.hibernate.orm.test.boot.models.SimpleEntity;
 import org.hibernate.boot.models.source.internal.AnnotationUsageImpl;
+import org.hibernate.boot.models.source.internal.hcann.ClassDetailsImpl;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptor;
 import org.hibernate.boot.models.source.spi.AnnotationDescriptorRegistry;
+import org.hibernate.boot.models.source.spi.AnnotationPresence;
 import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.FieldDetails;
 import org.hibernate.boot.models.source.spi.JpaAnnotations;
 
 import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
@@ -47,6 +53,60 @@ public class AnnotationUsageSmokeTests {
 		assertThat( nameColumnUsage.getAttributeValue( "unique" ).asBoolean() ).isTrue();
 		assertThat( nameColumnUsage.getAttributeValue( "insertable" ).asBoolean() ).isFalse();
 		assertThat( nameColumnUsage.getAttributeValue( "updatable" ).asBoolean() ).isTrue();
+
+		// defaulted values are shared from the descriptor
+		assertThat( nameColumnUsage.getAttributeValue( "table" ) )
+				.isSameAs( JpaAnnotations.COLUMN.getAttribute( "table" ).getDefaultValue() );
+		assertThat( nameColumnUsage.getAttributeValue( "updatable" ) )
+				.isSameAs( JpaAnnotations.COLUMN.getAttribute( "updatable" ).getDefaultValue() );
+
+		// other values are wrapped once
+		assertThat( nameColumnUsage.getAttributeValue( "name" ) ).isSameAs( nameColumnUsage.getAttributeValue( "name" ) );
+		assertThat( nameColumnUsage.getAttributeValue( JpaAnnotations.COLUMN.getAttribute( "name" ) ) )
+				.isSameAs( nameColumnUsage.getAttributeValue( "name" ) );
+
+		assertThat( JpaAnnotations.COLUMN.getAttributeOrdinal( "name" ) )
+				.isEqualTo( JpaAnnotations.COLUMN.getAttribute( "name" ).getOrdinal() );
+		assertThat( JpaAnnotations.COLUMN.getAttributeOrdinal( "not_an_attribute" ) ).isEqualTo( -1 );
+		assertThat( nameColumnUsage.getAttributeValue( "not_an_attribute" ) ).isNull();
+	}
+
+	@Test
+	void testCanonicalizedValues(ServiceRegistryScope scope) throws NoSuchFieldException {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final Column nameColumnAnn = SimpleEntity.class.getDeclaredField( "name" ).getAnnotation( Column.class );
+		final AnnotationUsageImpl<Column> usage1 = new AnnotationUsageImpl<>( nameColumnAnn, JpaAnnotations.COLUMN, null, processingContext );
+		assertThat( processingContext.getValueCanonicalizer().getSharedValueCount() ).isEqualTo( 0 );
+
+		final AnnotationUsageImpl<Column> usage2 = new AnnotationUsageImpl<>( nameColumnAnn, JpaAnnotations.COLUMN, null, processingContext );
+		assertThat( processingContext.getValueCanonicalizer().getSharedValueCount() ).isGreaterThan( 0 );
+		assertThat( processingContext.getValueCanonicalizer().getSavedBytes() ).isGreaterThan( 0 );
+
+		assertThat( usage2.getAttributeValue( "name" ).getValue() ).isSameAs( usage1.getAttributeValue( "name" ).getValue() );
+		assertThat( usage2.getAttributeValue( "nullable" ).asBoolean() ).isFalse();
+	}
+
+	@Test
+	void testAnnotationPresence(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final XClass xClass = new JavaReflectionManager().toXClass( SimpleEntity.class );
+		final ClassDetails classDetails = new ClassDetailsImpl( xClass, processingContext );
+		final AnnotationPresence presence = classDetails.getAnnotationPresence();
+		assertThat( presence.contains( JpaAnnotations.ENTITY ) ).isTrue();
+		assertThat( presence.contains( JpaAnnotations.EMBEDDABLE ) ).isFalse();
+		assertThat( classDetails.hasAnyAnnotation( AnnotationPresence.of( JpaAnnotations.EMBEDDABLE, JpaAnnotations.TABLE ) ) ).isTrue();
+		assertThat( classDetails.hasAnyAnnotation( AnnotationPresence.of( JpaAnnotations.EMBEDDABLE, JpaAnnotations.MAPPED_SUPERCLASS ) ) ).isFalse();
+
+		final FieldDetails idField = classDetails.getFields().stream()
+				.filter( (field) -> field.getName().equals( "id" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( idField.hasAnyAnnotation( AnnotationPresence.of( JpaAnnotations.ID, JpaAnnotations.EMBEDDED_ID ) ) ).isTrue();
+		assertThat( idField.getAnnotationPresence().contains( JpaAnnotations.BASIC ) ).isFalse();
 	}
 
 	@Test
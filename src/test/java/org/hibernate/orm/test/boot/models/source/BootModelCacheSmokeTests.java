@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.boot.model.process.internal.ManagedResourcesImpl;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.jandex.BootModelCache;
+import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+import org.hibernate.orm.test.boot.models.UserTypeImpl;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class BootModelCacheSmokeTests {
+	@Test
+	void testWriteAndReuse(ServiceRegistryScope scope, @TempDir Path tempDir) {
+		final Path cacheFile = tempDir.resolve( "boot-model.idx" );
+		final ClassLoaderService classLoaderService = scope.getRegistry().getService( ClassLoaderService.class );
+
+		final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+		managedResources.addAnnotatedClassReference( SimpleEntity.class );
+
+		final IndexView built = new BootModelCache( cacheFile, classLoaderService ).resolveIndex( managedResources, List.of() );
+		assertThat( built.getClassByName( DotName.createSimple( SimpleEntity.class.getName() ) ) ).isNotNull();
+		assertThat( cacheFile ).exists();
+
+		final IndexView cached = new BootModelCache( cacheFile, classLoaderService ).resolveIndex( managedResources, List.of() );
+		assertThat( cached.getClassByName( DotName.createSimple( SimpleEntity.class.getName() ) ) ).isNotNull();
+		assertThat( cached.getKnownClasses() ).hasSize( built.getKnownClasses().size() );
+	}
+
+	@Test
+	void testInvalidation(ServiceRegistryScope scope, @TempDir Path tempDir) throws Exception {
+		final Path cacheFile = tempDir.resolve( "boot-model.idx" );
+
+		// copies of the class files and an XML mapping, so that they can be changed
+		final Path classesDir = tempDir.resolve( "classes" );
+		final Path classFile = copyClassFile( SimpleEntity.class, classesDir );
+		copyClassFile( UserTypeImpl.class, classesDir );
+		final Path xmlFile = classesDir.resolve( "mapping.xml" );
+		Files.writeString( xmlFile, "<entity-mappings/>" );
+		final List<String> xmlMappings = List.of( "mapping.xml" );
+
+		final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+		managedResources.addAnnotatedClassName( SimpleEntity.class.getName() );
+		managedResources.addAnnotatedClassName( UserTypeImpl.class.getName() );
+
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final List<ModelProcessingContextImpl> builds = new ArrayList<>();
+
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { classesDir.toUri().toURL() }, null ) ) {
+			final ClassLoaderService classLoaderService = new ClassLoaderServiceImpl( classLoader );
+			try {
+				final BootModelCache first = new BootModelCache( cacheFile, classLoaderService );
+				first.resolveIndex( managedResources, xmlMappings );
+				assertThat( first.getReindexedClassNames() )
+						.containsExactlyInAnyOrder( SimpleEntity.class.getName(), UserTypeImpl.class.getName() );
+				final ModelProcessingContextImpl firstContext = first.resolveProcessingContext( (retained) -> build( retained, buildingContext, builds ) );
+				assertThat( builds ).containsExactly( (ModelProcessingContextImpl) null );
+
+				// unchanged - both the index and the processed model are reused
+				final BootModelCache second = new BootModelCache( cacheFile, classLoaderService );
+				second.resolveIndex( managedResources, xmlMappings );
+				assertThat( second.getReindexedClassNames() ).isEmpty();
+				assertThat( second.resolveProcessingContext( (retained) -> build( retained, buildingContext, builds ) ) ).isSameAs( firstContext );
+				assertThat( builds ).hasSize( 1 );
+
+				// a touched, but otherwise unchanged, class file does not count as a change
+				Files.setLastModifiedTime(
+						classFile,
+						FileTime.fromMillis( Files.getLastModifiedTime( classFile ).toMillis() + 10_000 )
+				);
+				final BootModelCache third = new BootModelCache( cacheFile, classLoaderService );
+				third.resolveIndex( managedResources, xmlMappings );
+				assertThat( third.getReindexedClassNames() ).isEmpty();
+				assertThat( third.resolveProcessingContext( (retained) -> build( retained, buildingContext, builds ) ) ).isSameAs( firstContext );
+				assertThat( builds ).hasSize( 1 );
+
+				// a changed class - only it is re-indexed and the rest of the processed model is retained
+				changeSourceFileName( classFile );
+				final BootModelCache fourth = new BootModelCache( cacheFile, classLoaderService );
+				fourth.resolveIndex( managedResources, xmlMappings );
+				assertThat( fourth.getReindexedClassNames() ).containsExactly( SimpleEntity.class.getName() );
+				final ModelProcessingContextImpl fourthContext = fourth.resolveProcessingContext( (retained) -> build( retained, buildingContext, builds ) );
+				assertThat( fourthContext ).isNotSameAs( firstContext );
+				assertThat( builds ).hasSize( 2 );
+				assertThat( builds.get( 1 ) ).isNotNull();
+
+				// a changed XML mapping - the processed model is rebuilt as a whole, the index is reused
+				Files.writeString( xmlFile, "<entity-mappings></entity-mappings>" );
+				final BootModelCache fifth = new BootModelCache( cacheFile, classLoaderService );
+				fifth.resolveIndex( managedResources, xmlMappings );
+				assertThat( fifth.getReindexedClassNames() ).isEmpty();
+				final ModelProcessingContextImpl fifthContext = fifth.resolveProcessingContext( (retained) -> build( retained, buildingContext, builds ) );
+				assertThat( fifthContext ).isNotSameAs( fourthContext );
+				assertThat( builds ).hasSize( 3 );
+				assertThat( builds.get( 2 ) ).isNull();
+			}
+			finally {
+				BootModelCache.release( cacheFile );
+				classLoaderService.stop();
+			}
+		}
+	}
+
+	private static Path copyClassFile(Class<?> type, Path classesDir) throws IOException {
+		final String classFileName = type.getName().replace( '.', '/' ) + ".class";
+		final Path classFile = classesDir.resolve( classFileName );
+		Files.createDirectories( classFile.getParent() );
+		try ( InputStream stream = type.getClassLoader().getResourceAsStream( classFileName ) ) {
+			Files.copy( stream, classFile );
+		}
+		return classFile;
+	}
+
+	/**
+	 * Changes the content of the class file while keeping it valid - renames its
+	 * {@code SourceFile} (same length), leaving the size as it was
+	 */
+	private static void changeSourceFileName(Path classFile) throws IOException {
+		final byte[] bytes = Files.readAllBytes( classFile );
+		final byte[] sourceFileName = "SimpleEntity.java".getBytes( StandardCharsets.UTF_8 );
+		final int position = indexOf( bytes, sourceFileName );
+		assertThat( position ).isNotNegative();
+		bytes[position] = 'X';
+		Files.write( classFile, bytes );
+	}
+
+	private static int indexOf(byte[] bytes, byte[] sequence) {
+		for ( int i = 0; i <= bytes.length - sequence.length; i++ ) {
+			if ( Arrays.equals( bytes, i, i + sequence.length, sequence, 0, sequence.length ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static ModelProcessingContextImpl build(
+			ModelProcessingContextImpl retained,
+			MetadataBuildingContextTestingImpl buildingContext,
+			List<ModelProcessingContextImpl> builds) {
+		builds.add( retained );
+		final ModelProcessingContextImpl processingContext = retained == null
+				? ModelProcessingContextImpl.detachable( null, buildingContext )
+				: ModelProcessingContextImpl.detachable( retained, null, buildingContext );
+		processingContext.freeze();
+		return processingContext;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.HibernateAnnotations;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smoke tests for composed annotations - custom annotations carrying JPA and Hibernate annotations
+ *
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class ComposedAnnotationSmokeTests {
+	@Test
+	void testComposedUsages(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().resolveClassDetails(
+				AuditedThing.class.getName(),
+				ClassDetailsBuilderImpl.INSTANCE
+		);
+
+		final AnnotationUsage<Entity> entityUsage = classDetails.getAnnotation( JpaAnnotations.ENTITY );
+		assertThat( entityUsage ).isNotNull();
+		assertThat( entityUsage.getAnnotationTarget() ).isSameAs( classDetails );
+
+		assertThat( classDetails.getAnnotationPresence().contains( HibernateAnnotations.DYNAMIC_UPDATE ) ).isTrue();
+		assertThat( classDetails.getAnnotation( HibernateAnnotations.CACHE ) ).isNotNull();
+
+		// the expanded usage is indexed against the class, not the composed annotation type
+		assertThat( processingContext.getAnnotatedClasses( JpaAnnotations.ENTITY ) ).containsExactly( classDetails );
+		assertThat( processingContext.getAllUsages( JpaAnnotations.ENTITY ) ).hasSize( 1 );
+	}
+
+	@Retention( RUNTIME )
+	@Target( TYPE )
+	@Entity
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	@DynamicUpdate
+	public @interface AuditedEntity {
+	}
+
+	@AuditedEntity
+	public static class AuditedThing {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
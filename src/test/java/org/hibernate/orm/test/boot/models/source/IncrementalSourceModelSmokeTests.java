@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+import org.hibernate.orm.test.boot.models.intermediate.inheritance.JoinedLeaf;
+import org.hibernate.orm.test.boot.models.intermediate.inheritance.JoinedRoot;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class IncrementalSourceModelSmokeTests {
+	@Test
+	void testRetain(ServiceRegistryScope scope) {
+		final ModelProcessingContextImpl previousContext = ModelProcessingContextImpl.detachable(
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ClassDetailsRegistry previousRegistry = previousContext.getClassDetailsRegistry();
+		final ClassDetails simpleDetails = previousRegistry.resolveClassDetails( SimpleEntity.class.getName() );
+		final ClassDetails rootDetails = previousRegistry.resolveClassDetails( JoinedRoot.class.getName() );
+		previousRegistry.resolveClassDetails( JoinedLeaf.class.getName() );
+		previousContext.freeze();
+
+		// changing the root affects the leaf as well, through its super type
+		final Set<String> affected = previousContext.resolveDependencies()
+				.collectAffected( Collections.singleton( JoinedRoot.class.getName() ) );
+		assertThat( affected ).contains( JoinedRoot.class.getName(), JoinedLeaf.class.getName() );
+		assertThat( affected ).doesNotContain( SimpleEntity.class.getName() );
+
+		// nothing was loaded through another ClassLoader
+		assertThat( previousContext.collectStaleClassNames( scope.getRegistry().getService( ClassLoaderService.class ) ) ).isEmpty();
+
+		final ModelProcessingContextImpl retainedContext = previousContext.retain( affected );
+		assertThat( retainedContext.isFrozen() ).isTrue();
+		// neither context references the previous boot
+		assertThatThrownBy( previousContext::getMetadataBuildingContext ).isInstanceOf( HibernateException.class );
+		assertThatThrownBy( retainedContext::getMetadataBuildingContext ).isInstanceOf( HibernateException.class );
+		assertThat( retainedContext.getClassDetailsRegistry().findClassDetails( SimpleEntity.class.getName() ) ).isSameAs( simpleDetails );
+		assertThat( retainedContext.getClassDetailsRegistry().findClassDetails( JoinedRoot.class.getName() ) ).isNull();
+		assertThat( retainedContext.getClassDetailsRegistry().findClassDetails( JoinedLeaf.class.getName() ) ).isNull();
+		assertThat( retainedContext.getAnnotatedClasses( JpaAnnotations.ENTITY ) ).containsExactly( simpleDetails );
+
+		// the next boot reuses the unaffected ClassDetails and rebuilds the others
+		final ModelProcessingContextImpl nextContext = new ModelProcessingContextImpl(
+				retainedContext,
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ClassDetailsRegistry nextRegistry = nextContext.getClassDetailsRegistry();
+		assertThat( nextRegistry.resolveClassDetails( SimpleEntity.class.getName() ) ).isSameAs( simpleDetails );
+		final ClassDetails rebuiltRootDetails = nextRegistry.resolveClassDetails( JoinedRoot.class.getName() );
+		assertThat( rebuiltRootDetails ).isNotSameAs( rootDetails );
+		assertThat( nextRegistry.resolveClassDetails( JoinedLeaf.class.getName() ).getSuperType() ).isSameAs( rebuiltRootDetails );
+	}
+
+	@Test
+	void testStaleClassLoader(ServiceRegistryScope scope) throws IOException {
+		final ModelProcessingContextImpl previousContext = ModelProcessingContextImpl.detachable(
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		// SimpleEntity as loaded by a ClassLoader which the next boot no longer uses
+		final Class<?> isolatedClass = new IsolatingClassLoader().isolate( SimpleEntity.class );
+		assertThat( isolatedClass ).isNotSameAs( SimpleEntity.class );
+		ClassDetailsBuilderImpl.buildClassDetails( isolatedClass, previousContext );
+		previousContext.getClassDetailsRegistry().resolveClassDetails( JoinedRoot.class.getName() );
+		previousContext.freeze();
+
+		final Set<String> staleClassNames = previousContext.collectStaleClassNames(
+				scope.getRegistry().getService( ClassLoaderService.class )
+		);
+		assertThat( staleClassNames ).contains( SimpleEntity.class.getName() );
+		assertThat( staleClassNames ).doesNotContain( JoinedRoot.class.getName() );
+	}
+
+	@Test
+	void testRetainedLazyResolution(ServiceRegistryScope scope) {
+		final ModelProcessingContextImpl previousContext = ModelProcessingContextImpl.detachable(
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		// not a managed type, so its members are not completed when freezing
+		final ClassDetails holderDetails = previousContext.getClassDetailsRegistry().resolveClassDetails( Holder.class.getName() );
+		previousContext.freeze();
+
+		final ModelProcessingContextImpl retainedContext = previousContext.retain( Collections.emptySet() );
+		final ModelProcessingContextImpl nextContext = new ModelProcessingContextImpl(
+				retainedContext,
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		assertThat( nextContext.getClassDetailsRegistry().resolveClassDetails( Holder.class.getName() ) ).isSameAs( holderDetails );
+
+		// resolved lazily through the next boot's context
+		final ClassDetails detailType = holderDetails.getFields().get( 0 ).getType();
+		assertThat( detailType.getName() ).isEqualTo( Detail.class.getName() );
+		assertThat( detailType.toJavaClass() ).isSameAs( Detail.class );
+		assertThat( nextContext.getClassDetailsRegistry().findClassDetails( Detail.class.getName() ) ).isSameAs( detailType );
+	}
+
+	private static class Holder {
+		private Detail detail;
+	}
+
+	private static class Detail {
+	}
+
+	/**
+	 * Defines its own copy of a class, rather than delegating to the parent
+	 */
+	private static class IsolatingClassLoader extends ClassLoader {
+		private IsolatingClassLoader() {
+			super( IncrementalSourceModelSmokeTests.class.getClassLoader() );
+		}
+
+		private Class<?> isolate(Class<?> type) throws IOException {
+			try ( InputStream stream = type.getResourceAsStream( "/" + type.getName().replace( '.', '/' ) + ".class" ) ) {
+				final byte[] bytes = stream.readAllBytes();
+				return defineClass( type.getName(), bytes, 0, bytes.length );
+			}
+		}
+	}
+}
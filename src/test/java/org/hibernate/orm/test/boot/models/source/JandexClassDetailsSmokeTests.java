@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.io.IOException;
+
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.jandex.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.internal.jandex.ClassDetailsImpl;
+import org.hibernate.boot.models.source.spi.AnnotationUsage;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.orm.test.boot.models.CustomAnnotation;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class JandexClassDetailsSmokeTests {
+	@Test
+	void testSimpleEntity(ServiceRegistryScope scope) throws IOException {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final ClassDetailsBuilderImpl classDetailsBuilder = new ClassDetailsBuilderImpl(
+				Index.of( SimpleEntity.class, CustomAnnotation.class )
+		);
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().resolveClassDetails(
+				SimpleEntity.class.getName(),
+				classDetailsBuilder
+		);
+		assertThat( classDetails ).isInstanceOf( ClassDetailsImpl.class );
+		assertThat( classDetails.getSuperType() ).isNull();
+
+		final AnnotationUsage<Entity> entityAnnotation = classDetails.getAnnotation( JpaAnnotations.ENTITY );
+		assertThat( entityAnnotation.getAttributeValue( "name" ).asString() ).isEqualTo( "SimpleColumnEntity" );
+		assertThat( classDetails.getRepeatedAnnotations( JpaAnnotations.NAMED_QUERY ) ).hasSize( 2 );
+
+		assertThat( classDetails.getFields() ).hasSize( 3 );
+		final FieldDetails nameField = classDetails.getFields().get( 1 );
+		assertThat( nameField.getName() ).isEqualTo( "name" );
+		assertThat( nameField.getType().getClassName() ).isEqualTo( String.class.getName() );
+
+		final AnnotationUsage<Column> nameColumn = nameField.getAnnotation( JpaAnnotations.COLUMN );
+		assertThat( nameColumn.getAttributeValue( "name" ).asString() ).isEqualTo( "description" );
+		assertThat( nameColumn.getAttributeValue( "table" ).asString() ).isNull();
+		assertThat( nameColumn.getAttributeValue( "nullable" ).asBoolean() ).isFalse();
+		assertThat( nameColumn.getAttributeValue( "updatable" ).asBoolean() ).isTrue();
+	}
+}
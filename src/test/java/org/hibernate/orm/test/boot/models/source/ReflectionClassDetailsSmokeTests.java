@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.models.source.UnknownManagedClassException;
+import org.hibernate.boot.models.source.internal.ClassDetailsRegistryImpl;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.ClassDetailsRegistry;
+import org.hibernate.boot.models.source.spi.ClassMemberTable;
+import org.hibernate.boot.models.source.spi.FieldDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.models.source.spi.MethodDetails;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class ReflectionClassDetailsSmokeTests {
+	@Test
+	void testDeclaredMembers(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().resolveClassDetails(
+				SimpleEntity.class.getName(),
+				ClassDetailsBuilderImpl.INSTANCE
+		);
+		assertThat( classDetails ).isInstanceOf( ClassDetailsImpl.class );
+
+		// private fields are included, inherited methods (Object#toString, e.g.) are not
+		assertThat( classDetails.getFields() ).extracting( FieldDetails::getName ).containsExactlyInAnyOrder( "id", "name", "name2" );
+		assertThat( classDetails.getMethods() ).extracting( MethodDetails::getName ).doesNotContain( "toString", "hashCode" );
+
+		final ClassMemberTable memberTable = classDetails.getMemberTable();
+		assertThat( classDetails.getMemberTable() ).isSameAs( memberTable );
+		assertThat( memberTable.getPersistableFields() ).hasSize( 3 );
+		assertThat( memberTable.getPersistableMethods() ).extracting( MethodDetails::getName ).containsExactlyInAnyOrder( "getId", "getName" );
+		assertThat( memberTable.getNonPersistableMethods() ).extracting( MethodDetails::getName ).contains( "setName" );
+	}
+
+	@Test
+	void testLifecycleCallbacks(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final ClassDetails classDetails = processingContext.getClassDetailsRegistry().resolveClassDetails(
+				AuditListener.class.getName(),
+				ClassDetailsBuilderImpl.INSTANCE
+		);
+
+		final ClassMemberTable memberTable = classDetails.getMemberTable();
+		assertThat( memberTable.hasLifecycleCallbacks() ).isTrue();
+		assertThat( memberTable.getLifecycleCallback( JpaAnnotations.PRE_PERSIST ).getName() ).isEqualTo( "stamp" );
+		assertThat( memberTable.getLifecycleCallback( JpaAnnotations.PRE_UPDATE ).getName() ).isEqualTo( "stamp" );
+		assertThat( memberTable.getLifecycleCallback( JpaAnnotations.POST_LOAD ).getName() ).isEqualTo( "loaded" );
+		assertThat( memberTable.getLifecycleCallback( JpaAnnotations.POST_REMOVE ) ).isNull();
+	}
+
+	@Test
+	void testStandardTypesOnDemand(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final ClassDetailsRegistryImpl classDetailsRegistry = (ClassDetailsRegistryImpl) processingContext.getClassDetailsRegistry();
+
+		// nothing is registered up front
+		final List<String> registered = new ArrayList<>();
+		classDetailsRegistry.forEachLocalRegistration( (name, classDetails) -> registered.add( name ) );
+		assertThat( registered ).doesNotContain( Integer.class.getName(), Map.class.getName() );
+
+		// but standard types are always found, built through reflection on first access
+		final ClassDetails integerDetails = classDetailsRegistry.getClassDetails( Integer.class.getName() );
+		assertThat( integerDetails ).isInstanceOf( ClassDetailsImpl.class );
+		assertThat( classDetailsRegistry.findClassDetails( Integer.class.getName() ) ).isSameAs( integerDetails );
+		assertThat( classDetailsRegistry.findClassDetails( Map.class.getName() ) ).isNotNull();
+
+		// other types still need to be resolved
+		assertThat( classDetailsRegistry.findClassDetails( SimpleEntity.class.getName() ) ).isNull();
+		assertThatThrownBy( () -> classDetailsRegistry.getClassDetails( SimpleEntity.class.getName() ) )
+				.isInstanceOf( UnknownManagedClassException.class );
+	}
+
+	@Test
+	void testBatchResolution(ServiceRegistryScope scope) {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+
+		final ForkJoinPool forkJoinPool = new ForkJoinPool( 2 );
+		try {
+			final List<ClassDetails> resolved = processingContext.getClassDetailsRegistry().resolveClassDetails(
+					List.of( Circle.class.getName(), Square.class.getName(), Circle.class.getName() ),
+					ClassDetailsBuilderImpl.INSTANCE,
+					forkJoinPool
+			);
+
+			// de-duplicated, in order
+			assertThat( resolved ).extracting( ClassDetails::getName )
+					.containsExactly( Circle.class.getName(), Square.class.getName() );
+			// the shared super type is resolved just once
+			assertThat( resolved.get( 0 ).getSuperType() ).isSameAs( resolved.get( 1 ).getSuperType() );
+			assertThat( resolved.get( 0 ).getSuperType().getName() ).isEqualTo( Shape.class.getName() );
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@Test
+	void testConcurrentResolution(ServiceRegistryScope scope) throws Exception {
+		final MetadataBuildingContextTestingImpl buildingContext = new MetadataBuildingContextTestingImpl( scope.getRegistry() );
+		final ModelProcessingContextImpl processingContext = new ModelProcessingContextImpl( buildingContext );
+		final ClassDetailsRegistry classDetailsRegistry = processingContext.getClassDetailsRegistry();
+
+		final List<String> names = List.of( Circle.class.getName(), Square.class.getName(), Shape.class.getName() );
+		final ForkJoinPool forkJoinPool = new ForkJoinPool( 8 );
+		try {
+			// many tasks resolving the same hierarchy, starting from different classes
+			final List<ForkJoinTask<List<ClassDetails>>> tasks = new ArrayList<>();
+			for ( int i = 0; i < 64; i++ ) {
+				final int offset = i;
+				tasks.add( forkJoinPool.submit( () -> {
+					final List<ClassDetails> resolved = new ArrayList<>();
+					for ( int n = 0; n < names.size(); n++ ) {
+						final String name = names.get( ( offset + n ) % names.size() );
+						resolved.add( classDetailsRegistry.resolveClassDetails( name, ClassDetailsBuilderImpl.INSTANCE ) );
+					}
+					return resolved;
+				} ) );
+			}
+
+			final Map<String, ClassDetails> instances = new HashMap<>();
+			for ( ForkJoinTask<List<ClassDetails>> task : tasks ) {
+				// a deadlock shows up as a timeout
+				for ( ClassDetails classDetails : task.get( 30, TimeUnit.SECONDS ) ) {
+					final ClassDetails first = instances.putIfAbsent( classDetails.getName(), classDetails );
+					// a single instance per name
+					assertThat( first == null || first == classDetails ).isTrue();
+				}
+			}
+
+			assertThat( instances ).hasSize( 3 );
+			assertThat( instances.get( Circle.class.getName() ).getSuperType() ).isSameAs( instances.get( Shape.class.getName() ) );
+			assertThat( instances.get( Square.class.getName() ).getSuperType() ).isSameAs( instances.get( Shape.class.getName() ) );
+		}
+		finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	public static abstract class Shape {
+	}
+
+	public static class Circle extends Shape {
+	}
+
+	public static class Square extends Shape {
+	}
+
+	public static class AuditListener {
+		@PrePersist
+		@PreUpdate
+		void stamp(Object entity) {
+		}
+
+		@PostLoad
+		void loaded(Object entity) {
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.boot.models.source;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.models.source.internal.ClassDetailsRegistryImpl;
+import org.hibernate.boot.models.source.internal.ModelProcessingContextImpl;
+import org.hibernate.boot.models.source.internal.dynamic.ClassDetailsImpl;
+import org.hibernate.boot.models.source.internal.reflection.ClassDetailsBuilderImpl;
+import org.hibernate.boot.models.source.spi.ClassDetails;
+import org.hibernate.boot.models.source.spi.JpaAnnotations;
+import org.hibernate.boot.models.source.spi.MethodDetails;
+import org.hibernate.orm.test.boot.models.SimpleEntity;
+
+import org.hibernate.testing.boot.MetadataBuildingContextTestingImpl;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @author Steve Ebersole
+ */
+@ServiceRegistry
+public class SharedSourceModelSmokeTests {
+	@Test
+	void testOverlay(ServiceRegistryScope scope) {
+		final ModelProcessingContextImpl sharedContext = new ModelProcessingContextImpl(
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ClassDetails sharedDetails = sharedContext.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() );
+		sharedContext.freeze();
+		assertThat( sharedContext.isFrozen() ).isTrue();
+
+		final ModelProcessingContextImpl tenant1 = new ModelProcessingContextImpl(
+				sharedContext,
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ModelProcessingContextImpl tenant2 = new ModelProcessingContextImpl(
+				sharedContext,
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+
+		// the shared ClassDetails (and their usages) are visible through both
+		assertThat( tenant1.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() ) ).isSameAs( sharedDetails );
+		assertThat( tenant2.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() ) ).isSameAs( sharedDetails );
+		assertThat( tenant1.getAllUsages( JpaAnnotations.ENTITY ) ).hasSize( 1 );
+
+		// while local additions are not
+		final ClassDetailsImpl dynamic = new ClassDetailsImpl( "TenantEntity", null, null, tenant1 );
+		assertThat( tenant1.getClassDetailsRegistry().findClassDetails( "TenantEntity" ) ).isSameAs( dynamic );
+		assertThat( tenant2.getClassDetailsRegistry().findClassDetails( "TenantEntity" ) ).isNull();
+		assertThat( sharedContext.getClassDetailsRegistry().findClassDetails( "TenantEntity" ) ).isNull();
+	}
+
+	@Test
+	void testFreezeResolvesAttributeTypesOnly(ServiceRegistryScope scope) {
+		final ModelProcessingContextImpl sharedContext = new ModelProcessingContextImpl(
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ClassDetails classDetails = sharedContext.getClassDetailsRegistry().resolveClassDetails(
+				Thing.class.getName(),
+				ClassDetailsBuilderImpl.INSTANCE
+		);
+		final MethodDetails toStringMethod = classDetails.getMethods().stream()
+				.filter( (method) -> method.getName().equals( "toString" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( registeredNames( sharedContext ) ).doesNotContain( String.class.getName() );
+
+		sharedContext.freeze();
+
+		// the type of the id attribute is resolved, the return type of `#toString` is not
+		assertThat( registeredNames( sharedContext ) )
+				.contains( Integer.class.getName() )
+				.doesNotContain( String.class.getName() );
+		assertThat( toStringMethod.getTypeName() ).isEqualTo( String.class.getName() );
+	}
+
+	@Test
+	void testFrozenContext(ServiceRegistryScope scope) {
+		final ModelProcessingContextImpl sharedContext = ModelProcessingContextImpl.detachable(
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		final ClassDetails ownerDetails = sharedContext.getClassDetailsRegistry().resolveClassDetails( Owner.class.getName() );
+		sharedContext.freeze();
+
+		// the associated entity, and the types of its attributes, were completed as well
+		final ClassDetails ownedDetails = sharedContext.getClassDetailsRegistry().findClassDetails( Owned.class.getName() );
+		assertThat( ownedDetails ).isNotNull();
+		assertThat( registeredNames( sharedContext ) ).contains( String.class.getName() );
+		assertThat( ownerDetails.toJavaClass() ).isSameAs( Owner.class );
+		assertThat( ownedDetails.toJavaClass() ).isSameAs( Owned.class );
+
+		// nothing can be added to the frozen registry
+		assertThatThrownBy( () -> new ClassDetailsImpl( "NewEntity", null, null, sharedContext ) )
+				.isInstanceOf( HibernateException.class );
+		assertThatThrownBy( () -> sharedContext.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() ) )
+				.isInstanceOf( HibernateException.class );
+		assertThat( sharedContext.getClassDetailsRegistry().resolveClassDetails( Owner.class.getName() ) ).isSameAs( ownerDetails );
+
+		// and the context no longer references the boot which built it
+		assertThatThrownBy( sharedContext::getMetadataBuildingContext ).isInstanceOf( HibernateException.class );
+
+		// while contexts layered over it work as usual
+		final ModelProcessingContextImpl tenant = new ModelProcessingContextImpl(
+				sharedContext,
+				null,
+				new MetadataBuildingContextTestingImpl( scope.getRegistry() )
+		);
+		assertThat( tenant.getClassDetailsRegistry().resolveClassDetails( Owner.class.getName() ) ).isSameAs( ownerDetails );
+		assertThat( tenant.getClassDetailsRegistry().resolveClassDetails( SimpleEntity.class.getName() ) ).isNotNull();
+		assertThat( sharedContext.getClassDetailsRegistry().findClassDetails( SimpleEntity.class.getName() ) ).isNull();
+	}
+
+	private static Set<String> registeredNames(ModelProcessingContextImpl processingContext) {
+		final Set<String> names = new HashSet<>();
+		( (ClassDetailsRegistryImpl) processingContext.getClassDetailsRegistry() )
+				.forEachRegistration( (name, classDetails) -> names.add( name ) );
+		return names;
+	}
+
+	@Entity( name = "Thing" )
+	public static class Thing {
+		@Id
+		private Integer id;
+
+		@Override
+		public String toString() {
+			return "Thing(" + id + ")";
+		}
+	}
+
+	@Entity( name = "Owner" )
+	public static class Owner {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Owned owned;
+	}
+
+	@Entity( name = "Owned" )
+	public static class Owned {
+		@Id
+		private Integer id;
+		private String label;
+	}
+}